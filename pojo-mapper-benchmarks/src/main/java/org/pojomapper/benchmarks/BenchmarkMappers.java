@@ -0,0 +1,26 @@
+package org.pojomapper.benchmarks;
+
+import org.pojomapper.benchmarks.model.Domain;
+import org.pojomapper.benchmarks.model.Dto;
+import org.pojomapper.benchmarks.model.WideDto;
+import org.pojomapper.benchmarks.model.WideEntity;
+import org.pojomapper.processor.Copy;
+import org.pojomapper.processor.Mapper;
+import org.pojomapper.processor.Mapping;
+
+/**
+ * Build-time generated counterparts of the {@link CopierBenchmark} mappings.
+ */
+@Mapper
+public interface BenchmarkMappers {
+
+	@Copy(ignore = { "dateDomain", "notMatchedProp3", "notMatchedProp4", "notMatchedProp5", "notMatchedProp6" })
+	Dto toDto(Domain from, Dto to);
+
+	@Copy(ignore = { "dateDomain", "notMatchedProp3", "notMatchedProp4" }, mapper = {
+			@Mapping(from = "nestedProp.prop1", to = "notMatchedProp5"),
+			@Mapping(from = "nestedProp.child.prop1", to = "notMatchedProp6") })
+	Dto nested(Domain from, Dto to);
+
+	WideDto toWideDto(WideEntity from, WideDto to);
+}
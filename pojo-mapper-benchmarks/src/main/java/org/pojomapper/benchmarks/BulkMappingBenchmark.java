@@ -0,0 +1,68 @@
+package org.pojomapper.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.benchmarks.model.Domain;
+import org.pojomapper.benchmarks.model.Dto;
+import org.pojomapper.copier.MappingSpec;
+
+/**
+ * Collection mapping: a {@code copyTo} per element against {@link MappingSpec#mapAll} and
+ * {@link MappingSpec#mapAllParallel}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkMappingBenchmark {
+
+	private static final MappingSpec<Domain, Dto> SPEC = PojoMapper.spec(Domain.class, Dto.class).build();
+
+	@Param({ "100000" })
+	public int size;
+
+	private List<Domain> domains;
+
+	@Setup
+	public void setUp() {
+		domains = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			domains.add(Fixtures.domain());
+		}
+	}
+
+	@Benchmark
+	public List<Dto> copyToPerElement() {
+		List<Dto> dtos = new ArrayList<>();
+		for (Domain domain : domains) {
+			dtos.add(PojoMapper.copyTo(new Dto()).from(domain).copy());
+		}
+		return dtos;
+	}
+
+	@Benchmark
+	public List<Dto> mapAll() {
+		return SPEC.mapAll(domains, Dto::new);
+	}
+
+	@Benchmark
+	public List<Dto> mapAllParallel() {
+		return SPEC.mapAllParallel(domains, Dto::new);
+	}
+}
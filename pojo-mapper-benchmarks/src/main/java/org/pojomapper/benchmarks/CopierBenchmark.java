@@ -0,0 +1,118 @@
+package org.pojomapper.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.benchmarks.model.Domain;
+import org.pojomapper.benchmarks.model.Dto;
+import org.pojomapper.benchmarks.model.Enrichment;
+import org.pojomapper.benchmarks.model.WideDto;
+import org.pojomapper.benchmarks.model.WideEntity;
+
+/**
+ * {@code PojoMapper.copyTo(...).from(...).copy()} hot path with generated property accessors,
+ * {@link ReflectiveCopierBenchmark} runs the same benchmarks with reflective ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopierBenchmark {
+
+	private static final Function<Object, Object> DATE_TO_STRING = value -> value instanceof LocalDate
+			? value.toString()
+			: value;
+	// a typical client selection of a wide bean
+	private static final Set<String> WIDE_FIELDS = new HashSet<>(
+			Arrays.asList("prop0", "prop1", "prop2", "prop3", "prop4", "prop10", "prop20", "prop30"));
+
+	private Domain domain;
+	private Dto dto;
+	private Enrichment enrichment;
+	private WideEntity wideEntity;
+	private Map<String, Object> domainMap;
+
+	@Setup
+	public void setUp() {
+		domain = Fixtures.domain();
+		dto = Fixtures.dto();
+		enrichment = Fixtures.enrichment();
+		wideEntity = Fixtures.wideEntity();
+		domainMap = PojoMapper.toMap(domain);
+	}
+
+	@Benchmark
+	public Dto domainToDto() {
+		return PojoMapper.copyTo(new Dto()).from(domain).copy();
+	}
+
+	@Benchmark
+	public Domain dtoToDomain() {
+		return PojoMapper.copyTo(new Domain()).from(dto).copy();
+	}
+
+	@Benchmark
+	public WideDto wideBean() {
+		return PojoMapper.copyTo(new WideDto()).from(wideEntity).copy();
+	}
+
+	@Benchmark
+	public WideDto wideBeanProjection() {
+		return PojoMapper.copyTo(new WideDto()).from(wideEntity).fields(WIDE_FIELDS).copy();
+	}
+
+	@Benchmark
+	public Dto nestedPaths() {
+		return PojoMapper.copyTo(new Dto()).from(domain).mapper("nestedProp.prop1", "notMatchedProp5")
+				.mapper("nestedProp.child.prop1", "notMatchedProp6").copy();
+	}
+
+	@Benchmark
+	public Map<String, Object> domainToMap() {
+		return PojoMapper.toMap(domain);
+	}
+
+	@Benchmark
+	public Domain mapToDomain() {
+		return PojoMapper.copyTo(new Domain()).from(domainMap).copy();
+	}
+
+	@Benchmark
+	public Dto multipleSources() {
+		return PojoMapper.copyTo(new Dto()).from(domain).from(enrichment).rewrite(false).copy();
+	}
+
+	@Benchmark
+	public Dto enumConversion() {
+		return PojoMapper.copyTo(new Dto()).from(domain).ignore("extraProp", "dateDomain").copy();
+	}
+
+	@Benchmark
+	public Dto converter() {
+		return PojoMapper.copyTo(new Dto()).from(domain).converter(DATE_TO_STRING).copy();
+	}
+
+	@Benchmark
+	public Dto typedConverter() {
+		return PojoMapper.copyTo(new Dto()).from(domain).converter(LocalDate.class, String.class, LocalDate::toString)
+				.copy();
+	}
+}
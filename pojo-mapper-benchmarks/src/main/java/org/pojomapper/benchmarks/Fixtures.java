@@ -0,0 +1,83 @@
+package org.pojomapper.benchmarks;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.pojomapper.benchmarks.model.Domain;
+import org.pojomapper.benchmarks.model.Dto;
+import org.pojomapper.benchmarks.model.Enrichment;
+import org.pojomapper.benchmarks.model.WideEntity;
+
+/**
+ * Populated source beans shared by the benchmarks.
+ */
+final class Fixtures {
+
+	private Fixtures() {
+	}
+
+	static Domain domain() {
+		Domain.NestedProp child = new Domain.NestedProp();
+		child.setProp1("child");
+		Domain.NestedProp nested = new Domain.NestedProp();
+		nested.setProp1("nested");
+		nested.setChild(child);
+
+		Domain domain = new Domain();
+		domain.setExtraProp("extra");
+		domain.setEnumProp(Domain.Status.SECOND);
+		domain.setNotMatchedProp1("notMatched1");
+		domain.setNotMatchedProp2("notMatched2");
+		domain.setNestedProp(nested);
+		domain.setDateDomain(LocalDate.of(2020, 2, 29));
+		return domain;
+	}
+
+	static Dto dto() {
+		Dto dto = new Dto();
+		dto.setExtraProp("extra");
+		dto.setEnumProp(Domain.Status.FIRST.name());
+		dto.setNotMatchedProp3("notMatched3");
+		dto.setNotMatchedProp4("notMatched4");
+		return dto;
+	}
+
+	static Enrichment enrichment() {
+		Enrichment enrichment = new Enrichment();
+		enrichment.setExtraProp("enriched");
+		enrichment.setNotMatchedProp4("notMatched4");
+		return enrichment;
+	}
+
+	static WideEntity wideEntity() {
+		WideEntity entity = new WideEntity();
+		try {
+			// filled reflectively by parameter type to keep the library under test out of the fixture
+			for (Method method : WideEntity.class.getMethods()) {
+				if (method.getName().startsWith("setProp")) {
+					int index = Integer.parseInt(method.getName().substring("setProp".length()));
+					method.invoke(entity, value(method.getParameterTypes()[0], index));
+				}
+			}
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+		return entity;
+	}
+
+	private static Object value(Class<?> type, int index) {
+		if (type == String.class) {
+			return "value" + index;
+		} else if (type == int.class || type == Integer.class) {
+			return index;
+		} else if (type == long.class || type == Long.class) {
+			return index * 1_000_003L;
+		} else if (type == double.class) {
+			return index * 1.5d;
+		} else if (type == boolean.class) {
+			return index % 3 == 0;
+		}
+		return BigDecimal.valueOf(index, 2);
+	}
+}
@@ -0,0 +1,64 @@
+package org.pojomapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pojomapper.benchmarks.model.Domain;
+import org.pojomapper.benchmarks.model.Dto;
+import org.pojomapper.benchmarks.model.WideDto;
+import org.pojomapper.benchmarks.model.WideEntity;
+
+/**
+ * Baselines for {@link CopierBenchmark}: the annotation processor generated mapper and a hand-written copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedMapperBenchmark {
+
+	private final BenchmarkMappers mappers = new BenchmarkMappersImpl();
+
+	private Domain domain;
+	private WideEntity wideEntity;
+
+	@Setup
+	public void setUp() {
+		domain = Fixtures.domain();
+		wideEntity = Fixtures.wideEntity();
+	}
+
+	@Benchmark
+	public Dto generatedDomainToDto() {
+		return mappers.toDto(domain, new Dto());
+	}
+
+	@Benchmark
+	public Dto generatedNestedPaths() {
+		return mappers.nested(domain, new Dto());
+	}
+
+	@Benchmark
+	public WideDto generatedWideBean() {
+		return mappers.toWideDto(wideEntity, new WideDto());
+	}
+
+	@Benchmark
+	public Dto handWrittenDomainToDto() {
+		Dto dto = new Dto();
+		dto.setExtraProp(domain.getExtraProp());
+		dto.setEnumProp(domain.getEnumProp() != null ? domain.getEnumProp().toString() : null);
+		return dto;
+	}
+}
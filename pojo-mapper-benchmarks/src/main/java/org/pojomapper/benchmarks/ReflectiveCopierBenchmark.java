@@ -0,0 +1,11 @@
+package org.pojomapper.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link CopierBenchmark} with reflective property accessors. The switch is read once when the accessor factory is
+ * initialized, so it is passed to the fork on the command line rather than set from a {@code @Setup} method.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Dorg.pojomapper.lambdaAccessors=false")
+public class ReflectiveCopierBenchmark extends CopierBenchmark {
+}
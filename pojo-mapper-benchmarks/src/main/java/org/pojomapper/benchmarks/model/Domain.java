@@ -0,0 +1,90 @@
+package org.pojomapper.benchmarks.model;
+
+import java.time.LocalDate;
+
+/**
+ * Same shape as the {@code Domain} bean of {@code PojoMapperTest}.
+ */
+public class Domain {
+
+	private String extraProp;
+	private Status enumProp;
+	private String notMatchedProp1;
+	private String notMatchedProp2;
+	private NestedProp nestedProp;
+	private LocalDate dateDomain;
+
+	public String getExtraProp() {
+		return extraProp;
+	}
+
+	public void setExtraProp(String extraProp) {
+		this.extraProp = extraProp;
+	}
+
+	public Status getEnumProp() {
+		return enumProp;
+	}
+
+	public void setEnumProp(Status enumProp) {
+		this.enumProp = enumProp;
+	}
+
+	public String getNotMatchedProp1() {
+		return notMatchedProp1;
+	}
+
+	public void setNotMatchedProp1(String notMatchedProp1) {
+		this.notMatchedProp1 = notMatchedProp1;
+	}
+
+	public String getNotMatchedProp2() {
+		return notMatchedProp2;
+	}
+
+	public void setNotMatchedProp2(String notMatchedProp2) {
+		this.notMatchedProp2 = notMatchedProp2;
+	}
+
+	public NestedProp getNestedProp() {
+		return nestedProp;
+	}
+
+	public void setNestedProp(NestedProp nestedProp) {
+		this.nestedProp = nestedProp;
+	}
+
+	public LocalDate getDateDomain() {
+		return dateDomain;
+	}
+
+	public void setDateDomain(LocalDate dateDomain) {
+		this.dateDomain = dateDomain;
+	}
+
+	public enum Status {
+		FIRST, SECOND
+	}
+
+	public static class NestedProp {
+
+		private String prop1;
+		private NestedProp child;
+
+		public String getProp1() {
+			return prop1;
+		}
+
+		public void setProp1(String prop1) {
+			this.prop1 = prop1;
+		}
+
+		public NestedProp getChild() {
+			return child;
+		}
+
+		public void setChild(NestedProp child) {
+			this.child = child;
+		}
+	}
+}
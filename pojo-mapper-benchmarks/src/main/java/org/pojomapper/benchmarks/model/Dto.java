@@ -0,0 +1,71 @@
+package org.pojomapper.benchmarks.model;
+
+/**
+ * Same shape as the {@code Dto} bean of {@code PojoMapperTest}.
+ */
+public class Dto {
+
+	private String extraProp;
+	private String enumProp;
+	private String notMatchedProp3;
+	private String notMatchedProp4;
+	private String notMatchedProp5;
+	private String notMatchedProp6;
+	private String dateDomain;
+
+	public String getExtraProp() {
+		return extraProp;
+	}
+
+	public void setExtraProp(String extraProp) {
+		this.extraProp = extraProp;
+	}
+
+	public String getEnumProp() {
+		return enumProp;
+	}
+
+	public void setEnumProp(String enumProp) {
+		this.enumProp = enumProp;
+	}
+
+	public String getNotMatchedProp3() {
+		return notMatchedProp3;
+	}
+
+	public void setNotMatchedProp3(String notMatchedProp3) {
+		this.notMatchedProp3 = notMatchedProp3;
+	}
+
+	public String getNotMatchedProp4() {
+		return notMatchedProp4;
+	}
+
+	public void setNotMatchedProp4(String notMatchedProp4) {
+		this.notMatchedProp4 = notMatchedProp4;
+	}
+
+	public String getNotMatchedProp5() {
+		return notMatchedProp5;
+	}
+
+	public void setNotMatchedProp5(String notMatchedProp5) {
+		this.notMatchedProp5 = notMatchedProp5;
+	}
+
+	public String getNotMatchedProp6() {
+		return notMatchedProp6;
+	}
+
+	public void setNotMatchedProp6(String notMatchedProp6) {
+		this.notMatchedProp6 = notMatchedProp6;
+	}
+
+	public String getDateDomain() {
+		return dateDomain;
+	}
+
+	public void setDateDomain(String dateDomain) {
+		this.dateDomain = dateDomain;
+	}
+}
@@ -0,0 +1,26 @@
+package org.pojomapper.benchmarks.model;
+
+/**
+ * Partial second source of the multiple sources benchmark.
+ */
+public class Enrichment {
+
+	private String notMatchedProp4;
+	private String extraProp;
+
+	public String getNotMatchedProp4() {
+		return notMatchedProp4;
+	}
+
+	public void setNotMatchedProp4(String notMatchedProp4) {
+		this.notMatchedProp4 = notMatchedProp4;
+	}
+
+	public String getExtraProp() {
+		return extraProp;
+	}
+
+	public void setExtraProp(String extraProp) {
+		this.extraProp = extraProp;
+	}
+}
@@ -0,0 +1,1090 @@
+package org.pojomapper.benchmarks.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Source side of the wide bean benchmarks: 120 properties of mixed types.
+ */
+public class WideEntity {
+
+	private String prop0;
+	private int prop1;
+	private long prop2;
+	private double prop3;
+	private Integer prop4;
+	private Long prop5;
+	private boolean prop6;
+	private BigDecimal prop7;
+	private String prop8;
+	private int prop9;
+	private long prop10;
+	private double prop11;
+	private Integer prop12;
+	private Long prop13;
+	private boolean prop14;
+	private BigDecimal prop15;
+	private String prop16;
+	private int prop17;
+	private long prop18;
+	private double prop19;
+	private Integer prop20;
+	private Long prop21;
+	private boolean prop22;
+	private BigDecimal prop23;
+	private String prop24;
+	private int prop25;
+	private long prop26;
+	private double prop27;
+	private Integer prop28;
+	private Long prop29;
+	private boolean prop30;
+	private BigDecimal prop31;
+	private String prop32;
+	private int prop33;
+	private long prop34;
+	private double prop35;
+	private Integer prop36;
+	private Long prop37;
+	private boolean prop38;
+	private BigDecimal prop39;
+	private String prop40;
+	private int prop41;
+	private long prop42;
+	private double prop43;
+	private Integer prop44;
+	private Long prop45;
+	private boolean prop46;
+	private BigDecimal prop47;
+	private String prop48;
+	private int prop49;
+	private long prop50;
+	private double prop51;
+	private Integer prop52;
+	private Long prop53;
+	private boolean prop54;
+	private BigDecimal prop55;
+	private String prop56;
+	private int prop57;
+	private long prop58;
+	private double prop59;
+	private Integer prop60;
+	private Long prop61;
+	private boolean prop62;
+	private BigDecimal prop63;
+	private String prop64;
+	private int prop65;
+	private long prop66;
+	private double prop67;
+	private Integer prop68;
+	private Long prop69;
+	private boolean prop70;
+	private BigDecimal prop71;
+	private String prop72;
+	private int prop73;
+	private long prop74;
+	private double prop75;
+	private Integer prop76;
+	private Long prop77;
+	private boolean prop78;
+	private BigDecimal prop79;
+	private String prop80;
+	private int prop81;
+	private long prop82;
+	private double prop83;
+	private Integer prop84;
+	private Long prop85;
+	private boolean prop86;
+	private BigDecimal prop87;
+	private String prop88;
+	private int prop89;
+	private long prop90;
+	private double prop91;
+	private Integer prop92;
+	private Long prop93;
+	private boolean prop94;
+	private BigDecimal prop95;
+	private String prop96;
+	private int prop97;
+	private long prop98;
+	private double prop99;
+	private Integer prop100;
+	private Long prop101;
+	private boolean prop102;
+	private BigDecimal prop103;
+	private String prop104;
+	private int prop105;
+	private long prop106;
+	private double prop107;
+	private Integer prop108;
+	private Long prop109;
+	private boolean prop110;
+	private BigDecimal prop111;
+	private String prop112;
+	private int prop113;
+	private long prop114;
+	private double prop115;
+	private Integer prop116;
+	private Long prop117;
+	private boolean prop118;
+	private BigDecimal prop119;
+
+	public String getProp0() {
+		return prop0;
+	}
+
+	public void setProp0(String prop0) {
+		this.prop0 = prop0;
+	}
+
+	public int getProp1() {
+		return prop1;
+	}
+
+	public void setProp1(int prop1) {
+		this.prop1 = prop1;
+	}
+
+	public long getProp2() {
+		return prop2;
+	}
+
+	public void setProp2(long prop2) {
+		this.prop2 = prop2;
+	}
+
+	public double getProp3() {
+		return prop3;
+	}
+
+	public void setProp3(double prop3) {
+		this.prop3 = prop3;
+	}
+
+	public Integer getProp4() {
+		return prop4;
+	}
+
+	public void setProp4(Integer prop4) {
+		this.prop4 = prop4;
+	}
+
+	public Long getProp5() {
+		return prop5;
+	}
+
+	public void setProp5(Long prop5) {
+		this.prop5 = prop5;
+	}
+
+	public boolean isProp6() {
+		return prop6;
+	}
+
+	public void setProp6(boolean prop6) {
+		this.prop6 = prop6;
+	}
+
+	public BigDecimal getProp7() {
+		return prop7;
+	}
+
+	public void setProp7(BigDecimal prop7) {
+		this.prop7 = prop7;
+	}
+
+	public String getProp8() {
+		return prop8;
+	}
+
+	public void setProp8(String prop8) {
+		this.prop8 = prop8;
+	}
+
+	public int getProp9() {
+		return prop9;
+	}
+
+	public void setProp9(int prop9) {
+		this.prop9 = prop9;
+	}
+
+	public long getProp10() {
+		return prop10;
+	}
+
+	public void setProp10(long prop10) {
+		this.prop10 = prop10;
+	}
+
+	public double getProp11() {
+		return prop11;
+	}
+
+	public void setProp11(double prop11) {
+		this.prop11 = prop11;
+	}
+
+	public Integer getProp12() {
+		return prop12;
+	}
+
+	public void setProp12(Integer prop12) {
+		this.prop12 = prop12;
+	}
+
+	public Long getProp13() {
+		return prop13;
+	}
+
+	public void setProp13(Long prop13) {
+		this.prop13 = prop13;
+	}
+
+	public boolean isProp14() {
+		return prop14;
+	}
+
+	public void setProp14(boolean prop14) {
+		this.prop14 = prop14;
+	}
+
+	public BigDecimal getProp15() {
+		return prop15;
+	}
+
+	public void setProp15(BigDecimal prop15) {
+		this.prop15 = prop15;
+	}
+
+	public String getProp16() {
+		return prop16;
+	}
+
+	public void setProp16(String prop16) {
+		this.prop16 = prop16;
+	}
+
+	public int getProp17() {
+		return prop17;
+	}
+
+	public void setProp17(int prop17) {
+		this.prop17 = prop17;
+	}
+
+	public long getProp18() {
+		return prop18;
+	}
+
+	public void setProp18(long prop18) {
+		this.prop18 = prop18;
+	}
+
+	public double getProp19() {
+		return prop19;
+	}
+
+	public void setProp19(double prop19) {
+		this.prop19 = prop19;
+	}
+
+	public Integer getProp20() {
+		return prop20;
+	}
+
+	public void setProp20(Integer prop20) {
+		this.prop20 = prop20;
+	}
+
+	public Long getProp21() {
+		return prop21;
+	}
+
+	public void setProp21(Long prop21) {
+		this.prop21 = prop21;
+	}
+
+	public boolean isProp22() {
+		return prop22;
+	}
+
+	public void setProp22(boolean prop22) {
+		this.prop22 = prop22;
+	}
+
+	public BigDecimal getProp23() {
+		return prop23;
+	}
+
+	public void setProp23(BigDecimal prop23) {
+		this.prop23 = prop23;
+	}
+
+	public String getProp24() {
+		return prop24;
+	}
+
+	public void setProp24(String prop24) {
+		this.prop24 = prop24;
+	}
+
+	public int getProp25() {
+		return prop25;
+	}
+
+	public void setProp25(int prop25) {
+		this.prop25 = prop25;
+	}
+
+	public long getProp26() {
+		return prop26;
+	}
+
+	public void setProp26(long prop26) {
+		this.prop26 = prop26;
+	}
+
+	public double getProp27() {
+		return prop27;
+	}
+
+	public void setProp27(double prop27) {
+		this.prop27 = prop27;
+	}
+
+	public Integer getProp28() {
+		return prop28;
+	}
+
+	public void setProp28(Integer prop28) {
+		this.prop28 = prop28;
+	}
+
+	public Long getProp29() {
+		return prop29;
+	}
+
+	public void setProp29(Long prop29) {
+		this.prop29 = prop29;
+	}
+
+	public boolean isProp30() {
+		return prop30;
+	}
+
+	public void setProp30(boolean prop30) {
+		this.prop30 = prop30;
+	}
+
+	public BigDecimal getProp31() {
+		return prop31;
+	}
+
+	public void setProp31(BigDecimal prop31) {
+		this.prop31 = prop31;
+	}
+
+	public String getProp32() {
+		return prop32;
+	}
+
+	public void setProp32(String prop32) {
+		this.prop32 = prop32;
+	}
+
+	public int getProp33() {
+		return prop33;
+	}
+
+	public void setProp33(int prop33) {
+		this.prop33 = prop33;
+	}
+
+	public long getProp34() {
+		return prop34;
+	}
+
+	public void setProp34(long prop34) {
+		this.prop34 = prop34;
+	}
+
+	public double getProp35() {
+		return prop35;
+	}
+
+	public void setProp35(double prop35) {
+		this.prop35 = prop35;
+	}
+
+	public Integer getProp36() {
+		return prop36;
+	}
+
+	public void setProp36(Integer prop36) {
+		this.prop36 = prop36;
+	}
+
+	public Long getProp37() {
+		return prop37;
+	}
+
+	public void setProp37(Long prop37) {
+		this.prop37 = prop37;
+	}
+
+	public boolean isProp38() {
+		return prop38;
+	}
+
+	public void setProp38(boolean prop38) {
+		this.prop38 = prop38;
+	}
+
+	public BigDecimal getProp39() {
+		return prop39;
+	}
+
+	public void setProp39(BigDecimal prop39) {
+		this.prop39 = prop39;
+	}
+
+	public String getProp40() {
+		return prop40;
+	}
+
+	public void setProp40(String prop40) {
+		this.prop40 = prop40;
+	}
+
+	public int getProp41() {
+		return prop41;
+	}
+
+	public void setProp41(int prop41) {
+		this.prop41 = prop41;
+	}
+
+	public long getProp42() {
+		return prop42;
+	}
+
+	public void setProp42(long prop42) {
+		this.prop42 = prop42;
+	}
+
+	public double getProp43() {
+		return prop43;
+	}
+
+	public void setProp43(double prop43) {
+		this.prop43 = prop43;
+	}
+
+	public Integer getProp44() {
+		return prop44;
+	}
+
+	public void setProp44(Integer prop44) {
+		this.prop44 = prop44;
+	}
+
+	public Long getProp45() {
+		return prop45;
+	}
+
+	public void setProp45(Long prop45) {
+		this.prop45 = prop45;
+	}
+
+	public boolean isProp46() {
+		return prop46;
+	}
+
+	public void setProp46(boolean prop46) {
+		this.prop46 = prop46;
+	}
+
+	public BigDecimal getProp47() {
+		return prop47;
+	}
+
+	public void setProp47(BigDecimal prop47) {
+		this.prop47 = prop47;
+	}
+
+	public String getProp48() {
+		return prop48;
+	}
+
+	public void setProp48(String prop48) {
+		this.prop48 = prop48;
+	}
+
+	public int getProp49() {
+		return prop49;
+	}
+
+	public void setProp49(int prop49) {
+		this.prop49 = prop49;
+	}
+
+	public long getProp50() {
+		return prop50;
+	}
+
+	public void setProp50(long prop50) {
+		this.prop50 = prop50;
+	}
+
+	public double getProp51() {
+		return prop51;
+	}
+
+	public void setProp51(double prop51) {
+		this.prop51 = prop51;
+	}
+
+	public Integer getProp52() {
+		return prop52;
+	}
+
+	public void setProp52(Integer prop52) {
+		this.prop52 = prop52;
+	}
+
+	public Long getProp53() {
+		return prop53;
+	}
+
+	public void setProp53(Long prop53) {
+		this.prop53 = prop53;
+	}
+
+	public boolean isProp54() {
+		return prop54;
+	}
+
+	public void setProp54(boolean prop54) {
+		this.prop54 = prop54;
+	}
+
+	public BigDecimal getProp55() {
+		return prop55;
+	}
+
+	public void setProp55(BigDecimal prop55) {
+		this.prop55 = prop55;
+	}
+
+	public String getProp56() {
+		return prop56;
+	}
+
+	public void setProp56(String prop56) {
+		this.prop56 = prop56;
+	}
+
+	public int getProp57() {
+		return prop57;
+	}
+
+	public void setProp57(int prop57) {
+		this.prop57 = prop57;
+	}
+
+	public long getProp58() {
+		return prop58;
+	}
+
+	public void setProp58(long prop58) {
+		this.prop58 = prop58;
+	}
+
+	public double getProp59() {
+		return prop59;
+	}
+
+	public void setProp59(double prop59) {
+		this.prop59 = prop59;
+	}
+
+	public Integer getProp60() {
+		return prop60;
+	}
+
+	public void setProp60(Integer prop60) {
+		this.prop60 = prop60;
+	}
+
+	public Long getProp61() {
+		return prop61;
+	}
+
+	public void setProp61(Long prop61) {
+		this.prop61 = prop61;
+	}
+
+	public boolean isProp62() {
+		return prop62;
+	}
+
+	public void setProp62(boolean prop62) {
+		this.prop62 = prop62;
+	}
+
+	public BigDecimal getProp63() {
+		return prop63;
+	}
+
+	public void setProp63(BigDecimal prop63) {
+		this.prop63 = prop63;
+	}
+
+	public String getProp64() {
+		return prop64;
+	}
+
+	public void setProp64(String prop64) {
+		this.prop64 = prop64;
+	}
+
+	public int getProp65() {
+		return prop65;
+	}
+
+	public void setProp65(int prop65) {
+		this.prop65 = prop65;
+	}
+
+	public long getProp66() {
+		return prop66;
+	}
+
+	public void setProp66(long prop66) {
+		this.prop66 = prop66;
+	}
+
+	public double getProp67() {
+		return prop67;
+	}
+
+	public void setProp67(double prop67) {
+		this.prop67 = prop67;
+	}
+
+	public Integer getProp68() {
+		return prop68;
+	}
+
+	public void setProp68(Integer prop68) {
+		this.prop68 = prop68;
+	}
+
+	public Long getProp69() {
+		return prop69;
+	}
+
+	public void setProp69(Long prop69) {
+		this.prop69 = prop69;
+	}
+
+	public boolean isProp70() {
+		return prop70;
+	}
+
+	public void setProp70(boolean prop70) {
+		this.prop70 = prop70;
+	}
+
+	public BigDecimal getProp71() {
+		return prop71;
+	}
+
+	public void setProp71(BigDecimal prop71) {
+		this.prop71 = prop71;
+	}
+
+	public String getProp72() {
+		return prop72;
+	}
+
+	public void setProp72(String prop72) {
+		this.prop72 = prop72;
+	}
+
+	public int getProp73() {
+		return prop73;
+	}
+
+	public void setProp73(int prop73) {
+		this.prop73 = prop73;
+	}
+
+	public long getProp74() {
+		return prop74;
+	}
+
+	public void setProp74(long prop74) {
+		this.prop74 = prop74;
+	}
+
+	public double getProp75() {
+		return prop75;
+	}
+
+	public void setProp75(double prop75) {
+		this.prop75 = prop75;
+	}
+
+	public Integer getProp76() {
+		return prop76;
+	}
+
+	public void setProp76(Integer prop76) {
+		this.prop76 = prop76;
+	}
+
+	public Long getProp77() {
+		return prop77;
+	}
+
+	public void setProp77(Long prop77) {
+		this.prop77 = prop77;
+	}
+
+	public boolean isProp78() {
+		return prop78;
+	}
+
+	public void setProp78(boolean prop78) {
+		this.prop78 = prop78;
+	}
+
+	public BigDecimal getProp79() {
+		return prop79;
+	}
+
+	public void setProp79(BigDecimal prop79) {
+		this.prop79 = prop79;
+	}
+
+	public String getProp80() {
+		return prop80;
+	}
+
+	public void setProp80(String prop80) {
+		this.prop80 = prop80;
+	}
+
+	public int getProp81() {
+		return prop81;
+	}
+
+	public void setProp81(int prop81) {
+		this.prop81 = prop81;
+	}
+
+	public long getProp82() {
+		return prop82;
+	}
+
+	public void setProp82(long prop82) {
+		this.prop82 = prop82;
+	}
+
+	public double getProp83() {
+		return prop83;
+	}
+
+	public void setProp83(double prop83) {
+		this.prop83 = prop83;
+	}
+
+	public Integer getProp84() {
+		return prop84;
+	}
+
+	public void setProp84(Integer prop84) {
+		this.prop84 = prop84;
+	}
+
+	public Long getProp85() {
+		return prop85;
+	}
+
+	public void setProp85(Long prop85) {
+		this.prop85 = prop85;
+	}
+
+	public boolean isProp86() {
+		return prop86;
+	}
+
+	public void setProp86(boolean prop86) {
+		this.prop86 = prop86;
+	}
+
+	public BigDecimal getProp87() {
+		return prop87;
+	}
+
+	public void setProp87(BigDecimal prop87) {
+		this.prop87 = prop87;
+	}
+
+	public String getProp88() {
+		return prop88;
+	}
+
+	public void setProp88(String prop88) {
+		this.prop88 = prop88;
+	}
+
+	public int getProp89() {
+		return prop89;
+	}
+
+	public void setProp89(int prop89) {
+		this.prop89 = prop89;
+	}
+
+	public long getProp90() {
+		return prop90;
+	}
+
+	public void setProp90(long prop90) {
+		this.prop90 = prop90;
+	}
+
+	public double getProp91() {
+		return prop91;
+	}
+
+	public void setProp91(double prop91) {
+		this.prop91 = prop91;
+	}
+
+	public Integer getProp92() {
+		return prop92;
+	}
+
+	public void setProp92(Integer prop92) {
+		this.prop92 = prop92;
+	}
+
+	public Long getProp93() {
+		return prop93;
+	}
+
+	public void setProp93(Long prop93) {
+		this.prop93 = prop93;
+	}
+
+	public boolean isProp94() {
+		return prop94;
+	}
+
+	public void setProp94(boolean prop94) {
+		this.prop94 = prop94;
+	}
+
+	public BigDecimal getProp95() {
+		return prop95;
+	}
+
+	public void setProp95(BigDecimal prop95) {
+		this.prop95 = prop95;
+	}
+
+	public String getProp96() {
+		return prop96;
+	}
+
+	public void setProp96(String prop96) {
+		this.prop96 = prop96;
+	}
+
+	public int getProp97() {
+		return prop97;
+	}
+
+	public void setProp97(int prop97) {
+		this.prop97 = prop97;
+	}
+
+	public long getProp98() {
+		return prop98;
+	}
+
+	public void setProp98(long prop98) {
+		this.prop98 = prop98;
+	}
+
+	public double getProp99() {
+		return prop99;
+	}
+
+	public void setProp99(double prop99) {
+		this.prop99 = prop99;
+	}
+
+	public Integer getProp100() {
+		return prop100;
+	}
+
+	public void setProp100(Integer prop100) {
+		this.prop100 = prop100;
+	}
+
+	public Long getProp101() {
+		return prop101;
+	}
+
+	public void setProp101(Long prop101) {
+		this.prop101 = prop101;
+	}
+
+	public boolean isProp102() {
+		return prop102;
+	}
+
+	public void setProp102(boolean prop102) {
+		this.prop102 = prop102;
+	}
+
+	public BigDecimal getProp103() {
+		return prop103;
+	}
+
+	public void setProp103(BigDecimal prop103) {
+		this.prop103 = prop103;
+	}
+
+	public String getProp104() {
+		return prop104;
+	}
+
+	public void setProp104(String prop104) {
+		this.prop104 = prop104;
+	}
+
+	public int getProp105() {
+		return prop105;
+	}
+
+	public void setProp105(int prop105) {
+		this.prop105 = prop105;
+	}
+
+	public long getProp106() {
+		return prop106;
+	}
+
+	public void setProp106(long prop106) {
+		this.prop106 = prop106;
+	}
+
+	public double getProp107() {
+		return prop107;
+	}
+
+	public void setProp107(double prop107) {
+		this.prop107 = prop107;
+	}
+
+	public Integer getProp108() {
+		return prop108;
+	}
+
+	public void setProp108(Integer prop108) {
+		this.prop108 = prop108;
+	}
+
+	public Long getProp109() {
+		return prop109;
+	}
+
+	public void setProp109(Long prop109) {
+		this.prop109 = prop109;
+	}
+
+	public boolean isProp110() {
+		return prop110;
+	}
+
+	public void setProp110(boolean prop110) {
+		this.prop110 = prop110;
+	}
+
+	public BigDecimal getProp111() {
+		return prop111;
+	}
+
+	public void setProp111(BigDecimal prop111) {
+		this.prop111 = prop111;
+	}
+
+	public String getProp112() {
+		return prop112;
+	}
+
+	public void setProp112(String prop112) {
+		this.prop112 = prop112;
+	}
+
+	public int getProp113() {
+		return prop113;
+	}
+
+	public void setProp113(int prop113) {
+		this.prop113 = prop113;
+	}
+
+	public long getProp114() {
+		return prop114;
+	}
+
+	public void setProp114(long prop114) {
+		this.prop114 = prop114;
+	}
+
+	public double getProp115() {
+		return prop115;
+	}
+
+	public void setProp115(double prop115) {
+		this.prop115 = prop115;
+	}
+
+	public Integer getProp116() {
+		return prop116;
+	}
+
+	public void setProp116(Integer prop116) {
+		this.prop116 = prop116;
+	}
+
+	public Long getProp117() {
+		return prop117;
+	}
+
+	public void setProp117(Long prop117) {
+		this.prop117 = prop117;
+	}
+
+	public boolean isProp118() {
+		return prop118;
+	}
+
+	public void setProp118(boolean prop118) {
+		this.prop118 = prop118;
+	}
+
+	public BigDecimal getProp119() {
+		return prop119;
+	}
+
+	public void setProp119(BigDecimal prop119) {
+		this.prop119 = prop119;
+	}
+}
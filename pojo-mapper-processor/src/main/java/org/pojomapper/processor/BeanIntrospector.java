@@ -0,0 +1,104 @@
+package org.pojomapper.processor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Finds JavaBeans properties of a type following the {@link java.beans.Introspector} naming rules.
+ */
+final class BeanIntrospector {
+
+	private final Types types;
+	private final Elements elements;
+	private final Map<String, Map<String, BeanProperty>> cache = new HashMap<>();
+
+	BeanIntrospector(Types types, Elements elements) {
+		this.types = types;
+		this.elements = elements;
+	}
+
+	/**
+	 * @return properties by name in alphabetical order, empty for non-declared types
+	 */
+	Map<String, BeanProperty> properties(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) {
+			return Collections.emptyMap();
+		}
+		return cache.computeIfAbsent(type.toString(), key -> introspect((DeclaredType) type));
+	}
+
+	private Map<String, BeanProperty> introspect(DeclaredType type) {
+		Map<String, TypeMirror> propertyTypes = new TreeMap<>();
+		Map<String, String> getters = new HashMap<>();
+		Map<String, String> setters = new HashMap<>();
+		Map<String, TypeMirror> setterTypes = new HashMap<>();
+
+		TypeElement element = (TypeElement) type.asElement();
+		for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(element))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+				continue;
+			}
+			ExecutableType methodType = (ExecutableType) types.asMemberOf(type, method);
+			String name = method.getSimpleName().toString();
+			TypeMirror returnType = methodType.getReturnType();
+			int params = methodType.getParameterTypes().size();
+
+			if (params == 0 && name.startsWith("get") && name.length() > 3 && returnType.getKind() != TypeKind.VOID) {
+				String property = decapitalize(name.substring(3));
+				getters.putIfAbsent(property, name);
+				propertyTypes.putIfAbsent(property, returnType);
+			} else if (params == 0 && name.startsWith("is") && name.length() > 2
+					&& returnType.getKind() == TypeKind.BOOLEAN) {
+				String property = decapitalize(name.substring(2));
+				getters.put(property, name);
+				propertyTypes.put(property, returnType);
+			} else if (params == 1 && name.startsWith("set") && name.length() > 3
+					&& returnType.getKind() == TypeKind.VOID) {
+				String property = decapitalize(name.substring(3));
+				setters.putIfAbsent(property, name);
+				setterTypes.putIfAbsent(property, methodType.getParameterTypes().get(0));
+			}
+		}
+		for (Map.Entry<String, TypeMirror> entry : setterTypes.entrySet()) {
+			propertyTypes.putIfAbsent(entry.getKey(), entry.getValue());
+		}
+
+		Map<String, BeanProperty> properties = new TreeMap<>();
+		for (Map.Entry<String, TypeMirror> entry : propertyTypes.entrySet()) {
+			String property = entry.getKey();
+			TypeMirror propertyType = entry.getValue();
+			String setter = setters.get(property);
+			if (Objects.nonNull(setter) && !types.isSameType(setterTypes.get(property), propertyType)) {
+				setter = null;
+			}
+			properties.put(property, new BeanProperty(property, propertyType, getters.get(property), setter));
+		}
+		return Collections.unmodifiableMap(properties);
+	}
+
+	/**
+	 * Same as {@link java.beans.Introspector#decapitalize(String)}.
+	 */
+	static String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+}
@@ -0,0 +1,43 @@
+package org.pojomapper.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Compile-time view of a JavaBeans property.
+ */
+final class BeanProperty {
+
+	private final String name;
+	private final TypeMirror type;
+	private final String getter;
+	private final String setter;
+
+	BeanProperty(String name, TypeMirror type, String getter, String setter) {
+		this.name = name;
+		this.type = type;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	String name() {
+		return name;
+	}
+
+	TypeMirror type() {
+		return type;
+	}
+
+	/**
+	 * @return read method name or {@code null}
+	 */
+	String getter() {
+		return getter;
+	}
+
+	/**
+	 * @return write method name or {@code null}
+	 */
+	String setter() {
+		return setter;
+	}
+}
@@ -0,0 +1,25 @@
+package org.pojomapper.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Compile-time counterpart of the {@code Copier} options of a single source.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Copy {
+
+	/**
+	 * Same as {@code Copier.mapper(from, to)}: the pairs are applied in both directions, dotted paths are supported.
+	 */
+	Mapping[] mapper() default {};
+
+	String[] ignore() default {};
+
+	boolean rewrite() default true;
+
+	boolean skipNulls() default false;
+}
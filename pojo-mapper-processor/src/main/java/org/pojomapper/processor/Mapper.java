@@ -0,0 +1,23 @@
+package org.pojomapper.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface whose abstract methods are implemented at build time by {@link MapperProcessor}. The generated
+ * class is named after the interface with an {@code Impl} suffix.
+ * <p>
+ * Supported method shapes are {@code T copy(S from, T to)}, {@code void copy(S from, T to)} and {@code T copy(S from)}
+ * where {@code T} has a public no-arg constructor. Each method is configured with {@link Copy}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Mapper {
+
+	/**
+	 * Fail the build instead of warning when a writable target property is not mapped from the source.
+	 */
+	boolean failOnUnmapped() default false;
+}
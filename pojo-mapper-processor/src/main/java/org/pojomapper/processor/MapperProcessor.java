@@ -0,0 +1,38 @@
+package org.pojomapper.processor;
+
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates plain Java implementations of {@link Mapper} interfaces: no reflection at runtime, unmapped and unknown
+ * properties are reported while compiling.
+ */
+@SupportedAnnotationTypes("org.pojomapper.processor.Mapper")
+public class MapperProcessor extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(Mapper.class)) {
+			if (element.getKind() != ElementKind.INTERFACE) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@Mapper is only supported on interfaces",
+						element);
+				continue;
+			}
+			new MapperWriter(processingEnv, (TypeElement) element).write();
+		}
+		return true;
+	}
+}
@@ -0,0 +1,391 @@
+package org.pojomapper.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Writes the implementation of a single {@link Mapper} interface. Properties are copied in the order {@code Copier}
+ * uses: matched properties, mapper entries, inverse mapper entries.
+ */
+final class MapperWriter {
+
+	private enum Conversion {
+		ASSIGN, ENUM_TO_STRING, STRING_TO_ENUM
+	}
+
+	private enum Result {
+		COPIED, IGNORED, ABSENT, INCOMPATIBLE
+	}
+
+	private final ProcessingEnvironment env;
+	private final Types types;
+	private final Elements elements;
+	private final BeanIntrospector introspector;
+	private final TypeElement mapper;
+	private final boolean failOnUnmapped;
+	private final TypeMirror stringType;
+	private boolean failed;
+
+	MapperWriter(ProcessingEnvironment env, TypeElement mapper) {
+		this.env = env;
+		this.types = env.getTypeUtils();
+		this.elements = env.getElementUtils();
+		this.introspector = new BeanIntrospector(types, elements);
+		this.mapper = mapper;
+		this.failOnUnmapped = mapper.getAnnotation(Mapper.class).failOnUnmapped();
+		this.stringType = elements.getTypeElement(String.class.getName()).asType();
+	}
+
+	void write() {
+		String packageName = elements.getPackageOf(mapper).getQualifiedName().toString();
+		String binaryName = elements.getBinaryName(mapper).toString();
+		String className = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+				.replace('$', '_') + "Impl";
+
+		StringBuilder out = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			out.append("package ").append(packageName).append(";\n\n");
+		}
+		out.append("@javax.annotation.processing.Generated(\"").append(MapperProcessor.class.getName()).append("\")\n");
+		out.append("public class ").append(className).append(" implements ").append(mapper.getQualifiedName())
+				.append(" {\n");
+		for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(mapper))) {
+			if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+				writeMethod(method, out);
+			}
+		}
+		out.append("}\n");
+
+		if (failed) {
+			return;
+		}
+		String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+		try (Writer writer = env.getFiler().createSourceFile(qualifiedName, mapper).openWriter()) {
+			writer.write(out.toString());
+		} catch (IOException e) {
+			error("Can't write " + qualifiedName + ": " + e.getMessage(), mapper);
+		}
+	}
+
+	private void writeMethod(ExecutableElement method, StringBuilder out) {
+		ExecutableType methodType = (ExecutableType) types.asMemberOf((DeclaredType) mapper.asType(), method);
+		List<? extends TypeMirror> params = methodType.getParameterTypes();
+		TypeMirror returnType = methodType.getReturnType();
+		boolean returnsVoid = returnType.getKind() == TypeKind.VOID;
+
+		TypeMirror source;
+		TypeMirror target;
+		if (params.size() == 2 && (returnsVoid || types.isAssignable(params.get(1), returnType))) {
+			source = params.get(0);
+			target = params.get(1);
+		} else if (params.size() == 1 && !returnsVoid) {
+			source = params.get(0);
+			target = returnType;
+			if (!isInstantiable(target)) {
+				error(target + " must be a class with a public no-arg constructor", method);
+				return;
+			}
+		} else {
+			error("Unsupported mapper method, expected T copy(S from, T to), void copy(S from, T to) or T copy(S from)",
+					method);
+			return;
+		}
+		if (!method.getTypeParameters().isEmpty() || source.getKind() != TypeKind.DECLARED
+				|| target.getKind() != TypeKind.DECLARED) {
+			error("Mapper methods must copy between non-generic bean types", method);
+			return;
+		}
+
+		out.append("\n\t@Override\n\tpublic ").append(returnType).append(' ').append(method.getSimpleName())
+				.append('(').append(source).append(" from");
+		if (params.size() == 2) {
+			out.append(", ").append(target).append(" to");
+		}
+		out.append(") {\n");
+		out.append("\t\tif (from == null").append(params.size() == 2 ? " || to == null" : "").append(") {\n");
+		out.append("\t\t\treturn").append(returnsVoid ? "" : " null").append(";\n\t\t}\n");
+		if (params.size() == 1) {
+			out.append("\t\t").append(target).append(" to = new ").append(target).append("();\n");
+		}
+
+		new MethodBody(method, source, target, out).write();
+
+		if (!returnsVoid) {
+			out.append("\t\treturn to;\n");
+		}
+		out.append("\t}\n");
+	}
+
+	private boolean isInstantiable(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+		TypeElement element = (TypeElement) types.asElement(type);
+		if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void error(String message, Element element) {
+		failed = true;
+		env.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+	private void warning(String message, Element element) {
+		env.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+	}
+
+	/**
+	 * Statements copying the properties of one mapper method.
+	 */
+	private final class MethodBody {
+
+		private final ExecutableElement method;
+		private final TypeMirror source;
+		private final TypeMirror target;
+		private final StringBuilder out;
+		private final Set<String> ignores = new HashSet<>();
+		private final Set<String> mapped = new HashSet<>();
+		private final boolean rewrite;
+		private final boolean skipNulls;
+		private final Mapping[] mappings;
+		private int values;
+
+		MethodBody(ExecutableElement method, TypeMirror source, TypeMirror target, StringBuilder out) {
+			this.method = method;
+			this.source = source;
+			this.target = target;
+			this.out = out;
+			Copy copy = method.getAnnotation(Copy.class);
+			this.rewrite = Objects.isNull(copy) || copy.rewrite();
+			this.skipNulls = Objects.nonNull(copy) && copy.skipNulls();
+			this.mappings = Objects.nonNull(copy) ? copy.mapper() : new Mapping[0];
+			this.ignores.add("class");
+			if (Objects.nonNull(copy)) {
+				ignores.addAll(Arrays.asList(copy.ignore()));
+			}
+		}
+
+		void write() {
+			Map<String, BeanProperty> targetProperties = introspector.properties(target);
+			for (BeanProperty property : introspector.properties(source).values()) {
+				if (Objects.nonNull(property.getter()) && targetProperties.containsKey(property.name())) {
+					copy(property.name(), property.name(), Diagnostic.Kind.WARNING);
+				}
+			}
+			Result[] forward = new Result[mappings.length];
+			for (int i = 0; i < mappings.length; i++) {
+				forward[i] = copy(mappings[i].from(), mappings[i].to(), Diagnostic.Kind.ERROR);
+			}
+			for (int i = 0; i < mappings.length; i++) {
+				Result inverse = copy(mappings[i].to(), mappings[i].from(), Diagnostic.Kind.ERROR);
+				if (forward[i] == Result.ABSENT && inverse == Result.ABSENT) {
+					error("Can't map " + mappings[i].from() + " to " + mappings[i].to() + " in either direction between "
+							+ source + " and " + target, method);
+				}
+			}
+
+			Set<String> unmapped = new TreeSet<>();
+			for (BeanProperty property : targetProperties.values()) {
+				if (Objects.nonNull(property.setter()) && !ignores.contains(property.name())
+						&& !mapped.contains(property.name())) {
+					unmapped.add(property.name());
+				}
+			}
+			if (!unmapped.isEmpty()) {
+				String message = "Unmapped target properties of " + target + ": " + String.join(", ", unmapped);
+				if (failOnUnmapped) {
+					error(message, method);
+				} else {
+					warning(message, method);
+				}
+			}
+		}
+
+		private Result copy(String fromPath, String toPath, Diagnostic.Kind incompatible) {
+			if (ignores.contains(fromPath) || ignores.contains(toPath)) {
+				return Result.IGNORED;
+			}
+			Read read = read(fromPath);
+			Write write = write(toPath);
+			if (Objects.isNull(read) || Objects.isNull(write)) {
+				return Result.ABSENT;
+			}
+			Conversion conversion = conversion(read.type, write.type);
+			if (Objects.isNull(conversion)) {
+				String message = "Can't map " + fromPath + " to " + toPath + ": " + read.type + " is not assignable to "
+						+ write.type;
+				if (incompatible == Diagnostic.Kind.ERROR) {
+					error(message, method);
+				} else {
+					warning(message, method);
+				}
+				return Result.INCOMPATIBLE;
+			}
+			mapped.add(toPath.split("\\.")[0]);
+
+			boolean targetPrimitive = write.type.getKind().isPrimitive();
+			if (!rewrite && Objects.nonNull(write.getter) && targetPrimitive) {
+				// a primitive target is never null, so it is never written without rewrite
+				return Result.COPIED;
+			}
+			String value = "value" + values++;
+			Set<String> conditions = new LinkedHashSet<>();
+			boolean sourcePrimitive = read.type.getKind().isPrimitive();
+			// enum conversions write null whatever skipNulls says, as the runtime copies do
+			if (skipNulls && !sourcePrimitive && conversion == Conversion.ASSIGN) {
+				conditions.add(value + " != null");
+			}
+			if (!rewrite && Objects.nonNull(write.getter)) {
+				conditions.add(write.bean + "." + write.getter + "() == null");
+			}
+			if (conversion == Conversion.ASSIGN && targetPrimitive && !sourcePrimitive) {
+				conditions.add(value + " != null");
+			}
+
+			String indent = "\t\t";
+			if (!read.guards.isEmpty() || !write.guards.isEmpty()) {
+				List<String> guards = new ArrayList<>(read.guards);
+				guards.addAll(write.guards);
+				out.append(indent).append("if (").append(String.join(" && ", guards)).append(") {\n");
+				indent += "\t";
+			}
+			out.append(indent).append(read.type).append(' ').append(value).append(" = ").append(read.expression)
+					.append(";\n");
+			if (!conditions.isEmpty()) {
+				out.append(indent).append("if (").append(String.join(" && ", conditions)).append(") {\n");
+				out.append(indent).append('\t');
+			} else {
+				out.append(indent);
+			}
+			out.append(write.bean).append('.').append(write.setter).append('(')
+					.append(convert(value, conversion, write.type)).append(");\n");
+			if (!conditions.isEmpty()) {
+				out.append(indent).append("}\n");
+			}
+			if (!read.guards.isEmpty() || !write.guards.isEmpty()) {
+				out.append("\t\t}\n");
+			}
+			return Result.COPIED;
+		}
+
+		private String convert(String value, Conversion conversion, TypeMirror targetType) {
+			switch (conversion) {
+			case ENUM_TO_STRING:
+				return value + " != null ? " + value + ".toString() : null";
+			case STRING_TO_ENUM:
+				return value + " != null ? " + types.erasure(targetType) + ".valueOf(" + value + ") : null";
+			default:
+				return value;
+			}
+		}
+
+		private Conversion conversion(TypeMirror from, TypeMirror to) {
+			if (isEnum(from) && types.isSameType(to, stringType)) {
+				return Conversion.ENUM_TO_STRING;
+			}
+			if (isEnum(to) && types.isSameType(from, stringType)) {
+				return Conversion.STRING_TO_ENUM;
+			}
+			return types.isAssignable(from, to) ? Conversion.ASSIGN : null;
+		}
+
+		private boolean isEnum(TypeMirror type) {
+			return type.getKind() == TypeKind.DECLARED && types.asElement(type).getKind() == ElementKind.ENUM;
+		}
+
+		private Read read(String path) {
+			Read read = new Read("from", source);
+			for (String name : path.split("\\.")) {
+				BeanProperty property = introspector.properties(read.type).get(name);
+				if (Objects.isNull(property) || Objects.isNull(property.getter())) {
+					return null;
+				}
+				if (!read.expression.equals("from")) {
+					read.guards.add(read.expression + " != null");
+				}
+				read.expression = read.expression + "." + property.getter() + "()";
+				read.type = property.type();
+			}
+			return read;
+		}
+
+		private Write write(String path) {
+			String[] names = path.split("\\.");
+			Write write = new Write("to", target);
+			for (int i = 0; i < names.length - 1; i++) {
+				BeanProperty property = introspector.properties(write.type).get(names[i]);
+				if (Objects.isNull(property) || Objects.isNull(property.getter())) {
+					return null;
+				}
+				write.bean = write.bean + "." + property.getter() + "()";
+				write.guards.add(write.bean + " != null");
+				write.type = property.type();
+			}
+			BeanProperty property = introspector.properties(write.type).get(names[names.length - 1]);
+			if (Objects.isNull(property) || Objects.isNull(property.setter())) {
+				return null;
+			}
+			write.setter = property.setter();
+			write.getter = property.getter();
+			write.type = property.type();
+			return write;
+		}
+	}
+
+	private static final class Read {
+
+		private String expression;
+		private TypeMirror type;
+		private final List<String> guards = new ArrayList<>();
+
+		Read(String expression, TypeMirror type) {
+			this.expression = expression;
+			this.type = type;
+		}
+	}
+
+	private static final class Write {
+
+		private String bean;
+		private TypeMirror type;
+		private String setter;
+		private String getter;
+		private final List<String> guards = new ArrayList<>();
+
+		Write(String bean, TypeMirror type) {
+			this.bean = bean;
+			this.type = type;
+		}
+	}
+}
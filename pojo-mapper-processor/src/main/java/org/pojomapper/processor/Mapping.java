@@ -0,0 +1,17 @@
+package org.pojomapper.processor;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A single {@link Copy#mapper()} entry.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({})
+public @interface Mapping {
+
+	String from();
+
+	String to();
+}
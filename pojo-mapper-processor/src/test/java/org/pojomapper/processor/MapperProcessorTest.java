@@ -0,0 +1,272 @@
+package org.pojomapper.processor;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MapperProcessorTest {
+
+	private static final String DOMAIN = "package sample;\n"
+			+ "public class Domain {\n"
+			+ "  public enum Status { FIRST, SECOND }\n"
+			+ "  public static class Nested {\n"
+			+ "    private String prop1;\n"
+			+ "    public String getProp1() { return prop1; }\n"
+			+ "    public void setProp1(String prop1) { this.prop1 = prop1; }\n"
+			+ "  }\n"
+			+ "  private String extraProp;\n"
+			+ "  private Status enumProp;\n"
+			+ "  private String notMatchedProp1;\n"
+			+ "  private Nested nestedProp;\n"
+			+ "  private int count;\n"
+			+ "  public String getExtraProp() { return extraProp; }\n"
+			+ "  public void setExtraProp(String extraProp) { this.extraProp = extraProp; }\n"
+			+ "  public Status getEnumProp() { return enumProp; }\n"
+			+ "  public void setEnumProp(Status enumProp) { this.enumProp = enumProp; }\n"
+			+ "  public String getNotMatchedProp1() { return notMatchedProp1; }\n"
+			+ "  public void setNotMatchedProp1(String notMatchedProp1) { this.notMatchedProp1 = notMatchedProp1; }\n"
+			+ "  public Nested getNestedProp() { return nestedProp; }\n"
+			+ "  public void setNestedProp(Nested nestedProp) { this.nestedProp = nestedProp; }\n"
+			+ "  public int getCount() { return count; }\n"
+			+ "  public void setCount(int count) { this.count = count; }\n"
+			+ "}\n";
+
+	private static final String DTO = "package sample;\n"
+			+ "public class Dto {\n"
+			+ "  private String extraProp;\n"
+			+ "  private String enumProp;\n"
+			+ "  private String notMatchedProp3;\n"
+			+ "  private String notMatchedProp5;\n"
+			+ "  private long count;\n"
+			+ "  public String getExtraProp() { return extraProp; }\n"
+			+ "  public void setExtraProp(String extraProp) { this.extraProp = extraProp; }\n"
+			+ "  public String getEnumProp() { return enumProp; }\n"
+			+ "  public void setEnumProp(String enumProp) { this.enumProp = enumProp; }\n"
+			+ "  public String getNotMatchedProp3() { return notMatchedProp3; }\n"
+			+ "  public void setNotMatchedProp3(String notMatchedProp3) { this.notMatchedProp3 = notMatchedProp3; }\n"
+			+ "  public String getNotMatchedProp5() { return notMatchedProp5; }\n"
+			+ "  public void setNotMatchedProp5(String notMatchedProp5) { this.notMatchedProp5 = notMatchedProp5; }\n"
+			+ "  public long getCount() { return count; }\n"
+			+ "  public void setCount(long count) { this.count = count; }\n"
+			+ "}\n";
+
+	private static final String MAPPER = "package sample;\n"
+			+ "import org.pojomapper.processor.*;\n"
+			+ "@Mapper\n"
+			+ "public interface DomainMapper {\n"
+			+ "  @Copy(mapper = { @Mapping(from = \"notMatchedProp1\", to = \"notMatchedProp3\"),\n"
+			+ "                   @Mapping(from = \"nestedProp.prop1\", to = \"notMatchedProp5\") })\n"
+			+ "  Dto toDto(Domain from, Dto to);\n"
+			+ "  @Copy(mapper = { @Mapping(from = \"notMatchedProp1\", to = \"notMatchedProp3\"),\n"
+			+ "                   @Mapping(from = \"nestedProp.prop1\", to = \"notMatchedProp5\") },\n"
+			+ "        ignore = \"count\")\n"
+			+ "  Domain toDomain(Dto from);\n"
+			+ "  @Copy(rewrite = false, skipNulls = true)\n"
+			+ "  void merge(Domain from, Dto to);\n"
+			+ "}\n";
+
+	@Test
+	public void generatedMapperCopiesProperties() throws Exception {
+		Compilation compilation = compile("sample.DomainMapper", MAPPER);
+		Assert.assertThat(compilation.errors(), equalTo(Collections.emptyList()));
+
+		Object mapper = compilation.newInstance("sample.DomainMapperImpl");
+		Object domain = compilation.newInstance("sample.Domain");
+		Object nested = compilation.newInstance("sample.Domain$Nested");
+		Class<?> status = compilation.load("sample.Domain$Status");
+		invoke(nested, "setProp1", "nested");
+		invoke(domain, "setNestedProp", nested);
+		invoke(domain, "setExtraProp", "extra");
+		invoke(domain, "setEnumProp", status.getEnumConstants()[1]);
+		invoke(domain, "setNotMatchedProp1", "notMatched");
+		invoke(domain, "setCount", 5);
+
+		Object dto = invoke(mapper, "toDto", domain, compilation.newInstance("sample.Dto"));
+
+		Assert.assertThat(invoke(dto, "getExtraProp"), equalTo("extra"));
+		Assert.assertThat(invoke(dto, "getEnumProp"), equalTo("SECOND"));
+		Assert.assertThat(invoke(dto, "getNotMatchedProp3"), equalTo("notMatched"));
+		Assert.assertThat(invoke(dto, "getNotMatchedProp5"), equalTo("nested"));
+		Assert.assertThat(invoke(dto, "getCount"), equalTo(5L));
+
+		Object copy = invoke(mapper, "toDomain", dto);
+
+		Assert.assertThat(invoke(copy, "getEnumProp"), equalTo(status.getEnumConstants()[1]));
+		Assert.assertThat(invoke(copy, "getNotMatchedProp1"), equalTo("notMatched"));
+		Assert.assertThat(invoke(copy, "getNestedProp"), nullValue());
+	}
+
+	@Test
+	public void generatedMapperSkipsNullsWithoutRewrite() throws Exception {
+		Compilation compilation = compile("sample.DomainMapper", MAPPER);
+		Object mapper = compilation.newInstance("sample.DomainMapperImpl");
+		Object domain = compilation.newInstance("sample.Domain");
+		Object dto = compilation.newInstance("sample.Dto");
+		invoke(domain, "setNotMatchedProp1", "ignored");
+		invoke(dto, "setExtraProp", "current");
+		invoke(dto, "setEnumProp", "current");
+
+		invoke(mapper, "merge", domain, dto);
+
+		Assert.assertThat(invoke(dto, "getExtraProp"), equalTo("current"));
+		Assert.assertThat(invoke(dto, "getEnumProp"), equalTo("current"));
+		Assert.assertThat(invoke(dto, "getCount"), equalTo(0L));
+	}
+
+	@Test
+	public void skipNullsWritesNullEnumsLikeTheRuntime() throws Exception {
+		String mapper = "package sample;\n"
+				+ "import org.pojomapper.processor.*;\n"
+				+ "@Mapper\n"
+				+ "public interface NullMapper {\n"
+				+ "  @Copy(skipNulls = true)\n"
+				+ "  void toDto(Domain from, Dto to);\n"
+				+ "  @Copy(skipNulls = true)\n"
+				+ "  void toDomain(Dto from, Domain to);\n"
+				+ "}\n";
+		Compilation compilation = compile("sample.NullMapper", mapper);
+		Object nullMapper = compilation.newInstance("sample.NullMapperImpl");
+		Class<?> status = compilation.load("sample.Domain$Status");
+		Object domain = compilation.newInstance("sample.Domain");
+		Object dto = compilation.newInstance("sample.Dto");
+		invoke(dto, "setExtraProp", "current");
+		invoke(dto, "setEnumProp", "current");
+
+		invoke(nullMapper, "toDto", domain, dto);
+
+		Assert.assertThat(invoke(dto, "getExtraProp"), equalTo("current"));
+		Assert.assertThat(invoke(dto, "getEnumProp"), nullValue());
+
+		invoke(domain, "setExtraProp", "current");
+		invoke(domain, "setEnumProp", status.getEnumConstants()[0]);
+		invoke(dto, "setExtraProp", (Object) null);
+
+		invoke(nullMapper, "toDomain", dto, domain);
+
+		Assert.assertThat(invoke(domain, "getExtraProp"), equalTo("current"));
+		Assert.assertThat(invoke(domain, "getEnumProp"), nullValue());
+	}
+
+	@Test
+	public void unmappedPropertiesAreReported() throws Exception {
+		String mapper = "package sample;\n"
+				+ "import org.pojomapper.processor.*;\n"
+				+ "@Mapper(failOnUnmapped = true)\n"
+				+ "public interface StrictMapper {\n"
+				+ "  Dto toDto(Domain from, Dto to);\n"
+				+ "}\n";
+
+		Compilation compilation = compile("sample.StrictMapper", mapper);
+
+		Assert.assertThat(compilation.errors().toString(), containsString("notMatchedProp3, notMatchedProp5"));
+	}
+
+	@Test
+	public void unknownMapperEntryIsReported() throws Exception {
+		String mapper = "package sample;\n"
+				+ "import org.pojomapper.processor.*;\n"
+				+ "@Mapper\n"
+				+ "public interface BrokenMapper {\n"
+				+ "  @Copy(mapper = @Mapping(from = \"notExisting\", to = \"notMatchedProp3\"))\n"
+				+ "  Dto toDto(Domain from, Dto to);\n"
+				+ "}\n";
+
+		Compilation compilation = compile("sample.BrokenMapper", mapper);
+
+		Assert.assertThat(compilation.errors().toString(), containsString("notExisting"));
+	}
+
+	private static Object invoke(Object target, String name, Object... args) throws Exception {
+		for (java.lang.reflect.Method method : target.getClass().getMethods()) {
+			if (method.getName().equals(name) && method.getParameterCount() == args.length) {
+				return method.invoke(target, args);
+			}
+		}
+		throw new NoSuchMethodException(name);
+	}
+
+	private static Compilation compile(String mapperName, String mapper) throws IOException {
+		return compile(new Source("sample.Domain", DOMAIN), new Source("sample.Dto", DTO), new Source(mapperName, mapper));
+	}
+
+	private static Compilation compile(Source... sources) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		File output = Files.createTempDirectory("pojo-mapper-processor").toFile();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output));
+			fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output));
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+					Arrays.asList("-classpath", System.getProperty("java.class.path")), null, Arrays.asList(sources));
+			task.setProcessors(Collections.singletonList(new MapperProcessor()));
+			task.call();
+		}
+		return new Compilation(output, diagnostics);
+	}
+
+	private static final class Compilation {
+
+		private final ClassLoader classLoader;
+		private final List<String> errors = new ArrayList<>();
+
+		Compilation(File output, DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+			this.classLoader = new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader());
+			for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+				if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+					errors.add(diagnostic.getMessage(Locale.ROOT));
+				}
+			}
+		}
+
+		List<String> errors() {
+			return errors;
+		}
+
+		Class<?> load(String name) throws ClassNotFoundException {
+			return classLoader.loadClass(name);
+		}
+
+		Object newInstance(String name) throws Exception {
+			return load(name).getConstructor().newInstance();
+		}
+	}
+
+	private static final class Source extends SimpleJavaFileObject {
+
+		private final String code;
+
+		Source(String className, String code) {
+			super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.code = code;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return code;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package org.pojomapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.pojomapper.copier.Copier;
+import org.pojomapper.copier.MappingRegistry;
+import org.pojomapper.copier.MappingSpec;
+import org.pojomapper.copier.MappingSpecBuilder;
+import org.pojomapper.copier.accessor.AccessorCache;
+import org.pojomapper.copier.accessor.TargetFactory;
+import org.pojomapper.copier.plan.CreationPlan;
+import org.pojomapper.copier.plan.MappingContext;
+import org.pojomapper.copier.plan.MappingOptions;
+import org.pojomapper.copier.plan.MappingPlanCache;
+import org.pojomapper.copier.plan.MappingPlanKey;
+import org.pojomapper.copier.plan.ViewPlan;
+
+public final class PojoMapper {
+
+	private static final Set<String> DEFAULT_IGNORES = Collections.singleton("class");
+
+	public static <T> Copier<T> copyTo(T to) {
+		return new Copier<>(to);
+	}
+
+	/**
+	 * Creates a {@code targetClass} instance from the properties of {@code source}: a bean through its no-arg
+	 * constructor and setters, a record through its canonical constructor, other immutable classes through a builder or
+	 * a constructor with named parameters. Constructor and builder arguments are collected first and passed in one
+	 * call.
+	 *
+	 * @return {@code null} when {@code source} is {@code null}
+	 * @throws IllegalArgumentException
+	 *             if instances of {@code targetClass} can't be created
+	 * @see TargetFactory
+	 */
+	public static <T> T map(Object source, Class<T> targetClass) {
+		if (Objects.isNull(source)) {
+			return null;
+		}
+		CreationPlan plan = MappingPlanCache.creation(new MappingPlanKey(source.getClass(), targetClass,
+				Collections.emptyMap(), DEFAULT_IGNORES, MappingOptions.DEFAULT));
+		return targetClass.cast(plan.create(source, new MappingContext(Collections.emptyList())));
+	}
+
+	/**
+	 * Returns a view of {@code source} through the interface {@code viewType}: nothing is copied up front, each getter
+	 * maps its property on the first call, e.g. while the view is serialized.
+	 *
+	 * @return {@code null} when {@code source} is {@code null}
+	 * @throws IllegalArgumentException
+	 *             if {@code viewType} is no interface
+	 * @see ViewPlan
+	 */
+	public static <T> T view(Object source, Class<T> viewType) {
+		if (Objects.isNull(source)) {
+			return null;
+		}
+		ViewPlan plan = MappingPlanCache.view(new MappingPlanKey(source.getClass(), viewType, Collections.emptyMap(),
+				DEFAULT_IGNORES, MappingOptions.DEFAULT));
+		return viewType.cast(plan.create(source, new MappingContext(Collections.emptyList())));
+	}
+
+	/**
+	 * Copies the properties of {@code source} into a new map sized for them, in introspection order.
+	 *
+	 * @return {@code null} when {@code source} is {@code null}
+	 */
+	public static Map<String, Object> toMap(Object source) {
+		if (Objects.isNull(source)) {
+			return null;
+		}
+		int size = AccessorCache.of(source.getClass()).all().size();
+		return copyTo(new LinkedHashMap<String, Object>(Math.max(16, (int) (size / .75f) + 1))).from(source).copy();
+	}
+
+	public static MappingRegistry registry() {
+		return new MappingRegistry();
+	}
+
+	public static <S, T> MappingSpecBuilder<S, T> spec(Class<S> from, Class<T> to) {
+		return MappingSpec.builder(from, to);
+	}
+}
@@ -0,0 +1,292 @@
+package org.pojomapper.copier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.pojomapper.copier.accessor.AccessStrategy;
+import org.pojomapper.copier.copyoperation.BindableCopyOperation;
+import org.pojomapper.copier.enums.EnumFallback;
+import org.pojomapper.copier.enums.EnumStrategy;
+import org.pojomapper.copier.plan.ChangeSet;
+import org.pojomapper.copier.plan.MappingContext;
+import org.pojomapper.copier.plan.MappingPlan;
+import org.pojomapper.copier.plan.MappingPlanBuilder;
+import org.pojomapper.copier.plan.MappingPlanCache;
+import org.pojomapper.copier.plan.MappingPlanKey;
+import org.pojomapper.copier.plan.MergePlan;
+import org.pojomapper.copier.plan.PlanExplanation;
+
+/**
+ * @author Sergey_Smolyarchuk
+ */
+public class Copier<T> {
+
+	private T to;
+	private List<Source> sources = new ArrayList<>();
+	private Set<String> ignores = new HashSet<>();
+	private Set<String> fields;
+
+	public Copier(T to) {
+		this.to = to;
+		ignores.add("class");
+	}
+
+	public Copier<T> from(Object from) {
+		if (Objects.nonNull(from)) {
+			sources.add(new Source(from));
+		}
+		return this;
+	}
+
+	public Copier<T> mapper(String prop1, String prop2) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.mapper().put(prop1, prop2);
+		}
+		return this;
+	}
+
+	public Copier<T> mapper(Map<String, String> map) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.mapper().putAll(map);
+		}
+		return this;
+	}
+
+	public Copier<T> converter(Function<Object, Object> converter) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.converters().add(converter);
+		}
+		return this;
+	}
+
+	/**
+	 * Registers a converter for properties of the last source declared as (a subtype of) {@code sourceType} and
+	 * writable with {@code targetType}. It is resolved once per property pair, other properties don't call it, and
+	 * it only sees non-null values. Nested paths and map sources are not resolved up front and use
+	 * {@link #converter(Function)} only.
+	 */
+	public <S, R> Copier<T> converter(Class<S> sourceType, Class<R> targetType,
+			Function<? super S, ? extends R> converter) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.typeConverters(last.typeConverters().with(sourceType, targetType, converter));
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a custom operation for the properties of the last source, asked before the built-in ones when the plan is
+	 * resolved. The operation is part of the plan key and compared by {@code equals}: reuse the instance, a new one
+	 * per call (e.g. a capturing lambda) builds the plan again on every call.
+	 *
+	 * @see BindableCopyOperation
+	 */
+	public Copier<T> operation(BindableCopyOperation operation) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last) && Objects.nonNull(operation)) {
+			last.operations().add(operation);
+		}
+		return this;
+	}
+
+	public Copier<T> rewrite(boolean rewrite) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.rewrite(rewrite);
+		}
+		return this;
+	}
+
+	public Copier<T> skipNulls(boolean skipNulls) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.skipNulls(skipNulls);
+		}
+		return this;
+	}
+
+	/**
+	 * Copies nested beans, collections, maps and arrays of the last source recursively instead of sharing them with the
+	 * target. Objects referenced several times are copied once, cycles are preserved.
+	 */
+	public Copier<T> deep(boolean deep) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.deep(deep);
+		}
+		return this;
+	}
+
+	/**
+	 * Writes target properties from the last source only when the new value differs from the current one, compared
+	 * with {@code equals}. See {@link #copyChanges()}.
+	 */
+	public Copier<T> dirtyCheck(boolean dirtyCheck) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.dirtyCheck(dirtyCheck);
+		}
+		return this;
+	}
+
+	/**
+	 * How enum properties of the last source are matched to strings and to other enum types, {@link EnumStrategy#NAME}
+	 * by default.
+	 */
+	public Copier<T> enumStrategy(EnumStrategy strategy) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last) && Objects.nonNull(strategy)) {
+			last.enumStrategy(strategy);
+		}
+		return this;
+	}
+
+	/**
+	 * What is written for values of the last source no enum constant matches, {@link EnumFallback#FAIL} by default.
+	 */
+	public Copier<T> enumFallback(EnumFallback fallback) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last) && Objects.nonNull(fallback)) {
+			last.enumFallback(fallback);
+		}
+		return this;
+	}
+
+	/**
+	 * How the properties of the last source and the target are accessed, {@link AccessStrategy#AUTO} by default.
+	 */
+	public Copier<T> access(AccessStrategy access) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last) && Objects.nonNull(access)) {
+			last.access(access);
+		}
+		return this;
+	}
+
+	/**
+	 * Whether nested target paths of the last source's mapper entries create missing intermediate beans through their
+	 * no-arg constructor, {@code false} by default: such writes are dropped.
+	 */
+	public Copier<T> createIntermediates(boolean createIntermediates) {
+		Source last = getLast(sources, null);
+		if (Objects.nonNull(last)) {
+			last.createIntermediates(createIntermediates);
+		}
+		return this;
+	}
+
+	public Copier<T> ignore(String... ignore) {
+		if (Objects.nonNull(ignore)) {
+			ignores.addAll(Arrays.asList(ignore));
+		}
+		return this;
+	}
+
+	/**
+	 * Restricts the copy to the given target properties of every source, e.g. the fields a client requested. A nested
+	 * path such as {@code address.city} selects the whole {@code address} property, {@code address} selects mapper
+	 * entries writing below it as well. Each mask gets its own cached plan, the other properties are neither read nor
+	 * written.
+	 */
+	public Copier<T> fields(Set<String> fields) {
+		this.fields = fields;
+		return this;
+	}
+
+	/**
+	 * Copies the sources in order. Several sources are planned together where possible, every target property is then
+	 * written once with the value the last effective source would have left.
+	 *
+	 * @see MergePlan
+	 */
+	public T copy() {
+		if (Objects.isNull(to) || sources.isEmpty()) {
+			return null;
+		}
+		if (sources.size() > 1 && Objects.isNull(fields) && merge()) {
+			return to;
+		}
+		for (Source src : sources) {
+			plan(src).copy(src.from(), to, new MappingContext(src.converters(), src.typeConverters()));
+		}
+		return to;
+	}
+
+	/**
+	 * Copies like {@link #copy()} and reports the written target properties, for sources with
+	 * {@link #dirtyCheck(boolean)} only the changed ones. Entries of several sources follow each other in the change
+	 * set.
+	 *
+	 * @return {@link ChangeSet#EMPTY} if there is no target or source
+	 */
+	public ChangeSet copyChanges() {
+		ChangeSet changes = ChangeSet.EMPTY;
+		if (Objects.isNull(to)) {
+			return changes;
+		}
+		for (Source src : sources) {
+			changes = changes.merge(
+					plan(src).copyChanges(src.from(), to, new MappingContext(src.converters(), src.typeConverters())));
+		}
+		return changes;
+	}
+
+	/**
+	 * Describes the plan of every source in order, as {@link MappingSpec#explain()} does. The explanations cover all
+	 * properties, before a {@link #fields(Set)} mask.
+	 *
+	 * @return empty if there is no target
+	 */
+	public List<PlanExplanation> explain() {
+		List<PlanExplanation> explanations = new ArrayList<>(sources.size());
+		if (Objects.nonNull(to)) {
+			for (Source src : sources) {
+				explanations.add(MappingPlanBuilder.explain(key(src), !src.converters().isEmpty()));
+			}
+		}
+		return explanations;
+	}
+
+	private boolean merge() {
+		List<MappingPlanKey> keys = new ArrayList<>(sources.size());
+		for (Source src : sources) {
+			keys.add(key(src));
+		}
+		MergePlan plan = MappingPlanCache.merge(keys);
+		if (Objects.isNull(plan)) {
+			return false;
+		}
+		Object[] froms = new Object[sources.size()];
+		MappingContext[] contexts = new MappingContext[sources.size()];
+		for (int i = 0; i < froms.length; i++) {
+			Source src = sources.get(i);
+			froms[i] = src.from();
+			contexts[i] = new MappingContext(src.converters(), src.typeConverters());
+		}
+		plan.copy(froms, contexts, to);
+		return true;
+	}
+
+	private MappingPlan plan(Source src) {
+		return Objects.isNull(fields) ? MappingPlanCache.get(key(src)) : MappingPlanCache.projection(key(src), fields);
+	}
+
+	private MappingPlanKey key(Source src) {
+		return new MappingPlanKey(src.from().getClass(), to.getClass(), src.mapper(), ignores, src.options(),
+				src.typeConverters().types(), src.operations());
+	}
+
+	private static <T> T getLast(List<? extends T> items, T defaultValue) {
+		return CollectionUtils.isEmpty(items) ? defaultValue : items.get(items.size() - 1);
+	}
+}
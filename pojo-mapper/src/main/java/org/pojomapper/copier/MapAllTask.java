@@ -0,0 +1,48 @@
+package org.pojomapper.copier;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Splits {@link MappingSpec#mapAllParallel(java.util.Collection, Supplier)} into ranges of at most {@link #THRESHOLD}
+ * elements, each range writes its results straight into its slots of the shared result list.
+ */
+class MapAllTask<S, T> extends RecursiveAction {
+
+	static final int THRESHOLD = 1024;
+
+	private static final long serialVersionUID = 1L;
+
+	private final MappingSpec<S, T> spec;
+	private final Object[] sources;
+	private final List<T> targets;
+	private final Supplier<? extends T> targetFactory;
+	private final int from;
+	private final int to;
+
+	MapAllTask(MappingSpec<S, T> spec, Object[] sources, List<T> targets, Supplier<? extends T> targetFactory, int from,
+			int to) {
+		this.spec = spec;
+		this.sources = sources;
+		this.targets = targets;
+		this.targetFactory = targetFactory;
+		this.from = from;
+		this.to = to;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	protected void compute() {
+		if (to - from <= THRESHOLD) {
+			for (int i = from; i < to; i++) {
+				// set() of distinct slots doesn't modify the list structure, invokeAll publishes the writes
+				targets.set(i, spec.map((S) sources[i], targetFactory.get()));
+			}
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		invokeAll(new MapAllTask<>(spec, sources, targets, targetFactory, from, middle),
+				new MapAllTask<>(spec, sources, targets, targetFactory, middle, to));
+	}
+}
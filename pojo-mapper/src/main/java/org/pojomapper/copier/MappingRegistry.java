@@ -0,0 +1,134 @@
+package org.pojomapper.copier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link MappingSpec}s declared up front, one per source and target class. Specs are built on first use or all at once
+ * by {@link #warmUp()}, which resolves plans, accessors and converter bindings on a background thread during startup
+ * and reports mapper entries and ignores naming unknown properties:
+ *
+ * <pre>
+ * static final MappingRegistry MAPPINGS = new MappingRegistry()
+ * 	.register(PojoMapper.spec(Domain.class, Dto.class).mapper("prop1", "prop2"))
+ * 	.register(PojoMapper.spec(Dto.class, Domain.class).mapper("prop2", "prop1"));
+ * ...
+ * MAPPINGS.warmUp().thenAccept(problems -&gt; problems.forEach(log::error));
+ * ...
+ * Dto dto = MAPPINGS.spec(Domain.class, Dto.class).map(domain, new Dto());
+ * </pre>
+ *
+ * Registered builders must not be changed afterwards.
+ */
+public final class MappingRegistry {
+
+	private static final Executor WARM_UP = task -> {
+		Thread thread = new Thread(task, "pojo-mapper-warm-up");
+		thread.setDaemon(true);
+		thread.start();
+	};
+
+	private final ConcurrentMap<List<Class<?>>, Registration<?, ?>> registrations = new ConcurrentHashMap<>();
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             if a spec for the same source and target class is already registered
+	 */
+	public MappingRegistry register(MappingSpecBuilder<?, ?> builder) {
+		Registration<?, ?> previous = registrations.putIfAbsent(key(builder.sourceClass(), builder.targetClass()),
+				new Registration<>(builder));
+		if (Objects.nonNull(previous)) {
+			throw new IllegalArgumentException("Mapping from " + builder.sourceClass().getName() + " to "
+					+ builder.targetClass().getName() + " is already registered");
+		}
+		return this;
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             if no spec is registered for the classes
+	 */
+	@SuppressWarnings("unchecked")
+	public <S, T> MappingSpec<S, T> spec(Class<S> sourceClass, Class<T> targetClass) {
+		Registration<?, ?> registration = registrations.get(key(sourceClass, targetClass));
+		if (Objects.isNull(registration)) {
+			throw new IllegalArgumentException("No mapping from " + sourceClass.getName() + " to "
+					+ targetClass.getName() + " is registered");
+		}
+		return (MappingSpec<S, T>) registration.spec();
+	}
+
+	/**
+	 * Builds and validates every registered spec on a new daemon thread.
+	 *
+	 * @return completes with the problems found, empty when every mapping is valid
+	 */
+	public CompletableFuture<List<String>> warmUp() {
+		return warmUp(WARM_UP);
+	}
+
+	public CompletableFuture<List<String>> warmUp(Executor executor) {
+		return CompletableFuture.supplyAsync(this::resolve, executor);
+	}
+
+	/**
+	 * Builds and validates every registered spec in the calling thread.
+	 *
+	 * @return the problems found, empty when every mapping is valid
+	 */
+	public List<String> resolve() {
+		List<String> problems = new ArrayList<>();
+		for (Registration<?, ?> registration : registrations.values()) {
+			problems.addAll(registration.spec().validate());
+		}
+		return Collections.unmodifiableList(problems);
+	}
+
+	/**
+	 * Fail-fast variant of {@link #resolve()}.
+	 *
+	 * @throws IllegalStateException
+	 *             listing the problems if any mapping is invalid
+	 */
+	public MappingRegistry validate() {
+		List<String> problems = resolve();
+		if (!problems.isEmpty()) {
+			throw new IllegalStateException("Invalid mappings:\n" + String.join("\n", problems));
+		}
+		return this;
+	}
+
+	private static List<Class<?>> key(Class<?> sourceClass, Class<?> targetClass) {
+		return Arrays.asList(sourceClass, targetClass);
+	}
+
+	private static final class Registration<S, T> {
+
+		private final MappingSpecBuilder<S, T> builder;
+		private volatile MappingSpec<S, T> spec;
+
+		Registration(MappingSpecBuilder<S, T> builder) {
+			this.builder = builder;
+		}
+
+		MappingSpec<S, T> spec() {
+			MappingSpec<S, T> result = spec;
+			if (Objects.isNull(result)) {
+				synchronized (this) {
+					result = spec;
+					if (Objects.isNull(result)) {
+						spec = result = builder.build();
+					}
+				}
+			}
+			return result;
+		}
+	}
+}
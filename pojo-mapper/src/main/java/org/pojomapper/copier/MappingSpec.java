@@ -0,0 +1,259 @@
+package org.pojomapper.copier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.pojomapper.copier.copyoperation.BindableCopyOperation;
+import org.pojomapper.copier.metrics.MappingListeners;
+import org.pojomapper.copier.plan.ChangeSet;
+import org.pojomapper.copier.plan.CreationPlan;
+import org.pojomapper.copier.plan.MappingContext;
+import org.pojomapper.copier.plan.MappingOptions;
+import org.pojomapper.copier.plan.MappingPlan;
+import org.pojomapper.copier.plan.MappingPlanCache;
+import org.pojomapper.copier.plan.MappingPlanBuilder;
+import org.pojomapper.copier.plan.MappingPlanKey;
+import org.pojomapper.copier.plan.PlanExplanation;
+import org.pojomapper.copier.plan.TypePair;
+
+/**
+ * Immutable, thread-safe counterpart of a single source {@link Copier}. The options are fixed by the
+ * {@link MappingSpecBuilder} and the plan is resolved once, so a spec kept in a static field maps without any per-call
+ * setup:
+ *
+ * <pre>
+ * static final MappingSpec&lt;Domain, Dto&gt; SPEC = MappingSpec.builder(Domain.class, Dto.class).mapper("prop1", "prop2").build();
+ * ...
+ * Dto dto = SPEC.map(domain, new Dto());
+ * </pre>
+ */
+public final class MappingSpec<S, T> {
+
+	private final Class<S> sourceClass;
+	private final Class<T> targetClass;
+	private final Map<String, String> mapper;
+	private final Set<String> ignores;
+	private final MappingOptions options;
+	private final List<TypePair> converterTypes;
+	private final List<BindableCopyOperation> operations;
+	private final MappingContext context;
+	private final MappingPlan plan;
+	private CreationPlan creation;
+
+	MappingSpec(MappingSpecBuilder<S, T> builder) {
+		this.sourceClass = builder.sourceClass();
+		this.targetClass = builder.targetClass();
+		this.mapper = Collections.unmodifiableMap(new LinkedHashMap<>(builder.mapper()));
+		this.ignores = Collections.unmodifiableSet(new HashSet<>(builder.ignores()));
+		this.options = builder.options();
+		this.converterTypes = builder.typeConverters().types();
+		this.operations = Collections.unmodifiableList(new ArrayList<>(builder.operations()));
+		this.context = new MappingContext(builder.converters(), builder.typeConverters());
+		this.plan = plan(sourceClass, targetClass);
+	}
+
+	public static <S, T> MappingSpecBuilder<S, T> builder(Class<S> sourceClass, Class<T> targetClass) {
+		return new MappingSpecBuilder<>(sourceClass, targetClass);
+	}
+
+	/**
+	 * Copies {@code source} into {@code target} the same way {@code copyTo(target).from(source).copy()} does.
+	 *
+	 * @return {@code target}, or {@code null} when either argument is {@code null}
+	 */
+	public T map(S source, T target) {
+		if (Objects.isNull(source) || Objects.isNull(target)) {
+			return null;
+		}
+		planFor(source, target).copy(source, target, context());
+		return target;
+	}
+
+	/**
+	 * Copies like {@link #map(Object, Object)}, only the target properties selected by {@code fields}. A {@code null}
+	 * mask selects every property.
+	 *
+	 * @see Copier#fields(Set)
+	 */
+	public T map(S source, T target, Set<String> fields) {
+		if (Objects.isNull(fields)) {
+			return map(source, target);
+		}
+		if (Objects.isNull(source) || Objects.isNull(target)) {
+			return null;
+		}
+		MappingPlanCache.projection(key(source.getClass(), target.getClass()), fields).copy(source, target, context());
+		return target;
+	}
+
+	/**
+	 * Creates a new target from {@code source} the way {@link org.pojomapper.PojoMapper#map(Object, Class)} does, with
+	 * the options of this spec.
+	 *
+	 * @return {@code null} when {@code source} is {@code null}
+	 * @throws IllegalArgumentException
+	 *             if instances of the target class can't be created
+	 */
+	public T map(S source) {
+		if (Objects.isNull(source)) {
+			return null;
+		}
+		return targetClass.cast(creationFor(source).create(source, context()));
+	}
+
+	/**
+	 * Returns a lazy view of {@code source} like {@link org.pojomapper.PojoMapper#view(Object, Class)}, with the
+	 * mapper entries, converters and options of this spec.
+	 *
+	 * @return {@code null} when {@code source} is {@code null}
+	 * @throws IllegalArgumentException
+	 *             if the target class is no interface
+	 */
+	public T view(S source) {
+		if (Objects.isNull(source)) {
+			return null;
+		}
+		// every view reads on its own, later
+		return targetClass.cast(MappingPlanCache.view(key(source.getClass(), targetClass)).create(source,
+				context.fork()));
+	}
+
+	/**
+	 * Copies like {@link #map(Object, Object)} and reports the written target properties, with
+	 * {@link MappingSpecBuilder#dirtyCheck(boolean)} only the changed ones.
+	 *
+	 * @return {@link ChangeSet#EMPTY} when either argument is {@code null}
+	 */
+	public ChangeSet mapChanges(S source, T target) {
+		if (Objects.isNull(source) || Objects.isNull(target)) {
+			return ChangeSet.EMPTY;
+		}
+		return planFor(source, target).copyChanges(source, target, context());
+	}
+
+	/**
+	 * Maps every element into a new target created by {@code targetFactory}. The result has the size and order of
+	 * {@code sources}, {@code null} elements map to {@code null}.
+	 */
+	public List<T> mapAll(Collection<? extends S> sources, Supplier<? extends T> targetFactory) {
+		List<T> targets = new ArrayList<>(sources.size());
+		for (S source : sources) {
+			targets.add(map(source, targetFactory.get()));
+		}
+		return targets;
+	}
+
+	/**
+	 * Same as {@link #mapAll(Collection, Supplier)}, large collections are split across the common fork-join pool. The
+	 * result is a mutable list whatever the size. {@code targetFactory} must be thread-safe.
+	 */
+	public List<T> mapAllParallel(Collection<? extends S> sources, Supplier<? extends T> targetFactory) {
+		return mapAllParallel(sources, targetFactory, ForkJoinPool.commonPool());
+	}
+
+	public List<T> mapAllParallel(Collection<? extends S> sources, Supplier<? extends T> targetFactory,
+			ForkJoinPool pool) {
+		if (sources.size() <= MapAllTask.THRESHOLD) {
+			return mapAll(sources, targetFactory);
+		}
+		Object[] array = sources.toArray();
+		List<T> targets = new ArrayList<>(array.length);
+		for (int i = 0; i < array.length; i++) {
+			targets.add(null);
+		}
+		pool.invoke(new MapAllTask<>(this, array, targets, targetFactory, 0, array.length));
+		return targets;
+	}
+
+	/**
+	 * Lazily maps the stream, each element into a new target created by {@code targetFactory}. Parallelism,
+	 * short-circuiting and close handlers of {@code sources} are kept.
+	 */
+	public Stream<T> mapStream(Stream<? extends S> sources, Supplier<? extends T> targetFactory) {
+		return sources.map(source -> map(source, targetFactory.get()));
+	}
+
+	/**
+	 * Lazily maps the remaining elements of {@code sources} as an ordered sequential stream.
+	 */
+	public Stream<T> mapStream(Iterator<? extends S> sources, Supplier<? extends T> targetFactory) {
+		return StreamSupport.stream(mapSpliterator(Spliterators.spliteratorUnknownSize(sources, Spliterator.ORDERED),
+				targetFactory), false);
+	}
+
+	public Spliterator<T> mapSpliterator(Spliterator<? extends S> sources, Supplier<? extends T> targetFactory) {
+		return new MappingSpliterator<>(this, sources, targetFactory);
+	}
+
+	/**
+	 * Looks up every mapper entry and ignore, which a plan skips silently when they name unknown properties.
+	 *
+	 * @return one message per entry that can't be mapped, empty when the spec is valid
+	 */
+	public List<String> validate() {
+		return MappingValidator.validate(sourceClass, targetClass, mapper, ignores, options.access());
+	}
+
+	/**
+	 * Describes how the plan of this spec maps every property: the source feeding it, the copy and operation handling
+	 * it, converters, boxing and reflection, and the pairs left out.
+	 */
+	public PlanExplanation explain() {
+		return MappingPlanBuilder.explain(key(sourceClass, targetClass), context.converters().length > 0);
+	}
+
+	public Class<S> sourceClass() {
+		return sourceClass;
+	}
+
+	public Class<T> targetClass() {
+		return targetClass;
+	}
+
+	private MappingContext context() {
+		// deep copies and dropped write counts are per call
+		return options.deep() || MappingListeners.isEnabled() ? context.fork() : context;
+	}
+
+	private MappingPlan planFor(Object source, Object target) {
+		if (source.getClass() == sourceClass && target.getClass() == targetClass) {
+			return plan;
+		}
+		// subclasses (proxies and the like) get their own plan
+		return plan(source.getClass(), target.getClass());
+	}
+
+	private CreationPlan creationFor(Object source) {
+		if (source.getClass() != sourceClass) {
+			return MappingPlanCache.creation(key(source.getClass(), targetClass));
+		}
+		CreationPlan result = creation;
+		if (Objects.isNull(result)) {
+			// racy but idempotent, the cache returns the same plan
+			creation = result = MappingPlanCache.creation(key(sourceClass, targetClass));
+		}
+		return result;
+	}
+
+	private MappingPlanKey key(Class<?> sourceClass, Class<?> targetClass) {
+		return new MappingPlanKey(sourceClass, targetClass, mapper, ignores, options, converterTypes, operations);
+	}
+
+	private MappingPlan plan(Class<?> sourceClass, Class<?> targetClass) {
+		return MappingPlanCache.get(key(sourceClass, targetClass));
+	}
+}
@@ -0,0 +1,172 @@
+package org.pojomapper.copier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.pojomapper.copier.accessor.AccessStrategy;
+import org.pojomapper.copier.copyoperation.BindableCopyOperation;
+import org.pojomapper.copier.enums.EnumFallback;
+import org.pojomapper.copier.enums.EnumStrategy;
+import org.pojomapper.copier.plan.MappingOptions;
+import org.pojomapper.copier.plan.TypeConverters;
+
+/**
+ * Collects the options of a {@link MappingSpec}, same as the per-source options of {@link Copier}.
+ */
+public class MappingSpecBuilder<S, T> {
+
+	private final Class<S> sourceClass;
+	private final Class<T> targetClass;
+	private final Map<String, String> mapper = new LinkedHashMap<>();
+	private final List<Function<Object, Object>> converters = new ArrayList<>();
+	private final Set<String> ignores = new HashSet<>();
+	private final List<BindableCopyOperation> operations = new ArrayList<>();
+	private MappingOptions options = MappingOptions.DEFAULT;
+	private TypeConverters typeConverters = TypeConverters.EMPTY;
+
+	public MappingSpecBuilder(Class<S> sourceClass, Class<T> targetClass) {
+		this.sourceClass = Objects.requireNonNull(sourceClass);
+		this.targetClass = Objects.requireNonNull(targetClass);
+		ignores.add("class");
+	}
+
+	public MappingSpecBuilder<S, T> mapper(String prop1, String prop2) {
+		mapper.put(prop1, prop2);
+		return this;
+	}
+
+	public MappingSpecBuilder<S, T> mapper(Map<String, String> map) {
+		mapper.putAll(map);
+		return this;
+	}
+
+	public MappingSpecBuilder<S, T> converter(Function<Object, Object> converter) {
+		converters.add(converter);
+		return this;
+	}
+
+	/**
+	 * @see Copier#converter(Class, Class, Function)
+	 */
+	public <A, B> MappingSpecBuilder<S, T> converter(Class<A> sourceType, Class<B> targetType,
+			Function<? super A, ? extends B> converter) {
+		typeConverters = typeConverters.with(sourceType, targetType, converter);
+		return this;
+	}
+
+	/**
+	 * @see Copier#operation(BindableCopyOperation)
+	 */
+	public MappingSpecBuilder<S, T> operation(BindableCopyOperation operation) {
+		operations.add(Objects.requireNonNull(operation));
+		return this;
+	}
+
+	public MappingSpecBuilder<S, T> rewrite(boolean rewrite) {
+		options = options.rewrite(rewrite);
+		return this;
+	}
+
+	public MappingSpecBuilder<S, T> skipNulls(boolean skipNulls) {
+		options = options.skipNulls(skipNulls);
+		return this;
+	}
+
+	/**
+	 * @see Copier#deep(boolean)
+	 */
+	public MappingSpecBuilder<S, T> deep(boolean deep) {
+		options = options.deep(deep);
+		return this;
+	}
+
+	/**
+	 * @see Copier#dirtyCheck(boolean)
+	 */
+	public MappingSpecBuilder<S, T> dirtyCheck(boolean dirtyCheck) {
+		options = options.dirtyCheck(dirtyCheck);
+		return this;
+	}
+
+	/**
+	 * @see Copier#enumStrategy(EnumStrategy)
+	 */
+	public MappingSpecBuilder<S, T> enumStrategy(EnumStrategy strategy) {
+		options = options.enumStrategy(strategy);
+		return this;
+	}
+
+	/**
+	 * @see Copier#enumFallback(EnumFallback)
+	 */
+	public MappingSpecBuilder<S, T> enumFallback(EnumFallback fallback) {
+		options = options.enumFallback(fallback);
+		return this;
+	}
+
+	/**
+	 * @see Copier#access(AccessStrategy)
+	 */
+	public MappingSpecBuilder<S, T> access(AccessStrategy access) {
+		options = options.access(access);
+		return this;
+	}
+
+	/**
+	 * @see Copier#createIntermediates(boolean)
+	 */
+	public MappingSpecBuilder<S, T> createIntermediates(boolean createIntermediates) {
+		options = options.createIntermediates(createIntermediates);
+		return this;
+	}
+
+	public MappingSpecBuilder<S, T> ignore(String... ignore) {
+		if (Objects.nonNull(ignore)) {
+			ignores.addAll(Arrays.asList(ignore));
+		}
+		return this;
+	}
+
+	public MappingSpec<S, T> build() {
+		return new MappingSpec<>(this);
+	}
+
+	Class<S> sourceClass() {
+		return sourceClass;
+	}
+
+	Class<T> targetClass() {
+		return targetClass;
+	}
+
+	Map<String, String> mapper() {
+		return mapper;
+	}
+
+	List<Function<Object, Object>> converters() {
+		return converters;
+	}
+
+	Set<String> ignores() {
+		return ignores;
+	}
+
+	MappingOptions options() {
+		return options;
+	}
+
+	TypeConverters typeConverters() {
+		return typeConverters;
+	}
+
+	List<BindableCopyOperation> operations() {
+		return operations;
+	}
+}
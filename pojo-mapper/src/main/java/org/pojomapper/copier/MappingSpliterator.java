@@ -0,0 +1,56 @@
+package org.pojomapper.copier;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Lazily maps the elements of a source {@link Spliterator}. Splitting, size estimates and characteristics are those of
+ * the source, except {@code SORTED}, {@code DISTINCT} and {@code NONNULL} which mapping doesn't preserve.
+ */
+class MappingSpliterator<S, T> implements Spliterator<T> {
+
+	private static final int DROPPED_CHARACTERISTICS = SORTED | DISTINCT | NONNULL;
+
+	private final MappingSpec<S, T> spec;
+	private final Spliterator<? extends S> sources;
+	private final Supplier<? extends T> targetFactory;
+
+	MappingSpliterator(MappingSpec<S, T> spec, Spliterator<? extends S> sources, Supplier<? extends T> targetFactory) {
+		this.spec = spec;
+		this.sources = sources;
+		this.targetFactory = targetFactory;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		return sources.tryAdvance(source -> action.accept(spec.map(source, targetFactory.get())));
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		sources.forEachRemaining(source -> action.accept(spec.map(source, targetFactory.get())));
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		Spliterator<? extends S> prefix = sources.trySplit();
+		return Objects.isNull(prefix) ? null : new MappingSpliterator<>(spec, prefix, targetFactory);
+	}
+
+	@Override
+	public long estimateSize() {
+		return sources.estimateSize();
+	}
+
+	@Override
+	public long getExactSizeIfKnown() {
+		return sources.getExactSizeIfKnown();
+	}
+
+	@Override
+	public int characteristics() {
+		return sources.characteristics() & ~DROPPED_CHARACTERISTICS;
+	}
+}
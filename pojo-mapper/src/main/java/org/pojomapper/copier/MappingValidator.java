@@ -0,0 +1,114 @@
+package org.pojomapper.copier;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.MappedPropertyDescriptor;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.pojomapper.copier.accessor.AccessStrategy;
+import org.pojomapper.copier.accessor.AccessorCache;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.util.PojoUtil;
+
+/**
+ * Reports mapper entries and ignores naming properties that don't exist, which a plan silently skips. Nested paths
+ * are resolved segment by segment through the {@link AccessorCache}, so validating also warms it up. Segments below a
+ * {@link Map}, a {@link DynaBean}, an {@link Object} or an indexed or mapped segment are only known at runtime and
+ * accepted. An indexed or mapped segment itself has to name a property, or an indexed or mapped only property.
+ */
+final class MappingValidator {
+
+	private MappingValidator() {
+	}
+
+	/**
+	 * @param access
+	 *            how plain property names are looked up, nested paths are always JavaBeans properties
+	 */
+	static List<String> validate(Class<?> sourceClass, Class<?> targetClass, Map<String, String> mapper,
+			Set<String> ignores, AccessStrategy access) {
+		List<String> problems = new ArrayList<>();
+		for (Map.Entry<String, String> entry : mapper.entrySet()) {
+			String from = entry.getKey();
+			String to = entry.getValue();
+			if (!(hasPath(sourceClass, from, access) && hasPath(targetClass, to, access))
+					&& !(hasPath(sourceClass, to, access) && hasPath(targetClass, from, access))) {
+				problems.add("Can't map " + from + " to " + to + " in either direction between "
+						+ sourceClass.getName() + " and " + targetClass.getName());
+			}
+		}
+		for (String ignore : ignores) {
+			if (!"class".equals(ignore) && !hasPath(sourceClass, ignore, access)
+					&& !hasPath(targetClass, ignore, access)) {
+				problems.add("Ignored property " + ignore + " is neither a property of " + sourceClass.getName()
+						+ " nor of " + targetClass.getName());
+			}
+		}
+		return problems;
+	}
+
+	static boolean hasPath(Class<?> type, String path) {
+		return hasPath(type, path, AccessStrategy.PROPERTIES);
+	}
+
+	private static boolean hasPath(Class<?> type, String path, AccessStrategy access) {
+		Class<?> current = type;
+		AccessStrategy strategy = PojoUtil.isSimple(path) ? access : AccessStrategy.PROPERTIES;
+		for (String segment : path.split("\\.")) {
+			if (isDynamic(current)) {
+				return true;
+			}
+			int index = indexOf(segment);
+			String name = index < 0 ? segment : segment.substring(0, index);
+			PropertyAccessor accessor = AccessorCache.of(current, strategy).get(name);
+			if (Objects.isNull(accessor)) {
+				// mapped and indexed-only properties have no accessor
+				return index >= 0
+						&& (segment.charAt(index) == '[' ? isIndexed(current, name) : isMapped(current, name));
+			}
+			if (index >= 0) {
+				return true;
+			}
+			current = accessor.type();
+		}
+		return true;
+	}
+
+	private static boolean isIndexed(Class<?> type, String name) {
+		for (PropertyDescriptor descriptor : PropertyUtils.getPropertyDescriptors(type)) {
+			if (descriptor instanceof IndexedPropertyDescriptor && name.equals(descriptor.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isMapped(Class<?> type, String name) {
+		try {
+			new MappedPropertyDescriptor(name, type);
+			return true;
+		} catch (IntrospectionException e) {
+			return false;
+		}
+	}
+
+	private static boolean isDynamic(Class<?> type) {
+		return type == Object.class || Map.class.isAssignableFrom(type) || DynaBean.class.isAssignableFrom(type);
+	}
+
+	private static int indexOf(String segment) {
+		int bracket = segment.indexOf('[');
+		int parenthesis = segment.indexOf('(');
+		if (bracket < 0 || parenthesis < 0) {
+			return Math.max(bracket, parenthesis);
+		}
+		return Math.min(bracket, parenthesis);
+	}
+}
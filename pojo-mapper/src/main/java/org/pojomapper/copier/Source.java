@@ -0,0 +1,129 @@
+package org.pojomapper.copier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.pojomapper.copier.accessor.AccessStrategy;
+import org.pojomapper.copier.copyoperation.BindableCopyOperation;
+import org.pojomapper.copier.enums.EnumFallback;
+import org.pojomapper.copier.enums.EnumStrategy;
+import org.pojomapper.copier.plan.MappingOptions;
+import org.pojomapper.copier.plan.TypeConverters;
+
+public class Source {
+
+	private Object from;
+	private Map<String, String> mapper = new HashMap<>();
+	private List<Function<Object, Object>> converters = new ArrayList<>();
+	private TypeConverters typeConverters = TypeConverters.EMPTY;
+	private List<BindableCopyOperation> operations = new ArrayList<>();
+	private boolean rewrite = true;
+	private boolean skipNulls;
+	private boolean deep;
+	private boolean dirtyCheck;
+	private EnumStrategy enumStrategy = EnumStrategy.NAME;
+	private EnumFallback enumFallback = EnumFallback.FAIL;
+	private AccessStrategy access = AccessStrategy.AUTO;
+	private boolean createIntermediates;
+
+	public Source(Object from) {
+		this.from = from;
+	}
+
+	public Object from() {
+		return from;
+	}
+
+	public Map<String, String> mapper() {
+		return mapper;
+	}
+
+	public List<Function<Object, Object>> converters() {
+		return converters;
+	}
+
+	public TypeConverters typeConverters() {
+		return typeConverters;
+	}
+
+	public void typeConverters(TypeConverters typeConverters) {
+		this.typeConverters = typeConverters;
+	}
+
+	public List<BindableCopyOperation> operations() {
+		return operations;
+	}
+
+	public boolean rewrite() {
+		return rewrite;
+	}
+
+	public void rewrite(boolean rewrite) {
+		this.rewrite = rewrite;
+	}
+
+	public boolean skipNulls() {
+		return skipNulls;
+	}
+
+	public void skipNulls(boolean skipNulls) {
+		this.skipNulls = skipNulls;
+	}
+
+	public boolean deep() {
+		return deep;
+	}
+
+	public void deep(boolean deep) {
+		this.deep = deep;
+	}
+
+	public boolean dirtyCheck() {
+		return dirtyCheck;
+	}
+
+	public void dirtyCheck(boolean dirtyCheck) {
+		this.dirtyCheck = dirtyCheck;
+	}
+
+	public EnumStrategy enumStrategy() {
+		return enumStrategy;
+	}
+
+	public void enumStrategy(EnumStrategy enumStrategy) {
+		this.enumStrategy = enumStrategy;
+	}
+
+	public EnumFallback enumFallback() {
+		return enumFallback;
+	}
+
+	public void enumFallback(EnumFallback enumFallback) {
+		this.enumFallback = enumFallback;
+	}
+
+	public AccessStrategy access() {
+		return access;
+	}
+
+	public void access(AccessStrategy access) {
+		this.access = access;
+	}
+
+	public boolean createIntermediates() {
+		return createIntermediates;
+	}
+
+	public void createIntermediates(boolean createIntermediates) {
+		this.createIntermediates = createIntermediates;
+	}
+
+	public MappingOptions options() {
+		return MappingOptions.DEFAULT.rewrite(rewrite).skipNulls(skipNulls).deep(deep).dirtyCheck(dirtyCheck)
+				.enumStrategy(enumStrategy)
+				.enumFallback(enumFallback).access(access).createIntermediates(createIntermediates);
+	}
+}
@@ -0,0 +1,24 @@
+package org.pojomapper.copier.accessor;
+
+/**
+ * How the properties of source and target classes are found and accessed.
+ */
+public enum AccessStrategy {
+
+	/**
+	 * JavaBeans getters and setters (and record components), as {@link org.apache.commons.beanutils.PropertyUtils}
+	 * finds them.
+	 */
+	PROPERTIES,
+
+	/**
+	 * Instance fields read and written directly, private ones too where the module allows it. Getters and setters are
+	 * not called, final fields are read-only.
+	 */
+	FIELDS,
+
+	/**
+	 * {@link #PROPERTIES}, or {@link #FIELDS} for classes without any property but {@code class}. The default.
+	 */
+	AUTO
+}
@@ -0,0 +1,60 @@
+package org.pojomapper.copier.accessor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ClassValue} backed cache of {@link ClassAccessors}. Entries live as long as their class, so classes of an
+ * unloaded class loader are released together with their accessors.
+ */
+public final class AccessorCache {
+
+	private static final LongAdder LOOKUPS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final Map<Class<?>, Boolean> RESOLVED = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final ClassValue<ClassAccessors> ACCESSORS = new ClassValue<ClassAccessors>() {
+		@Override
+		protected ClassAccessors computeValue(Class<?> type) {
+			MISSES.increment();
+			RESOLVED.put(type, Boolean.TRUE);
+			return new ClassAccessors(type);
+		}
+	};
+
+	private static final ClassValue<ClassAccessors> FIELDS = new ClassValue<ClassAccessors>() {
+		@Override
+		protected ClassAccessors computeValue(Class<?> type) {
+			MISSES.increment();
+			return ClassAccessors.fields(type);
+		}
+	};
+
+	private AccessorCache() {
+	}
+
+	public static ClassAccessors of(Class<?> beanClass) {
+		LOOKUPS.increment();
+		return ACCESSORS.get(beanClass);
+	}
+
+	public static ClassAccessors of(Class<?> beanClass, AccessStrategy strategy) {
+		if (strategy == AccessStrategy.PROPERTIES) {
+			return of(beanClass);
+		}
+		LOOKUPS.increment();
+		if (strategy == AccessStrategy.FIELDS) {
+			return FIELDS.get(beanClass);
+		}
+		ClassAccessors properties = ACCESSORS.get(beanClass);
+		return properties.hasProperties() ? properties : FIELDS.get(beanClass);
+	}
+
+	public static AccessorCacheStats stats() {
+		long lookups = LOOKUPS.sum();
+		long misses = MISSES.sum();
+		return new AccessorCacheStats(Math.max(0, lookups - misses), misses, RESOLVED.size());
+	}
+}
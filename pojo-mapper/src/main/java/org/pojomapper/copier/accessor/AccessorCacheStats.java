@@ -0,0 +1,37 @@
+package org.pojomapper.copier.accessor;
+
+/**
+ * Snapshot of the {@link AccessorCache} counters.
+ */
+public final class AccessorCacheStats {
+
+	private final long hits;
+	private final long misses;
+	private final int size;
+
+	public AccessorCacheStats(long hits, long misses, int size) {
+		this.hits = hits;
+		this.misses = misses;
+		this.size = size;
+	}
+
+	public long hits() {
+		return hits;
+	}
+
+	public long misses() {
+		return misses;
+	}
+
+	/**
+	 * @return number of classes currently cached
+	 */
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return "AccessorCacheStats[hits=" + hits + ", misses=" + misses + ", size=" + size + "]";
+	}
+}
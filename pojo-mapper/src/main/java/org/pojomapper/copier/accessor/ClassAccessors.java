@@ -0,0 +1,107 @@
+package org.pojomapper.copier.accessor;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.beanutils.PropertyUtils;
+
+/**
+ * Property accessors of a single class in JavaBeans introspection order, followed by the components of a record.
+ * Indexed-only and mapped properties are not included.
+ */
+public class ClassAccessors {
+
+	private final Class<?> beanClass;
+	private final Map<String, PropertyAccessor> accessors;
+
+	public ClassAccessors(Class<?> beanClass) {
+		this.beanClass = beanClass;
+		Map<String, PropertyAccessor> accessors = new LinkedHashMap<>();
+		for (PropertyDescriptor descr : PropertyUtils.getPropertyDescriptors(beanClass)) {
+			if (Objects.nonNull(descr.getPropertyType())) {
+				accessors.put(descr.getName(), PropertyAccessors.create(beanClass, descr));
+			}
+		}
+		if (beanClass.isRecord()) {
+			for (RecordComponent component : beanClass.getRecordComponents()) {
+				if (!accessors.containsKey(component.getName())) {
+					accessors.put(component.getName(), component(beanClass, component));
+				}
+			}
+		}
+		this.accessors = Collections.unmodifiableMap(accessors);
+	}
+
+	/**
+	 * Accessors which are not JavaBeans properties of {@code beanClass}, e.g. constructor arguments.
+	 */
+	public ClassAccessors(Class<?> beanClass, Collection<? extends PropertyAccessor> accessors) {
+		this.beanClass = beanClass;
+		Map<String, PropertyAccessor> map = new LinkedHashMap<>();
+		for (PropertyAccessor accessor : accessors) {
+			map.putIfAbsent(accessor.name(), accessor);
+		}
+		this.accessors = Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * @return accessors for the instance fields of {@code beanClass} and its superclasses, fields of subclasses hiding
+	 *         those of superclasses; inaccessible and synthetic fields are left out
+	 */
+	public static ClassAccessors fields(Class<?> beanClass) {
+		List<PropertyAccessor> accessors = new ArrayList<>();
+		for (Class<?> clazz = beanClass; Objects.nonNull(clazz) && clazz != Object.class;
+				clazz = clazz.getSuperclass()) {
+			for (Field field : clazz.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+					PropertyAccessor accessor = FieldPropertyAccessor.of(field);
+					if (Objects.nonNull(accessor)) {
+						accessors.add(accessor);
+					}
+				}
+			}
+		}
+		return new ClassAccessors(beanClass, accessors);
+	}
+
+	/**
+	 * @return whether the class has JavaBeans properties besides {@code class}
+	 */
+	public boolean hasProperties() {
+		return accessors.size() > (accessors.containsKey("class") ? 1 : 0);
+	}
+
+	private static PropertyAccessor component(Class<?> recordClass, RecordComponent component) {
+		try {
+			return PropertyAccessors.create(recordClass,
+					new PropertyDescriptor(component.getName(), component.getAccessor(), null));
+		} catch (IntrospectionException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public Class<?> beanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * @return the accessor or {@code null} if the class has no such property
+	 */
+	public PropertyAccessor get(String name) {
+		return accessors.get(name);
+	}
+
+	public Collection<PropertyAccessor> all() {
+		return accessors.values();
+	}
+}
@@ -0,0 +1,41 @@
+package org.pojomapper.copier.accessor;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link LambdaPropertyAccessor} of a {@code float} or {@code double} property which can also be read as
+ * {@code double} and, for {@code double} properties, written without boxing.
+ * <p>
+ * Unlike {@link PropertyAccessor#get} and {@link PropertyAccessor#set} the unboxed getter and setter throw whatever the
+ * bean methods throw.
+ */
+public class DoublePropertyAccessor extends LambdaPropertyAccessor {
+
+	private final ToDoubleFunction<Object> doubleGetter;
+	private final ObjDoubleConsumer<Object> doubleSetter;
+
+	public DoublePropertyAccessor(String name, Class<?> type, Function<Object, Object> getter,
+			BiConsumer<Object, Object> setter, ToDoubleFunction<Object> doubleGetter,
+			ObjDoubleConsumer<Object> doubleSetter) {
+		super(name, type, getter, setter);
+		this.doubleGetter = doubleGetter;
+		this.doubleSetter = doubleSetter;
+	}
+
+	/**
+	 * @return unboxed getter, {@code null} if the property is not readable
+	 */
+	public ToDoubleFunction<Object> doubleGetter() {
+		return doubleGetter;
+	}
+
+	/**
+	 * @return unboxed setter, {@code null} unless the property is writable and of type {@code double}
+	 */
+	public ObjDoubleConsumer<Object> doubleSetter() {
+		return doubleSetter;
+	}
+}
@@ -0,0 +1,113 @@
+package org.pojomapper.copier.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * {@link PropertyAccessor} reading and writing a field through its {@link VarHandle}, without calling getters or
+ * setters. Final fields are read-only. Like reflection, writes to primitive fields accept widened values.
+ */
+public class FieldPropertyAccessor implements PropertyAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final String name;
+	private final Class<?> type;
+	private final Type genericType;
+	private final Class<?> wrapper;
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+
+	public FieldPropertyAccessor(Field field, VarHandle handle) {
+		this.name = field.getName();
+		this.type = field.getType();
+		this.genericType = field.getGenericType();
+		this.wrapper = Primitives.wrap(type);
+		this.getter = handle.toMethodHandle(VarHandle.AccessMode.GET).asType(GETTER_TYPE);
+		this.setter = handle.isAccessModeSupported(VarHandle.AccessMode.SET)
+				? handle.toMethodHandle(VarHandle.AccessMode.SET).asType(SETTER_TYPE)
+				: null;
+	}
+
+	/**
+	 * @return the accessor, or {@code null} if the field is neither accessible privately nor public
+	 */
+	public static FieldPropertyAccessor of(Field field) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(),
+					MethodHandles.lookup());
+			return new FieldPropertyAccessor(field, lookup.unreflectVarHandle(field));
+		} catch (IllegalAccessException | RuntimeException e) {
+			// the package is not opened to this module, public fields are still accessible
+		}
+		if (Modifier.isPublic(field.getModifiers()) && Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
+			try {
+				return new FieldPropertyAccessor(field, MethodHandles.publicLookup().unreflectVarHandle(field));
+			} catch (IllegalAccessException | RuntimeException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public Class<?> type() {
+		return type;
+	}
+
+	@Override
+	public Type genericType() {
+		return genericType;
+	}
+
+	@Override
+	public boolean readable() {
+		return true;
+	}
+
+	@Override
+	public boolean writable() {
+		return Objects.nonNull(setter);
+	}
+
+	@Override
+	public Object get(Object bean) {
+		try {
+			return (Object) getter.invokeExact(bean);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean set(Object bean, Object value) {
+		if (Objects.isNull(setter)) {
+			return false;
+		}
+		Object fieldValue = value;
+		if (Objects.isNull(fieldValue) ? type.isPrimitive() : !wrapper.isInstance(fieldValue)) {
+			fieldValue = type.isPrimitive() ? Primitives.widen(fieldValue, type) : null;
+			if (Objects.isNull(fieldValue)) {
+				return false;
+			}
+		}
+		try {
+			setter.invokeExact(bean, fieldValue);
+			return true;
+		} catch (Throwable e) {
+			return false;
+		}
+	}
+}
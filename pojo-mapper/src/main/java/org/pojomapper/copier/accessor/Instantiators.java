@@ -0,0 +1,82 @@
+package org.pojomapper.copier.accessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * {@link ClassValue} cache of no-arg constructors, generated with {@link LambdaMetafactory} where the class can be
+ * looked up privately, reflective otherwise.
+ */
+public final class Instantiators {
+
+	private static final Supplier<Object> NONE = () -> null;
+
+	private static final ClassValue<Supplier<Object>> CONSTRUCTORS = new ClassValue<Supplier<Object>>() {
+		@Override
+		protected Supplier<Object> computeValue(Class<?> type) {
+			return constructor(type);
+		}
+	};
+
+	private Instantiators() {
+	}
+
+	/**
+	 * @return whether {@code type} is a concrete class with a no-arg constructor
+	 */
+	public static boolean isInstantiable(Class<?> type) {
+		return CONSTRUCTORS.get(type) != NONE;
+	}
+
+	/**
+	 * @return a new instance, or {@code null} if the class can't be instantiated through a no-arg constructor
+	 */
+	public static Object newInstance(Class<?> type) {
+		try {
+			return CONSTRUCTORS.get(type).get();
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static Supplier<Object> constructor(Class<?> type) {
+		if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+			return NONE;
+		}
+		try {
+			return generate(type);
+		} catch (Throwable e) {
+			// not accessible from here or not supported by the metafactory, use reflection
+		}
+		try {
+			Constructor<?> constructor = type.getDeclaredConstructor();
+			if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(type.getModifiers())) {
+				constructor.setAccessible(true);
+			}
+			return () -> {
+				try {
+					return constructor.newInstance();
+				} catch (ReflectiveOperationException e) {
+					return null;
+				}
+			};
+		} catch (Exception e) {
+			return NONE;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Supplier<Object> generate(Class<?> type) throws Throwable {
+		MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+		MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+		CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType.methodType(Supplier.class),
+				MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+		return (Supplier<Object>) site.getTarget().invokeExact();
+	}
+}
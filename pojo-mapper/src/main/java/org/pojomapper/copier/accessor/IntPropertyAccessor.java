@@ -0,0 +1,40 @@
+package org.pojomapper.copier.accessor;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link LambdaPropertyAccessor} of a {@code byte}, {@code short}, {@code char} or {@code int} property which can also
+ * be read as {@code int} and, for {@code int} properties, written without boxing.
+ * <p>
+ * Unlike {@link PropertyAccessor#get} and {@link PropertyAccessor#set} the unboxed getter and setter throw whatever the
+ * bean methods throw.
+ */
+public class IntPropertyAccessor extends LambdaPropertyAccessor {
+
+	private final ToIntFunction<Object> intGetter;
+	private final ObjIntConsumer<Object> intSetter;
+
+	public IntPropertyAccessor(String name, Class<?> type, Function<Object, Object> getter,
+			BiConsumer<Object, Object> setter, ToIntFunction<Object> intGetter, ObjIntConsumer<Object> intSetter) {
+		super(name, type, getter, setter);
+		this.intGetter = intGetter;
+		this.intSetter = intSetter;
+	}
+
+	/**
+	 * @return unboxed getter, {@code null} if the property is not readable
+	 */
+	public ToIntFunction<Object> intGetter() {
+		return intGetter;
+	}
+
+	/**
+	 * @return unboxed setter, {@code null} unless the property is writable and of type {@code int}
+	 */
+	public ObjIntConsumer<Object> intSetter() {
+		return intSetter;
+	}
+}
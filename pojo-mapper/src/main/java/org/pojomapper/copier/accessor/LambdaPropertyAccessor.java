@@ -0,0 +1,99 @@
+package org.pojomapper.copier.accessor;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * {@link PropertyAccessor} calling the JavaBeans read and write methods through classes spun by
+ * {@link java.lang.invoke.LambdaMetafactory}, i.e. plain {@code invokevirtual} getter/setter calls the JIT can inline.
+ */
+public class LambdaPropertyAccessor implements PropertyAccessor {
+
+	private final String name;
+	private final Class<?> type;
+	private final Type genericType;
+	private final Function<Object, Object> getter;
+	private final BiConsumer<Object, Object> setter;
+
+	public LambdaPropertyAccessor(String name, Class<?> type, Function<Object, Object> getter,
+			BiConsumer<Object, Object> setter) {
+		this(name, type, type, getter, setter);
+	}
+
+	public LambdaPropertyAccessor(String name, Class<?> type, Type genericType, Function<Object, Object> getter,
+			BiConsumer<Object, Object> setter) {
+		this.name = name;
+		this.type = type;
+		this.genericType = genericType;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public Class<?> type() {
+		return type;
+	}
+
+	@Override
+	public Type genericType() {
+		return genericType;
+	}
+
+	@Override
+	public boolean readable() {
+		return Objects.nonNull(getter);
+	}
+
+	@Override
+	public boolean writable() {
+		return Objects.nonNull(setter);
+	}
+
+	@Override
+	public Object get(Object bean) {
+		if (Objects.isNull(getter)) {
+			return null;
+		}
+		try {
+			return getter.apply(bean);
+		} catch (Exception e) {
+			// checked exceptions of the bean method pass through the generated class undeclared
+			return null;
+		}
+	}
+
+	@Override
+	public boolean set(Object bean, Object value) {
+		if (Objects.isNull(setter)) {
+			return false;
+		}
+		try {
+			setter.accept(bean, value);
+			return true;
+		} catch (ClassCastException e) {
+			// the generated setter casts to the wrapper type, widen the way Method.invoke would
+			return type.isPrimitive() && setWidened(bean, Primitives.widen(value, type));
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private boolean setWidened(Object bean, Object widened) {
+		if (Objects.isNull(widened)) {
+			return false;
+		}
+		try {
+			setter.accept(bean, widened);
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package org.pojomapper.copier.accessor;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link LambdaPropertyAccessor} of a {@code long} property which can also be read and written without boxing.
+ * <p>
+ * Unlike {@link PropertyAccessor#get} and {@link PropertyAccessor#set} the unboxed getter and setter throw whatever the
+ * bean methods throw.
+ */
+public class LongPropertyAccessor extends LambdaPropertyAccessor {
+
+	private final ToLongFunction<Object> longGetter;
+	private final ObjLongConsumer<Object> longSetter;
+
+	public LongPropertyAccessor(String name, Class<?> type, Function<Object, Object> getter,
+			BiConsumer<Object, Object> setter, ToLongFunction<Object> longGetter,
+			ObjLongConsumer<Object> longSetter) {
+		super(name, type, getter, setter);
+		this.longGetter = longGetter;
+		this.longSetter = longSetter;
+	}
+
+	/**
+	 * @return unboxed getter, {@code null} if the property is not readable
+	 */
+	public ToLongFunction<Object> longGetter() {
+		return longGetter;
+	}
+
+	/**
+	 * @return unboxed setter, {@code null} if the property is not writable
+	 */
+	public ObjLongConsumer<Object> longSetter() {
+		return longSetter;
+	}
+}
@@ -0,0 +1,59 @@
+package org.pojomapper.copier.accessor;
+
+import java.util.Map;
+
+/**
+ * {@link PropertyAccessor} for a single key of a {@link Map} bean: reads are plain {@link Map#get(Object)} lookups, so
+ * a missing key reads as {@code null} (plans skip keys a source map lacks), and writes are
+ * {@link Map#put(Object, Object)} calls. Values are not typed,
+ * {@link #type()} is always {@link Object}.
+ */
+public class MapEntryAccessor implements PropertyAccessor {
+
+	private final String name;
+
+	public MapEntryAccessor(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public Class<?> type() {
+		return Object.class;
+	}
+
+	@Override
+	public boolean readable() {
+		return true;
+	}
+
+	@Override
+	public boolean writable() {
+		return true;
+	}
+
+	@Override
+	public Object get(Object bean) {
+		try {
+			return ((Map<?, ?>) bean).get(name);
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean set(Object bean, Object value) {
+		try {
+			// unmodifiable maps and null values of maps rejecting them
+			((Map<String, Object>) bean).put(name, value);
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package org.pojomapper.copier.accessor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import org.apache.commons.beanutils.MethodUtils;
+
+/**
+ * {@link PropertyAccessor} invoking the JavaBeans read and write methods reflectively.
+ */
+public class MethodPropertyAccessor implements PropertyAccessor {
+
+	private final String name;
+	private final Class<?> type;
+	private final Type genericType;
+	private final Method readMethod;
+	private final Method writeMethod;
+
+	public MethodPropertyAccessor(Class<?> beanClass, PropertyDescriptor descriptor) {
+		this.name = descriptor.getName();
+		this.type = descriptor.getPropertyType();
+		this.genericType = PropertyAccessors.genericType(descriptor);
+		this.readMethod = MethodUtils.getAccessibleMethod(beanClass, descriptor.getReadMethod());
+		this.writeMethod = MethodUtils.getAccessibleMethod(beanClass, descriptor.getWriteMethod());
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public Class<?> type() {
+		return type;
+	}
+
+	@Override
+	public Type genericType() {
+		return genericType;
+	}
+
+	@Override
+	public boolean readable() {
+		return Objects.nonNull(readMethod);
+	}
+
+	@Override
+	public boolean writable() {
+		return Objects.nonNull(writeMethod);
+	}
+
+	@Override
+	public Object get(Object bean) {
+		if (Objects.isNull(readMethod)) {
+			return null;
+		}
+		try {
+			return readMethod.invoke(bean);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean set(Object bean, Object value) {
+		if (Objects.isNull(writeMethod)) {
+			return false;
+		}
+		try {
+			writeMethod.invoke(bean, value);
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+}
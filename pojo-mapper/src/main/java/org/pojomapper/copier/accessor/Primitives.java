@@ -0,0 +1,64 @@
+package org.pojomapper.copier.accessor;
+
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Widening primitive conversions (JLS 5.1.2) as {@link java.lang.reflect.Method#invoke} applies them to arguments.
+ */
+public final class Primitives {
+
+	private static final List<Class<?>> NUMERIC = Arrays.asList(byte.class, short.class, int.class, long.class,
+			float.class, double.class);
+
+	private Primitives() {
+	}
+
+	/**
+	 * @return {@code true} if a value of primitive type {@code from} can be assigned to {@code to} without a cast
+	 */
+	public static boolean isWidening(Class<?> from, Class<?> to) {
+		if (!from.isPrimitive() || !to.isPrimitive()) {
+			return false;
+		}
+		if (from == to) {
+			return true;
+		}
+		int target = NUMERIC.indexOf(to);
+		if (from == char.class) {
+			return target >= NUMERIC.indexOf(int.class);
+		}
+		int source = NUMERIC.indexOf(from);
+		return source >= 0 && target > source;
+	}
+
+	/**
+	 * @return {@code value} converted to the wrapper of primitive {@code type}, or {@code null} if no widening
+	 *         conversion applies
+	 */
+	public static Object widen(Object value, Class<?> type) {
+		if (Objects.isNull(value) || !isWidening(MethodType.methodType(value.getClass()).unwrap().returnType(), type)) {
+			return null;
+		}
+		if (wrap(type).isInstance(value)) {
+			return value;
+		}
+		Number number = value instanceof Character ? Integer.valueOf((Character) value) : (Number) value;
+		if (type == short.class) {
+			return number.shortValue();
+		} else if (type == int.class) {
+			return number.intValue();
+		} else if (type == long.class) {
+			return number.longValue();
+		} else if (type == float.class) {
+			return number.floatValue();
+		}
+		return number.doubleValue();
+	}
+
+	public static Class<?> wrap(Class<?> type) {
+		return MethodType.methodType(type).wrap().returnType();
+	}
+}
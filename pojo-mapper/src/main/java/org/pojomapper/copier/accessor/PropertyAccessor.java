@@ -0,0 +1,31 @@
+package org.pojomapper.copier.accessor;
+
+import java.lang.reflect.Type;
+
+/**
+ * Resolved read/write access to a single property of a class.
+ * <p>
+ * Like {@link org.pojomapper.copier.util.PojoUtil} accessors never throw: a failed read yields {@code null} and a failed
+ * write is reported by returning {@code false}.
+ */
+public interface PropertyAccessor {
+
+	String name();
+
+	Class<?> type();
+
+	/**
+	 * @return declared type with its type arguments, e.g. {@code List<String>}; {@link #type()} where it isn't known
+	 */
+	default Type genericType() {
+		return type();
+	}
+
+	boolean readable();
+
+	boolean writable();
+
+	Object get(Object bean);
+
+	boolean set(Object bean, Object value);
+}
@@ -0,0 +1,138 @@
+package org.pojomapper.copier.accessor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.beanutils.MethodUtils;
+
+/**
+ * Creates {@link PropertyAccessor}s: generated {@link LambdaPropertyAccessor}s where the bean class can be looked up
+ * privately, {@link MethodPropertyAccessor}s otherwise. Numeric primitive properties get {@link IntPropertyAccessor},
+ * {@link LongPropertyAccessor} or {@link DoublePropertyAccessor} with additional unboxed lambdas.
+ * <p>
+ * Generation can be switched off with {@code -Dorg.pojomapper.lambdaAccessors=false}.
+ */
+public final class PropertyAccessors {
+
+	private static final boolean LAMBDA_ACCESSORS = Boolean
+			.parseBoolean(System.getProperty("org.pojomapper.lambdaAccessors", "true"));
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private PropertyAccessors() {
+	}
+
+	public static PropertyAccessor create(Class<?> beanClass, PropertyDescriptor descriptor) {
+		if (LAMBDA_ACCESSORS) {
+			try {
+				return generate(beanClass, descriptor);
+			} catch (Throwable e) {
+				// not accessible from here or not supported by the metafactory, use reflection
+			}
+		}
+		return new MethodPropertyAccessor(beanClass, descriptor);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PropertyAccessor generate(Class<?> beanClass, PropertyDescriptor descriptor) throws Throwable {
+		MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanClass, MethodHandles.lookup());
+		Method readMethod = MethodUtils.getAccessibleMethod(beanClass, descriptor.getReadMethod());
+		Method writeMethod = MethodUtils.getAccessibleMethod(beanClass, descriptor.getWriteMethod());
+		String name = descriptor.getName();
+		Class<?> type = descriptor.getPropertyType();
+		Function<Object, Object> getter = Objects.nonNull(readMethod) ? getter(lookup, beanClass, readMethod) : null;
+		BiConsumer<Object, Object> setter = Objects.nonNull(writeMethod) ? setter(lookup, beanClass, writeMethod) : null;
+		if (Primitives.isWidening(type, int.class)) {
+			Object intGetter = typedGetter(lookup, beanClass, readMethod, ToIntFunction.class, "applyAsInt", int.class);
+			Object intSetter = typedSetter(lookup, beanClass, writeMethod, ObjIntConsumer.class, int.class);
+			return new IntPropertyAccessor(name, type, getter, setter, (ToIntFunction<Object>) intGetter,
+					(ObjIntConsumer<Object>) intSetter);
+		} else if (type == long.class) {
+			Object longGetter = typedGetter(lookup, beanClass, readMethod, ToLongFunction.class, "applyAsLong", long.class);
+			Object longSetter = typedSetter(lookup, beanClass, writeMethod, ObjLongConsumer.class, long.class);
+			return new LongPropertyAccessor(name, type, getter, setter, (ToLongFunction<Object>) longGetter,
+					(ObjLongConsumer<Object>) longSetter);
+		} else if (type == float.class || type == double.class) {
+			Object doubleGetter = typedGetter(lookup, beanClass, readMethod, ToDoubleFunction.class, "applyAsDouble",
+					double.class);
+			Object doubleSetter = typedSetter(lookup, beanClass, writeMethod, ObjDoubleConsumer.class, double.class);
+			return new DoublePropertyAccessor(name, type, getter, setter, (ToDoubleFunction<Object>) doubleGetter,
+					(ObjDoubleConsumer<Object>) doubleSetter);
+		}
+		return new LambdaPropertyAccessor(name, type, genericType(descriptor), getter, setter);
+	}
+
+	/**
+	 * @return generic return type of the read method, or generic parameter type of the write method
+	 */
+	static Type genericType(PropertyDescriptor descriptor) {
+		if (Objects.nonNull(descriptor.getReadMethod())) {
+			return descriptor.getReadMethod().getGenericReturnType();
+		}
+		Method writeMethod = descriptor.getWriteMethod();
+		return Objects.nonNull(writeMethod) ? writeMethod.getGenericParameterTypes()[0] : descriptor.getPropertyType();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> getter(MethodHandles.Lookup lookup, Class<?> beanClass, Method method)
+			throws Throwable {
+		MethodHandle handle = lookup.unreflect(method);
+		CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+				GETTER_TYPE, handle, MethodType.methodType(Primitives.wrap(method.getReturnType()), beanClass));
+		return (Function<Object, Object>) site.getTarget().invokeExact();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> setter(MethodHandles.Lookup lookup, Class<?> beanClass, Method method)
+			throws Throwable {
+		MethodHandle handle = lookup.unreflect(method);
+		CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+				SETTER_TYPE, handle,
+				MethodType.methodType(void.class, beanClass, Primitives.wrap(method.getParameterTypes()[0])));
+		return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+	}
+
+	/**
+	 * Getter returning the primitive {@code lane} type; narrower property types are widened by the metafactory.
+	 */
+	private static Object typedGetter(MethodHandles.Lookup lookup, Class<?> beanClass, Method method,
+			Class<?> functionalInterface, String methodName, Class<?> lane) throws Throwable {
+		if (Objects.isNull(method)) {
+			return null;
+		}
+		CallSite site = LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(functionalInterface),
+				MethodType.methodType(lane, Object.class), lookup.unreflect(method),
+				MethodType.methodType(lane, beanClass));
+		return site.getTarget().invoke();
+	}
+
+	/**
+	 * Setter taking the primitive {@code lane} type, only generated for properties of exactly that type.
+	 */
+	private static Object typedSetter(MethodHandles.Lookup lookup, Class<?> beanClass, Method method,
+			Class<?> functionalInterface, Class<?> lane) throws Throwable {
+		if (Objects.isNull(method) || method.getParameterTypes()[0] != lane) {
+			return null;
+		}
+		CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(functionalInterface),
+				MethodType.methodType(void.class, Object.class, lane), lookup.unreflect(method),
+				MethodType.methodType(void.class, beanClass, lane));
+		return site.getTarget().invoke();
+	}
+}
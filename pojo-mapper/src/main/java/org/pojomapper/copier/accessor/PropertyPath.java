@@ -0,0 +1,279 @@
+package org.pojomapper.copier.accessor;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.beanutils.DynaBean;
+
+/**
+ * Dotted property path such as {@code nestedProp.prop1} or {@code items[0].name}, parsed once. Segments are plain,
+ * indexed ({@code name[0]}, lists and arrays) or mapped ({@code name(key)}, map values); a plain segment of a
+ * {@link Map} or {@link DynaBean} is looked up by name.
+ * <p>
+ * Every segment resolves its accessor by the runtime class of its bean and caches it for the next call with the same
+ * class. {@link #parent(Object, boolean)} walks to the bean holding the last segment, {@link #leaf()} accesses the last
+ * segment on it.
+ */
+public final class PropertyPath {
+
+	private static final Pattern SEGMENT = Pattern.compile("([A-Za-z_$][\\w$]*)(?:\\[(\\d+)]|\\(([^().\\[\\]]*)\\))?");
+
+	private final String path;
+	private final Segment[] parents;
+	private final Segment leaf;
+
+	private PropertyPath(String path, Segment[] parents, Segment leaf) {
+		this.path = path;
+		this.parents = parents;
+		this.leaf = leaf;
+	}
+
+	/**
+	 * @param rootClass
+	 *            declared type of the root bean, the declared types of the segments are resolved from it where
+	 *            possible
+	 * @return the compiled path, or {@code null} if the syntax isn't supported
+	 */
+	public static PropertyPath compile(Class<?> rootClass, String path, AccessStrategy access) {
+		String[] names = path.split("\\.", -1);
+		Segment[] segments = new Segment[names.length];
+		Class<?> type = rootClass;
+		for (int i = 0; i < names.length; i++) {
+			Matcher matcher = SEGMENT.matcher(names[i]);
+			if (!matcher.matches()) {
+				return null;
+			}
+			String name = matcher.group(1);
+			int index = Objects.nonNull(matcher.group(2)) ? Integer.parseInt(matcher.group(2)) : -1;
+			String key = matcher.group(3);
+			Class<?> declared = declaredType(type, name, index, key, access);
+			segments[i] = new Segment(i == names.length - 1 ? path : name, name, index, key, declared, access);
+			type = declared;
+		}
+		return new PropertyPath(path, Arrays.copyOf(segments, segments.length - 1),
+				segments[segments.length - 1]);
+	}
+
+	private static Class<?> declaredType(Class<?> beanType, String name, int index, String key,
+			AccessStrategy access) {
+		if (beanType == Object.class || Map.class.isAssignableFrom(beanType)
+				|| DynaBean.class.isAssignableFrom(beanType)) {
+			return Object.class;
+		}
+		PropertyAccessor accessor = AccessorCache.of(beanType, access).get(name);
+		if (Objects.isNull(accessor)) {
+			return Object.class;
+		}
+		if (index >= 0) {
+			return accessor.type().isArray() ? accessor.type().getComponentType() : Object.class;
+		}
+		return Objects.nonNull(key) ? Object.class : accessor.type();
+	}
+
+	/**
+	 * @param create
+	 *            whether missing intermediate beans are created through their no-arg constructor; indexed and mapped
+	 *            segments are never created
+	 * @return the bean holding the last segment, {@code null} if an intermediate one is missing
+	 */
+	public Object parent(Object root, boolean create) {
+		Object bean = root;
+		for (Segment segment : parents) {
+			Object value = segment.get(bean);
+			if (Objects.isNull(value) && create) {
+				value = segment.create(bean);
+			}
+			if (Objects.isNull(value)) {
+				return null;
+			}
+			bean = value;
+		}
+		return bean;
+	}
+
+	/**
+	 * @return accessor of the last segment on the bean returned by {@link #parent(Object, boolean)}, named like the
+	 *         whole path and typed by the declared type of the segment, {@link Object} where it isn't known
+	 */
+	public PropertyAccessor leaf() {
+		return leaf;
+	}
+
+	/**
+	 * @param parent
+	 *            bean returned by {@link #parent(Object, boolean)}
+	 * @return whether the last segment names a property of it, always for maps and {@link DynaBean}s
+	 */
+	public boolean resolves(Object parent) {
+		return leaf.resolves(parent);
+	}
+
+	public String path() {
+		return path;
+	}
+
+	@Override
+	public String toString() {
+		return path;
+	}
+
+	private static final class Segment implements PropertyAccessor {
+
+		private final String displayName;
+		private final String name;
+		private final int index;
+		private final String key;
+		private final Class<?> type;
+		private final AccessStrategy access;
+		private Resolved resolved;
+
+		Segment(String displayName, String name, int index, String key, Class<?> type, AccessStrategy access) {
+			this.displayName = displayName;
+			this.name = name;
+			this.index = index;
+			this.key = key;
+			this.type = type;
+			this.access = access;
+		}
+
+		@Override
+		public String name() {
+			return displayName;
+		}
+
+		@Override
+		public Class<?> type() {
+			return type;
+		}
+
+		@Override
+		public boolean readable() {
+			return true;
+		}
+
+		@Override
+		public boolean writable() {
+			return true;
+		}
+
+		@Override
+		public Object get(Object bean) {
+			Object value = property(bean);
+			if (Objects.isNull(value)) {
+				return null;
+			}
+			if (index >= 0) {
+				return element(value);
+			}
+			if (Objects.nonNull(key)) {
+				return value instanceof Map ? ((Map<?, ?>) value).get(key) : null;
+			}
+			return value;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean set(Object bean, Object value) {
+			try {
+				if (index < 0 && Objects.isNull(key)) {
+					return setProperty(bean, value);
+				}
+				Object container = property(bean);
+				if (container instanceof Map && Objects.nonNull(key)) {
+					((Map<String, Object>) container).put(key, value);
+				} else if (container instanceof List && index >= 0) {
+					((List<Object>) container).set(index, value);
+				} else if (Objects.nonNull(container) && container.getClass().isArray() && index >= 0) {
+					Array.set(container, index, value);
+				} else {
+					return false;
+				}
+				return true;
+			} catch (RuntimeException e) {
+				return false;
+			}
+		}
+
+		Object create(Object bean) {
+			if (index >= 0 || Objects.nonNull(key) || type == Object.class) {
+				return null;
+			}
+			Object value = Instantiators.newInstance(type);
+			try {
+				return Objects.nonNull(value) && setProperty(bean, value) ? value : null;
+			} catch (RuntimeException e) {
+				return null;
+			}
+		}
+
+		boolean resolves(Object bean) {
+			return bean instanceof Map || bean instanceof DynaBean || Objects.nonNull(accessor(bean));
+		}
+
+		private Object property(Object bean) {
+			if (bean instanceof Map) {
+				return ((Map<?, ?>) bean).get(name);
+			}
+			if (bean instanceof DynaBean) {
+				try {
+					return ((DynaBean) bean).get(name);
+				} catch (RuntimeException e) {
+					return null;
+				}
+			}
+			PropertyAccessor accessor = accessor(bean);
+			return Objects.nonNull(accessor) ? accessor.get(bean) : null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private boolean setProperty(Object bean, Object value) {
+			if (bean instanceof Map) {
+				((Map<String, Object>) bean).put(name, value);
+				return true;
+			}
+			if (bean instanceof DynaBean) {
+				((DynaBean) bean).set(name, value);
+				return true;
+			}
+			PropertyAccessor accessor = accessor(bean);
+			return Objects.nonNull(accessor) && accessor.set(bean, value);
+		}
+
+		private Object element(Object container) {
+			if (container instanceof List) {
+				List<?> list = (List<?>) container;
+				return index < list.size() ? list.get(index) : null;
+			}
+			if (container.getClass().isArray()) {
+				return index < Array.getLength(container) ? Array.get(container, index) : null;
+			}
+			return null;
+		}
+
+		private PropertyAccessor accessor(Object bean) {
+			Resolved current = resolved;
+			if (Objects.isNull(current) || current.beanClass != bean.getClass()) {
+				// racy, but every thread resolves the same accessor for a class
+				current = new Resolved(bean.getClass(), AccessorCache.of(bean.getClass(), access).get(name));
+				resolved = current;
+			}
+			return current.accessor;
+		}
+	}
+
+	private static final class Resolved {
+
+		private final Class<?> beanClass;
+		private final PropertyAccessor accessor;
+
+		Resolved(Class<?> beanClass, PropertyAccessor accessor) {
+			this.beanClass = beanClass;
+			this.accessor = accessor;
+		}
+	}
+}
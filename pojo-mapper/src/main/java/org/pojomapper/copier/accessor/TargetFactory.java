@@ -0,0 +1,418 @@
+package org.pojomapper.copier.accessor;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates instances of a target class, cached per class. In order of preference:
+ * <ul>
+ * <li>a no-arg constructor of a class with writable properties (or a {@link Map}), properties are then set on the
+ * instance;</li>
+ * <li>the canonical constructor of a record;</li>
+ * <li>a static {@code builder()} method returning a builder with a {@code build()} method, properties are set through
+ * its {@code name(value)}, {@code setName(value)} or {@code withName(value)} methods;</li>
+ * <li>the public constructor with the most parameters whose names are known, from {@link ConstructorProperties} or
+ * classes compiled with {@code -parameters}.</li>
+ * </ul>
+ * The last three collect the values in an argument array first, one {@link #properties()} accessor per argument, and
+ * create the instance in one call through cached method handles. Arguments never written keep the builder default,
+ * {@code null} or zero.
+ */
+public abstract class TargetFactory {
+
+	private static final Object UNSET = new Object();
+
+	private static final TargetFactory NONE = new TargetFactory(null, null) {
+		@Override
+		public Object newTarget() {
+			return null;
+		}
+
+		@Override
+		public Object create(Object target) {
+			return null;
+		}
+	};
+
+	private static final ClassValue<TargetFactory> FACTORIES = new ClassValue<TargetFactory>() {
+		@Override
+		protected TargetFactory computeValue(Class<?> type) {
+			return resolve(type);
+		}
+	};
+
+	private final Class<?> targetClass;
+	private final ClassAccessors properties;
+
+	private TargetFactory(Class<?> targetClass, ClassAccessors properties) {
+		this.targetClass = targetClass;
+		this.properties = properties;
+	}
+
+	/**
+	 * @return the factory, or {@code null} if instances of {@code type} can't be created
+	 */
+	public static TargetFactory of(Class<?> type) {
+		TargetFactory factory = FACTORIES.get(type);
+		return factory == NONE ? null : factory;
+	}
+
+	/**
+	 * @return accessors writing the elements of an {@code Object[]} by name, the way plans collect constructor and
+	 *         builder arguments; unwritten {@code null} elements read as {@code null}
+	 */
+	public static ClassAccessors arguments(String[] names, Class<?>[] types, Type[] genericTypes) {
+		List<PropertyAccessor> arguments = new ArrayList<>(names.length);
+		for (int i = 0; i < names.length; i++) {
+			arguments.add(new ArgumentAccessor(names[i], types[i], genericTypes[i], i));
+		}
+		return new ClassAccessors(Object[].class, arguments);
+	}
+
+	public Class<?> targetClass() {
+		return targetClass;
+	}
+
+	/**
+	 * @return properties a plan writes to the objects returned by {@link #newTarget()}
+	 */
+	public ClassAccessors properties() {
+		return properties;
+	}
+
+	/**
+	 * @return whether {@link #newTarget()} is the instance itself rather than an argument array
+	 */
+	public boolean isBean() {
+		return false;
+	}
+
+	/**
+	 * @return a new instance or argument array to write the properties to
+	 */
+	public abstract Object newTarget();
+
+	/**
+	 * @return the instance for a {@link #newTarget()} after its properties have been written
+	 */
+	public abstract Object create(Object target);
+
+	private static TargetFactory resolve(Class<?> type) {
+		if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+			return NONE;
+		}
+		if (Instantiators.isInstantiable(type) && (Map.class.isAssignableFrom(type) || hasSetters(type))) {
+			return new BeanFactory(type);
+		}
+		try {
+			if (type.isRecord()) {
+				RecordComponent[] components = type.getRecordComponents();
+				Constructor<?> constructor = type.getDeclaredConstructor(
+						Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+				return new ConstructorFactory(type, constructor,
+						Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new));
+			}
+			TargetFactory builder = BuilderFactory.resolve(type);
+			if (Objects.nonNull(builder)) {
+				return builder;
+			}
+			Constructor<?> widest = null;
+			for (Constructor<?> constructor : type.getConstructors()) {
+				if (Objects.nonNull(names(constructor))
+						&& (Objects.isNull(widest) || constructor.getParameterCount() > widest.getParameterCount())) {
+					widest = constructor;
+				}
+			}
+			return Objects.isNull(widest) ? NONE : new ConstructorFactory(type, widest, names(widest));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return NONE;
+		}
+	}
+
+	private static boolean hasSetters(Class<?> type) {
+		return AccessorCache.of(type, AccessStrategy.AUTO).all().stream().anyMatch(PropertyAccessor::writable);
+	}
+
+	private static String[] names(Constructor<?> constructor) {
+		ConstructorProperties properties = constructor.getAnnotation(ConstructorProperties.class);
+		if (Objects.nonNull(properties)) {
+			return properties.value().length == constructor.getParameterCount() ? properties.value() : null;
+		}
+		Parameter[] parameters = constructor.getParameters();
+		if (parameters.length == 0 || !parameters[0].isNamePresent()) {
+			return null;
+		}
+		return Arrays.stream(parameters).map(Parameter::getName).toArray(String[]::new);
+	}
+
+	private static MethodHandle unreflect(Class<?> type, Executable executable) throws IllegalAccessException {
+		MethodHandles.Lookup lookup;
+		try {
+			lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+		} catch (IllegalAccessException e) {
+			// not opened to this module, try reflection
+			executable.setAccessible(true);
+			lookup = MethodHandles.lookup();
+		}
+		return executable instanceof Constructor ? lookup.unreflectConstructor((Constructor<?>) executable)
+				: lookup.unreflect((Method) executable);
+	}
+
+	private static RuntimeException rethrow(Class<?> type, Throwable e) {
+		if (e instanceof RuntimeException) {
+			return (RuntimeException) e;
+		}
+		if (e instanceof Error) {
+			throw (Error) e;
+		}
+		return new IllegalStateException("Can't create " + type.getName(), e);
+	}
+
+	private static final class BeanFactory extends TargetFactory {
+
+		BeanFactory(Class<?> type) {
+			super(type, AccessorCache.of(type));
+		}
+
+		@Override
+		public boolean isBean() {
+			return true;
+		}
+
+		@Override
+		public Object newTarget() {
+			return Instantiators.newInstance(targetClass());
+		}
+
+		@Override
+		public Object create(Object target) {
+			return target;
+		}
+	}
+
+	/**
+	 * Abstract base of the factories collecting their values in an argument array.
+	 */
+	private abstract static class ArgumentFactory extends TargetFactory {
+
+		private final Object[] template;
+
+		ArgumentFactory(Class<?> type, String[] names, Class<?>[] types, Type[] genericTypes) {
+			super(type, arguments(names, types, genericTypes.length == types.length ? genericTypes : types));
+			this.template = new Object[names.length];
+			Arrays.fill(template, UNSET);
+		}
+
+		@Override
+		public Object newTarget() {
+			return template.clone();
+		}
+	}
+
+	private static final class ConstructorFactory extends ArgumentFactory {
+
+		private final MethodHandle constructor;
+		private final Object[] defaults;
+
+		ConstructorFactory(Class<?> type, Constructor<?> constructor, String[] names) throws IllegalAccessException {
+			super(type, names, constructor.getParameterTypes(), constructor.getGenericParameterTypes());
+			Class<?>[] types = constructor.getParameterTypes();
+			this.constructor = unreflect(type, constructor).asSpreader(Object[].class, types.length)
+					.asType(MethodType.methodType(Object.class, Object[].class));
+			this.defaults = new Object[types.length];
+			for (int i = 0; i < types.length; i++) {
+				defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+			}
+		}
+
+		@Override
+		public Object create(Object target) {
+			Object[] arguments = (Object[]) target;
+			for (int i = 0; i < arguments.length; i++) {
+				if (arguments[i] == UNSET) {
+					arguments[i] = defaults[i];
+				}
+			}
+			try {
+				return (Object) constructor.invokeExact(arguments);
+			} catch (Throwable e) {
+				throw rethrow(targetClass(), e);
+			}
+		}
+	}
+
+	private static final class BuilderFactory extends ArgumentFactory {
+
+		private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+		private static final MethodType BUILD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		private final MethodHandle builder;
+		private final MethodHandle[] setters;
+		private final MethodHandle build;
+
+		BuilderFactory(Class<?> type, Method builder, Method[] setters, String[] names, Method build)
+				throws IllegalAccessException {
+			super(type, names, Arrays.stream(setters).map(setter -> setter.getParameterTypes()[0])
+					.toArray(Class<?>[]::new), Arrays.stream(setters).map(setter -> setter.getGenericParameterTypes()[0])
+					.toArray(Type[]::new));
+			this.builder = unreflect(type, builder).asType(MethodType.methodType(Object.class));
+			this.setters = new MethodHandle[setters.length];
+			for (int i = 0; i < setters.length; i++) {
+				this.setters[i] = unreflect(builder.getReturnType(), setters[i]).asType(SETTER_TYPE);
+			}
+			this.build = unreflect(builder.getReturnType(), build).asType(BUILD_TYPE);
+		}
+
+		static TargetFactory resolve(Class<?> type) throws IllegalAccessException {
+			Method builder;
+			Method build;
+			try {
+				builder = type.getMethod("builder");
+				build = builder.getReturnType().getMethod("build");
+			} catch (NoSuchMethodException e) {
+				return null;
+			}
+			if (!Modifier.isStatic(builder.getModifiers()) || !type.isAssignableFrom(build.getReturnType())) {
+				return null;
+			}
+			Map<String, Method> setters = new LinkedHashMap<>();
+			Method[] methods = builder.getReturnType().getMethods();
+			// overloads are resolved the same way on every run
+			Arrays.sort(methods, Comparator.comparing(Method::toString));
+			for (Method method : methods) {
+				String name = propertyName(method, builder.getReturnType());
+				if (Objects.nonNull(name) && (!setters.containsKey(name) || matchesField(type, name, method))) {
+					setters.put(name, method);
+				}
+			}
+			return new BuilderFactory(type, builder, setters.values().toArray(new Method[0]),
+					setters.keySet().toArray(new String[0]), build);
+		}
+
+		private static String propertyName(Method method, Class<?> builderClass) {
+			if (method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())
+					|| method.getDeclaringClass() == Object.class
+					|| !(method.getReturnType() == void.class || builderClass.isAssignableFrom(method.getReturnType()))) {
+				return null;
+			}
+			String name = method.getName();
+			for (String prefix : new String[] { "set", "with" }) {
+				if (name.length() > prefix.length() && name.startsWith(prefix)
+						&& Character.isUpperCase(name.charAt(prefix.length()))) {
+					return Character.toLowerCase(name.charAt(prefix.length())) + name.substring(prefix.length() + 1);
+				}
+			}
+			return name;
+		}
+
+		private static boolean matchesField(Class<?> type, String name, Method method) {
+			for (Class<?> clazz = type; Objects.nonNull(clazz); clazz = clazz.getSuperclass()) {
+				for (Field field : clazz.getDeclaredFields()) {
+					if (field.getName().equals(name)) {
+						return field.getType() == method.getParameterTypes()[0];
+					}
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Object create(Object target) {
+			Object[] arguments = (Object[]) target;
+			try {
+				Object instance = builder.invokeExact();
+				for (int i = 0; i < arguments.length; i++) {
+					if (arguments[i] != UNSET) {
+						setters[i].invokeExact(instance, arguments[i]);
+					}
+				}
+				return (Object) build.invokeExact(instance);
+			} catch (Throwable e) {
+				throw rethrow(targetClass(), e);
+			}
+		}
+	}
+
+	/**
+	 * Slot of an argument array. Values are checked against the argument type, so a failed write is reported instead of
+	 * failing the whole call; primitives accept what {@link Primitives#widen(Object, Class)} converts.
+	 */
+	private static final class ArgumentAccessor implements PropertyAccessor {
+
+		private final String name;
+		private final Class<?> type;
+		private final Type genericType;
+		private final Class<?> wrapper;
+		private final int index;
+
+		ArgumentAccessor(String name, Class<?> type, Type genericType, int index) {
+			this.name = name;
+			this.type = type;
+			this.genericType = genericType;
+			this.wrapper = Primitives.wrap(type);
+			this.index = index;
+		}
+
+		@Override
+		public String name() {
+			return name;
+		}
+
+		@Override
+		public Class<?> type() {
+			return type;
+		}
+
+		@Override
+		public Type genericType() {
+			return genericType;
+		}
+
+		@Override
+		public boolean readable() {
+			return true;
+		}
+
+		@Override
+		public boolean writable() {
+			return true;
+		}
+
+		@Override
+		public Object get(Object bean) {
+			Object value = ((Object[]) bean)[index];
+			return value == UNSET ? null : value;
+		}
+
+		@Override
+		public boolean set(Object bean, Object value) {
+			Object argument = value;
+			if (Objects.isNull(argument) ? type.isPrimitive() : !wrapper.isInstance(argument)) {
+				argument = type.isPrimitive() ? Primitives.widen(argument, type) : null;
+				if (Objects.isNull(argument)) {
+					return false;
+				}
+			}
+			((Object[]) bean)[index] = argument;
+			return true;
+		}
+	}
+}
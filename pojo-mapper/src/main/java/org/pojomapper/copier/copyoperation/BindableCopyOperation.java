@@ -0,0 +1,22 @@
+package org.pojomapper.copier.copyoperation;
+
+import org.pojomapper.copier.plan.PropertyBinding;
+import org.pojomapper.copier.plan.PropertyCopy;
+
+/**
+ * Two-phase counterpart of {@link PerPropertyCopyOperation}: decides once per plan whether it handles a property pair
+ * and returns the {@link PropertyCopy} run on every call, so nothing is probed per copy.
+ * <p>
+ * Operations registered with {@code Copier.operation} or {@code MappingSpecBuilder.operation} are asked before the
+ * built-in ones, in registration order. They are part of the plan key and compared with {@code equals}, so keep
+ * instances around instead of creating one per copy. Operations which also implement {@link PerPropertyCopyOperation}
+ * take part in the per-call chain of nested paths and map sources as well.
+ */
+public interface BindableCopyOperation {
+
+	/**
+	 * @return the copy for this property pair, {@link PropertyCopy#NONE} to leave it out of the plan, or {@code null}
+	 *         to let the next operation decide
+	 */
+	PropertyCopy bind(PropertyBinding binding);
+}
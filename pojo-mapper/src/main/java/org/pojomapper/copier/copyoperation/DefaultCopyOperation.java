@@ -0,0 +1,47 @@
+package org.pojomapper.copier.copyoperation;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.Source;
+import org.pojomapper.copier.plan.ContainerPropertyCopy;
+import org.pojomapper.copier.plan.DefaultPropertyCopy;
+import org.pojomapper.copier.plan.PrimitivePropertyCopy;
+import org.pojomapper.copier.plan.PropertyBinding;
+import org.pojomapper.copier.plan.PropertyCopy;
+import org.pojomapper.copier.util.PojoUtil;
+
+/**
+ * @author Sergey_Smolyarchuk
+ */
+public class DefaultCopyOperation implements PerPropertyCopyOperation, BindableCopyOperation {
+
+	@Override
+	public PropertyCopy bind(PropertyBinding binding) {
+		if (binding.typeConverter() < 0 && binding.read().type().isPrimitive()
+				&& binding.write().type().isPrimitive()) {
+			return PrimitivePropertyCopy.create(binding.read(), binding.write(), binding.options());
+		}
+		if (binding.typeConverter() < 0) {
+			PropertyCopy container = ContainerPropertyCopy.create(binding.read(), binding.write(), binding.options());
+			if (Objects.nonNull(container)) {
+				return container;
+			}
+		}
+		return new DefaultPropertyCopy(binding.read(), binding.write(), binding.options(), binding.typeConverter());
+	}
+
+	@Override
+	public boolean copy(Source source, Object target, String fromProp, String toProp) {
+		if (PojoUtil.hasProperty(source.from(), fromProp) && PojoUtil.hasProperty(target, toProp)) {
+			Object valueToWrite = PojoUtil.get(source.from(), fromProp);
+			if (Objects.isNull(valueToWrite) && source.skipNulls()) {
+				return false;
+			}
+			if (source.rewrite() || Objects.isNull(PojoUtil.get(target, toProp))) {
+				PojoUtil.set(target, toProp, valueToWrite, source.converters());
+				return true;
+			}
+		}
+		return false;
+	}
+}
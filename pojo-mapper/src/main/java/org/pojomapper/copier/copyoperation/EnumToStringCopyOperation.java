@@ -0,0 +1,91 @@
+package org.pojomapper.copier.copyoperation;
+
+import java.beans.PropertyDescriptor;
+import java.util.Objects;
+
+import org.apache.commons.beanutils.PropertyUtils;
+import org.pojomapper.copier.Source;
+import org.pojomapper.copier.enums.EnumCodec;
+import org.pojomapper.copier.enums.EnumStrategy;
+import org.pojomapper.copier.plan.EnumToEnumPropertyCopy;
+import org.pojomapper.copier.plan.EnumToIntPropertyCopy;
+import org.pojomapper.copier.plan.EnumToStringPropertyCopy;
+import org.pojomapper.copier.plan.IntToEnumPropertyCopy;
+import org.pojomapper.copier.plan.MappingOptions;
+import org.pojomapper.copier.plan.PropertyBinding;
+import org.pojomapper.copier.plan.PropertyCopy;
+import org.pojomapper.copier.plan.StringToEnumPropertyCopy;
+import org.pojomapper.copier.util.PojoUtil;
+
+/**
+ * Enum conversions. Plans bind enum to and from {@link String} by the {@link EnumStrategy} of their options, enum to
+ * and from {@code int}/{@link Integer} by ordinal and enums of different types to each other; the per-call chain only
+ * converts enum to and from {@link String} by name.
+ */
+public class EnumToStringCopyOperation implements PerPropertyCopyOperation, BindableCopyOperation {
+
+	@Override
+	public PropertyCopy bind(PropertyBinding binding) {
+		if (binding.typeConverter() >= 0) {
+			return null;
+		}
+		Class<?> fromType = binding.read().type();
+		Class<?> toType = binding.write().type();
+		MappingOptions options = binding.options();
+		if (fromType.isEnum() && toType == String.class) {
+			return new EnumToStringPropertyCopy(binding.read(), binding.write(), options);
+		}
+		if (toType.isEnum() && (fromType == String.class || fromType == Object.class)) {
+			// untyped values (map entries and the like) are decoded like strings unless they are constants already
+			return new StringToEnumPropertyCopy(binding.read(), binding.write(), options);
+		}
+		if (fromType.isEnum() && toType.isEnum() && fromType != toType) {
+			return new EnumToEnumPropertyCopy(binding.read(), binding.write(), options);
+		}
+		if (fromType.isEnum() && (toType == int.class || toType == Integer.class)) {
+			return new EnumToIntPropertyCopy(binding.read(), binding.write(), options);
+		}
+		if (toType.isEnum() && (fromType == int.class || fromType == Integer.class)) {
+			return new IntToEnumPropertyCopy(binding.read(), binding.write(), options);
+		}
+		return null;
+	}
+
+	@Override
+	public boolean copy(Source source, Object target, String fromProp, String toProp) {
+		if (PojoUtil.hasProperty(source.from(), fromProp) && PojoUtil.hasProperty(target, toProp)) {
+			Object valueToWrite = PojoUtil.get(source.from(), fromProp);
+			if (source.rewrite() || Objects.isNull(PojoUtil.get(target, toProp))) {
+				PropertyDescriptor fromPropDescr = findPropertyDescriptor(source.from(), fromProp);
+				PropertyDescriptor toPropDescr = findPropertyDescriptor(target, toProp);
+				if (fromPropDescr.getPropertyType().isEnum() && toPropDescr.getPropertyType() == String.class) {
+					PojoUtil.set(target, toProp, valueToWrite != null ? valueToWrite.toString() : null);
+					return true;
+				}
+				if (toPropDescr.getPropertyType().isEnum() && fromPropDescr.getPropertyType() == String.class) {
+					Class<?> enumClass = toPropDescr.getPropertyType();
+					PojoUtil.set(target, toProp,
+							valueToWrite != null ? valueOf(enumClass, valueToWrite.toString()) : null);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static Enum<?> valueOf(Class<?> enumClass, String name) {
+		Enum<?> constant = EnumCodec.of(enumClass).decode(name, EnumStrategy.NAME);
+		if (constant == null) {
+			throw new IllegalArgumentException("No enum constant " + enumClass.getCanonicalName() + "." + name);
+		}
+		return constant;
+	}
+
+	private PropertyDescriptor findPropertyDescriptor(Object obj, String prop) {
+		try {
+			return PropertyUtils.getPropertyDescriptor(obj, prop);
+		} catch (Exception e) {
+			throw new UnsupportedOperationException(e);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package org.pojomapper.copier.copyoperation;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.pojomapper.copier.Source;
+import org.pojomapper.copier.plan.PropertyBinding;
+import org.pojomapper.copier.plan.PropertyCopy;
+
+public class IgnoreCopyOperation implements PerPropertyCopyOperation, BindableCopyOperation {
+
+	private Set<String> ignores = new HashSet<>();
+
+	public IgnoreCopyOperation(Set<String> ignores) {
+		this.ignores = ignores;
+	}
+
+	@Override
+	public boolean copy(Source source, Object target, String fromProp, String toProp) {
+		return ignores.contains(fromProp) || ignores.contains(toProp);
+	}
+
+	@Override
+	public PropertyCopy bind(PropertyBinding binding) {
+		return ignores.contains(binding.read().name()) || ignores.contains(binding.write().name()) ? PropertyCopy.NONE
+				: null;
+	}
+
+	/**
+	 * Equal for the same ignores, so instances created per copy share the cached plan.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof IgnoreCopyOperation && ignores.equals(((IgnoreCopyOperation) obj).ignores);
+	}
+
+	@Override
+	public int hashCode() {
+		return ignores.hashCode();
+	}
+}
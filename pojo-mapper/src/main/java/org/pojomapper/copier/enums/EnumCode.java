@@ -0,0 +1,16 @@
+package org.pojomapper.copier.enums;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * External code of an enum constant used by {@link EnumStrategy#CODE}. Constants without it use their name.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface EnumCode {
+
+	String value();
+}
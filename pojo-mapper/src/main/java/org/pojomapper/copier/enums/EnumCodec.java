@@ -0,0 +1,147 @@
+package org.pojomapper.copier.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Lookup tables of one enum type, computed once per class: the string of every constant for each
+ * {@link EnumStrategy} and the reverse maps. Decoding never throws, unknown values yield {@code null}.
+ * <p>
+ * {@code toString()} of the constants is taken once, so it has to be constant for {@link EnumStrategy#NAME}.
+ */
+public final class EnumCodec {
+
+	private static final ClassValue<EnumCodec> CODECS = new ClassValue<EnumCodec>() {
+		@Override
+		protected EnumCodec computeValue(Class<?> type) {
+			return new EnumCodec(type);
+		}
+	};
+
+	private final Class<?> enumClass;
+	private final Enum<?>[] constants;
+	private final String[][] encoded = new String[EnumStrategy.values().length][];
+	private final Map<String, Enum<?>> byName = new HashMap<>();
+	private final Map<String, Enum<?>> byNameIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	private final Map<String, Enum<?>> byCode = new HashMap<>();
+
+	private EnumCodec(Class<?> enumClass) {
+		this.enumClass = enumClass;
+		this.constants = (Enum<?>[]) enumClass.getEnumConstants();
+		for (EnumStrategy strategy : EnumStrategy.values()) {
+			encoded[strategy.ordinal()] = new String[constants.length];
+		}
+		for (Enum<?> constant : constants) {
+			String code = code(constant);
+			encoded[EnumStrategy.NAME.ordinal()][constant.ordinal()] = constant.toString();
+			encoded[EnumStrategy.NAME_IGNORE_CASE.ordinal()][constant.ordinal()] = constant.toString();
+			encoded[EnumStrategy.ORDINAL.ordinal()][constant.ordinal()] = String.valueOf(constant.ordinal());
+			encoded[EnumStrategy.CODE.ordinal()][constant.ordinal()] = code;
+			byName.put(constant.name(), constant);
+			byNameIgnoreCase.putIfAbsent(constant.name(), constant);
+			byCode.put(code, constant);
+		}
+	}
+
+	/**
+	 * @param enumClass
+	 *            an enum type, constants with a body of their own are handled by their declaring class
+	 */
+	public static EnumCodec of(Class<?> enumClass) {
+		if (!enumClass.isEnum()) {
+			throw new IllegalArgumentException(enumClass + " is not an enum");
+		}
+		return CODECS.get(enumClass);
+	}
+
+	public Class<?> enumClass() {
+		return enumClass;
+	}
+
+	/**
+	 * @return string of every constant indexed by ordinal, shared and not to be modified
+	 */
+	public String[] encodings(EnumStrategy strategy) {
+		return encoded[strategy.ordinal()];
+	}
+
+	public String encode(Enum<?> constant, EnumStrategy strategy) {
+		return Objects.isNull(constant) ? null : encoded[strategy.ordinal()][constant.ordinal()];
+	}
+
+	/**
+	 * @return the constant {@code value} stands for, {@code null} if there is none
+	 */
+	public Enum<?> decode(String value, EnumStrategy strategy) {
+		if (Objects.isNull(value)) {
+			return null;
+		}
+		switch (strategy) {
+		case NAME:
+			return byName.get(value);
+		case NAME_IGNORE_CASE:
+			Enum<?> constant = byName.get(value);
+			return Objects.nonNull(constant) ? constant : byNameIgnoreCase.get(value);
+		case ORDINAL:
+			return fromOrdinal(parseOrdinal(value));
+		case CODE:
+			return byCode.get(value);
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * @return the constant with this ordinal, {@code null} if out of range
+	 */
+	public Enum<?> fromOrdinal(int ordinal) {
+		return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+	}
+
+	/**
+	 * @return constants of {@code target} matching the constants of this enum by {@code strategy}, indexed by ordinal
+	 *         of this enum, {@code null} where nothing matches
+	 */
+	public Enum<?>[] translation(EnumCodec target, EnumStrategy strategy) {
+		Enum<?>[] table = new Enum<?>[constants.length];
+		for (Enum<?> constant : constants) {
+			switch (strategy) {
+			case ORDINAL:
+				table[constant.ordinal()] = target.fromOrdinal(constant.ordinal());
+				break;
+			case CODE:
+				table[constant.ordinal()] = target.decode(encode(constant, EnumStrategy.CODE), EnumStrategy.CODE);
+				break;
+			default:
+				table[constant.ordinal()] = target.decode(constant.name(), strategy);
+			}
+		}
+		return table;
+	}
+
+	private static int parseOrdinal(String value) {
+		if (value.isEmpty() || value.length() > 9) {
+			return -1;
+		}
+		int ordinal = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char digit = value.charAt(i);
+			if (digit < '0' || digit > '9') {
+				return -1;
+			}
+			ordinal = ordinal * 10 + (digit - '0');
+		}
+		return ordinal;
+	}
+
+	private static String code(Enum<?> constant) {
+		try {
+			EnumCode code = constant.getDeclaringClass().getField(constant.name()).getAnnotation(EnumCode.class);
+			return Objects.nonNull(code) ? code.value() : constant.name();
+		} catch (NoSuchFieldException e) {
+			return constant.name();
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package org.pojomapper.copier.enums;
+
+/**
+ * What is done with a value no enum constant matches.
+ */
+public enum EnumFallback {
+
+	/**
+	 * Throw an {@link IllegalArgumentException}, as {@link Enum#valueOf} does. The default.
+	 */
+	FAIL,
+
+	/**
+	 * Write {@code null}.
+	 */
+	NULL,
+
+	/**
+	 * Leave the target property as it is.
+	 */
+	SKIP
+}
@@ -0,0 +1,28 @@
+package org.pojomapper.copier.enums;
+
+/**
+ * How enum constants are matched to strings and to the constants of another enum type.
+ */
+public enum EnumStrategy {
+
+	/**
+	 * {@code toString()} when writing a string, exact {@code name()} when reading one. The default, same as
+	 * {@link Enum#valueOf}.
+	 */
+	NAME,
+
+	/**
+	 * Like {@link #NAME}, names are read ignoring case.
+	 */
+	NAME_IGNORE_CASE,
+
+	/**
+	 * Decimal ordinal.
+	 */
+	ORDINAL,
+
+	/**
+	 * {@link EnumCode} of the constant, its name if it has none.
+	 */
+	CODE
+}
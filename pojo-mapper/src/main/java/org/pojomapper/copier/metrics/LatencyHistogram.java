@@ -0,0 +1,65 @@
+package org.pojomapper.copier.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of nanosecond latencies with power-of-two buckets: bucket {@code i} counts values below
+ * {@code 2^i}. Percentiles are reported as the upper bound of their bucket, i.e. within a factor of two.
+ */
+public final class LatencyHistogram {
+
+	private static final int BUCKETS = 64;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder total = new LongAdder();
+
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		buckets.incrementAndGet(Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(value)));
+		total.add(value);
+	}
+
+	public long count() {
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			count += buckets.get(i);
+		}
+		return count;
+	}
+
+	public long totalNanos() {
+		return total.sum();
+	}
+
+	public long meanNanos() {
+		long count = count();
+		return count == 0 ? 0 : totalNanos() / count;
+	}
+
+	/**
+	 * @param percentile
+	 *            between 0 and 100
+	 * @return upper bound of the bucket holding the percentile, 0 if nothing was recorded
+	 */
+	public long percentileNanos(double percentile) {
+		long[] counts = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets.get(i);
+			count += counts[i];
+		}
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= Math.max(1, rank)) {
+				return i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << i;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+}
@@ -0,0 +1,50 @@
+package org.pojomapper.copier.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event committed by {@link MappingMetrics} for mappings slower than its threshold.
+ */
+@Name("org.pojomapper.Mapping")
+@Label("Slow Mapping")
+@Category("POJO Mapper")
+@Description("Mapping of a source into a target slower than the configured threshold")
+@StackTrace(false)
+class MappingEvent extends jdk.jfr.Event {
+
+	@Label("Source Class")
+	Class<?> sourceClass;
+
+	@Label("Target Class")
+	Class<?> targetClass;
+
+	@Label("Properties")
+	int properties;
+
+	@Label("Dropped Writes")
+	int droppedWrites;
+
+	@Label("Mapping Duration")
+	@Timespan(Timespan.NANOSECONDS)
+	long mappingDuration;
+
+	/**
+	 * Kept here so {@link MappingMetrics} links against Flight Recorder classes only when it emits events.
+	 */
+	static void commit(Class<?> sourceClass, Class<?> targetClass, int properties, int droppedWrites, long nanos) {
+		MappingEvent event = new MappingEvent();
+		if (event.isEnabled()) {
+			event.sourceClass = sourceClass;
+			event.targetClass = targetClass;
+			event.properties = properties;
+			event.droppedWrites = droppedWrites;
+			event.mappingDuration = nanos;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package org.pojomapper.copier.metrics;
+
+/**
+ * Observes mappings once registered with {@link MappingListeners#add}. Called on the mapping thread, so
+ * implementations have to be thread-safe and cheap.
+ */
+public interface MappingListener {
+
+	/**
+	 * A source has been copied into a target by a plan of {@code properties} entries.
+	 *
+	 * @param droppedWrites
+	 *            writes which failed and were swallowed during this copy
+	 */
+	default void mapped(Class<?> sourceClass, Class<?> targetClass, int properties, int droppedWrites, long nanos) {
+	}
+
+	/**
+	 * A property write failed and was swallowed.
+	 *
+	 * @param cause
+	 *            the swallowed exception, {@code null} if the accessor just reported the failure
+	 */
+	default void writeDropped(Class<?> targetClass, String property, Throwable cause) {
+	}
+}
@@ -0,0 +1,45 @@
+package org.pojomapper.copier.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Global registry of {@link MappingListener}s. Without listeners mappings are not timed at all.
+ */
+public final class MappingListeners {
+
+	private static final MappingListener[] NONE = new MappingListener[0];
+
+	private static volatile MappingListener[] listeners = NONE;
+
+	private MappingListeners() {
+	}
+
+	public static synchronized void add(MappingListener listener) {
+		MappingListener[] current = listeners;
+		MappingListener[] added = Arrays.copyOf(current, current.length + 1);
+		added[current.length] = Objects.requireNonNull(listener);
+		listeners = added;
+	}
+
+	public static synchronized void remove(MappingListener listener) {
+		listeners = Arrays.stream(listeners).filter(l -> l != listener).toArray(MappingListener[]::new);
+	}
+
+	public static boolean isEnabled() {
+		return listeners.length > 0;
+	}
+
+	public static void mapped(Class<?> sourceClass, Class<?> targetClass, int properties, int droppedWrites,
+			long nanos) {
+		for (MappingListener listener : listeners) {
+			listener.mapped(sourceClass, targetClass, properties, droppedWrites, nanos);
+		}
+	}
+
+	public static void writeDropped(Class<?> targetClass, String property, Throwable cause) {
+		for (MappingListener listener : listeners) {
+			listener.writeDropped(targetClass, property, cause);
+		}
+	}
+}
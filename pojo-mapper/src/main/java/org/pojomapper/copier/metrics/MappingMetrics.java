@@ -0,0 +1,92 @@
+package org.pojomapper.copier.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in {@link MappingListener} keeping {@link PairMetrics} per source/target class pair:
+ *
+ * <pre>
+ * MappingMetrics metrics = new MappingMetrics(Duration.ofMillis(1));
+ * MappingListeners.add(metrics);
+ * ...
+ * metrics.snapshot().forEach(System.out::println);
+ * </pre>
+ *
+ * With a threshold every mapping taking at least that long is also committed as an {@code org.pojomapper.Mapping}
+ * Flight Recorder event, if a recording has it enabled.
+ */
+public class MappingMetrics implements MappingListener {
+
+	private final Map<Class<?>, Map<Class<?>, PairMetrics>> pairs = new ConcurrentHashMap<>();
+	private final LongAdder droppedWrites = new LongAdder();
+	private final long jfrThresholdNanos;
+
+	public MappingMetrics() {
+		this.jfrThresholdNanos = -1;
+	}
+
+	/**
+	 * @param jfrThreshold
+	 *            minimum duration of mappings reported to Flight Recorder
+	 */
+	public MappingMetrics(Duration jfrThreshold) {
+		this.jfrThresholdNanos = isFlightRecorderAvailable() ? jfrThreshold.toNanos() : -1;
+	}
+
+	@Override
+	public void mapped(Class<?> sourceClass, Class<?> targetClass, int properties, int droppedWrites, long nanos) {
+		pairs.computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>())
+				.computeIfAbsent(targetClass, key -> new PairMetrics(sourceClass, key))
+				.record(properties, droppedWrites, nanos);
+		if (jfrThresholdNanos >= 0 && nanos >= jfrThresholdNanos) {
+			MappingEvent.commit(sourceClass, targetClass, properties, droppedWrites, nanos);
+		}
+	}
+
+	@Override
+	public void writeDropped(Class<?> targetClass, String property, Throwable cause) {
+		droppedWrites.increment();
+	}
+
+	/**
+	 * @return metrics of the pair, {@code null} if it hasn't been mapped yet
+	 */
+	public PairMetrics get(Class<?> sourceClass, Class<?> targetClass) {
+		Map<Class<?>, PairMetrics> targets = pairs.get(sourceClass);
+		return targets == null ? null : targets.get(targetClass);
+	}
+
+	public List<PairMetrics> snapshot() {
+		List<PairMetrics> result = new ArrayList<>();
+		for (Map<Class<?>, PairMetrics> targets : pairs.values()) {
+			result.addAll(targets.values());
+		}
+		return result;
+	}
+
+	/**
+	 * @return all dropped writes, including those outside of plans, e.g. direct {@code PojoUtil.set} calls
+	 */
+	public long droppedWrites() {
+		return droppedWrites.sum();
+	}
+
+	public void reset() {
+		pairs.clear();
+		droppedWrites.reset();
+	}
+
+	private static boolean isFlightRecorderAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
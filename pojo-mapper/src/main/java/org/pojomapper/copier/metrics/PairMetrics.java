@@ -0,0 +1,62 @@
+package org.pojomapper.copier.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one source/target class pair, updated by {@link MappingMetrics}.
+ */
+public final class PairMetrics {
+
+	private final Class<?> sourceClass;
+	private final Class<?> targetClass;
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder properties = new LongAdder();
+	private final LongAdder droppedWrites = new LongAdder();
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	PairMetrics(Class<?> sourceClass, Class<?> targetClass) {
+		this.sourceClass = sourceClass;
+		this.targetClass = targetClass;
+	}
+
+	void record(int properties, int droppedWrites, long nanos) {
+		this.calls.increment();
+		this.properties.add(properties);
+		this.droppedWrites.add(droppedWrites);
+		this.latency.record(nanos);
+	}
+
+	public Class<?> sourceClass() {
+		return sourceClass;
+	}
+
+	public Class<?> targetClass() {
+		return targetClass;
+	}
+
+	public long calls() {
+		return calls.sum();
+	}
+
+	/**
+	 * @return plan entries run over all calls
+	 */
+	public long properties() {
+		return properties.sum();
+	}
+
+	public long droppedWrites() {
+		return droppedWrites.sum();
+	}
+
+	public LatencyHistogram latency() {
+		return latency;
+	}
+
+	@Override
+	public String toString() {
+		return sourceClass.getName() + " -> " + targetClass.getName() + ": calls=" + calls() + ", properties="
+				+ properties() + ", droppedWrites=" + droppedWrites() + ", meanNanos=" + latency.meanNanos()
+				+ ", p99Nanos=" + latency.percentileNanos(99);
+	}
+}
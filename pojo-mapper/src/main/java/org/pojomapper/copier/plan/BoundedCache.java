@@ -0,0 +1,49 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Concurrent cache holding at most {@code limit} entries. Hits are plain {@link ConcurrentHashMap} reads; a miss beyond
+ * the limit evicts an arbitrary other entry, which is cheaper than tracking recency and good enough for caches whose
+ * keys come and go with callers.
+ */
+final class BoundedCache<K, V> {
+
+	private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<>();
+	private final int limit;
+
+	BoundedCache(int limit) {
+		this.limit = Math.max(1, limit);
+	}
+
+	V get(K key) {
+		return entries.get(key);
+	}
+
+	V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+		V value = entries.get(key);
+		if (Objects.nonNull(value)) {
+			return value;
+		}
+		value = entries.computeIfAbsent(key, factory);
+		Iterator<K> keys = entries.keySet().iterator();
+		while (entries.size() > limit && keys.hasNext()) {
+			if (!keys.next().equals(key)) {
+				keys.remove();
+			}
+		}
+		return value;
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	void clear() {
+		entries.clear();
+	}
+}
@@ -0,0 +1,86 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Target properties written by a copy: a bit per {@link MappingPlan} entry plus the target property name of every
+ * entry. With {@link MappingOptions#dirtyCheck()} these are exactly the properties whose value changed.
+ * <p>
+ * Change sets of several sources are {@link #merge merged} by appending the entries of the next plan.
+ */
+public final class ChangeSet {
+
+	public static final ChangeSet EMPTY = new ChangeSet(new String[0], new BitSet());
+
+	private final String[] names;
+	private final BitSet changed;
+
+	ChangeSet(String[] names, BitSet changed) {
+		this.names = names;
+		this.changed = changed;
+	}
+
+	public boolean isEmpty() {
+		return changed.isEmpty();
+	}
+
+	/**
+	 * @return number of changed plan entries
+	 */
+	public int size() {
+		return changed.cardinality();
+	}
+
+	public boolean isChanged(int index) {
+		return changed.get(index);
+	}
+
+	public boolean isChanged(String name) {
+		for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+			if (names[i].equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return copy of the bits, indexed by plan entry
+	 */
+	public BitSet bits() {
+		return (BitSet) changed.clone();
+	}
+
+	/**
+	 * @return names of the changed target properties in plan order
+	 */
+	public Set<String> names() {
+		if (changed.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<String> result = new LinkedHashSet<>();
+		for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+			result.add(names[i]);
+		}
+		return Collections.unmodifiableSet(result);
+	}
+
+	public ChangeSet merge(ChangeSet next) {
+		String[] mergedNames = Arrays.copyOf(names, names.length + next.names.length);
+		System.arraycopy(next.names, 0, mergedNames, names.length, next.names.length);
+		BitSet merged = (BitSet) changed.clone();
+		for (int i = next.changed.nextSetBit(0); i >= 0; i = next.changed.nextSetBit(i + 1)) {
+			merged.set(names.length + i);
+		}
+		return new ChangeSet(mergedNames, merged);
+	}
+
+	@Override
+	public String toString() {
+		return names().toString();
+	}
+}
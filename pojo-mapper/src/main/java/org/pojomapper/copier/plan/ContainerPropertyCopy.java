@@ -0,0 +1,77 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.util.PojoUtil;
+
+/**
+ * Copies a collection, array or map property into a new container of the target property type, converting every
+ * element by the declared element types of both properties: {@code List<A>} to {@code List<B>} maps the elements with
+ * one plan, {@code int[]} to {@code List<Integer>} boxes them, and so on. Containers are sized to the source.
+ * <p>
+ * Properties the target accepts as they are keep being shared (or deep copied), as with {@link DefaultPropertyCopy}.
+ * Enum elements no constant matches follow the {@link org.pojomapper.copier.enums.EnumFallback}, other failed
+ * conversions drop the write.
+ */
+public class ContainerPropertyCopy implements PropertyCopy {
+
+	private final PropertyAccessor read;
+	private final PropertyAccessor write;
+	private final ElementConverter converter;
+	private final boolean rewrite;
+	private final boolean skipNulls;
+	private final boolean dirtyCheck;
+
+	private ContainerPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options,
+			ElementConverter converter) {
+		this.read = read;
+		this.write = write;
+		this.converter = converter;
+		this.rewrite = options.rewrite();
+		this.skipNulls = options.skipNulls();
+		this.dirtyCheck = options.dirtyCheck();
+	}
+
+	/**
+	 * @return the copy, or {@code null} if the properties aren't both containers, the target accepts the source as it
+	 *         is, or the elements can't be converted
+	 */
+	public static PropertyCopy create(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		if (!ElementConverter.isContainer(read.type()) || !ElementConverter.isContainer(write.type())) {
+			return null;
+		}
+		ElementConverter converter = ElementConverter.ContainerConverter.of(read.genericType(), write.genericType(),
+				options);
+		return Objects.isNull(converter) || converter.keeps() ? null
+				: new ContainerPropertyCopy(read, write, options, converter);
+	}
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		Object value = read.get(from);
+		if (Objects.isNull(value) && skipNulls) {
+			return false;
+		}
+		if (rewrite || Objects.isNull(write.get(to))) {
+			Object converted;
+			try {
+				converted = PojoUtil.convert(converter.convert(value, context), context.converters());
+				if (dirtyCheck && DirtyCheck.isUnchanged(write, to, converted)) {
+					return false;
+				}
+			} catch (ElementConverter.NoEnumConstant e) {
+				throw e;
+			} catch (RuntimeException e) {
+				context.writeDropped(to, write.name(), e);
+				return false;
+			}
+			if (!write.set(to, converted)) {
+				context.writeDropped(to, write.name(), null);
+				return false;
+			}
+			return true;
+		}
+		return false;
+	}
+}
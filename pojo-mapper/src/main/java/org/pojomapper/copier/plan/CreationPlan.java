@@ -0,0 +1,32 @@
+package org.pojomapper.copier.plan;
+
+import org.pojomapper.copier.accessor.TargetFactory;
+
+/**
+ * {@link MappingPlan} writing to a target created by a {@link TargetFactory}: straight into a new bean, or into the
+ * argument array of a constructor or builder, which is called once all values are collected.
+ */
+public class CreationPlan {
+
+	private final TargetFactory factory;
+	private final MappingPlan plan;
+
+	public CreationPlan(TargetFactory factory, MappingPlan plan) {
+		this.factory = factory;
+		this.plan = plan;
+	}
+
+	public Object create(Object from, MappingContext context) {
+		Object target = factory.newTarget();
+		plan.copy(from, target, context);
+		return factory.create(target);
+	}
+
+	public TargetFactory factory() {
+		return factory;
+	}
+
+	public MappingPlan plan() {
+		return plan;
+	}
+}
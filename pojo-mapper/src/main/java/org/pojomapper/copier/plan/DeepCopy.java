@@ -0,0 +1,207 @@
+package org.pojomapper.copier.plan;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.pojomapper.copier.accessor.Instantiators;
+
+/**
+ * Recursive copy of property values for {@link MappingOptions#deep()} plans. Objects are looked up in the
+ * {@link MappingContext} first, so shared references are copied once and cycles terminate.
+ * <p>
+ * JDK types other than collections, maps and arrays (strings, numbers, {@code java.time} and the like) and enums are
+ * treated as values and kept. The mutable ones among them, {@link Date} and its {@code java.sql} subclasses,
+ * {@link Calendar}, {@link BitSet}, string builders and the scalar atomics, are copied. Beans are instantiated
+ * through their no-arg constructor and copied with a plan of their own; a bean which can't be instantiated is kept as
+ * is.
+ */
+public final class DeepCopy {
+
+	private static final Set<String> DEFAULT_IGNORES = Collections.singleton("class");
+	private static final MappingOptions OPTIONS = MappingOptions.DEFAULT.deep(true);
+
+	private static final ClassValue<Boolean> VALUE_TYPES = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			if (type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+				return false;
+			}
+			String name = type.getName();
+			return type.isPrimitive() || Enum.class.isAssignableFrom(type) || name.startsWith("java.")
+					|| name.startsWith("javax.");
+		}
+	};
+
+	private static final ClassValue<Boolean> MUTABLE_VALUES = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			return Date.class.isAssignableFrom(type) || Calendar.class.isAssignableFrom(type) || type == BitSet.class
+					|| type == StringBuilder.class || type == StringBuffer.class || type == AtomicBoolean.class
+					|| type == AtomicInteger.class || type == AtomicLong.class || type == AtomicReference.class;
+		}
+	};
+
+	private DeepCopy() {
+	}
+
+	/**
+	 * @return whether instances of {@code type} are values rather than beans or containers
+	 */
+	static boolean isValue(Class<?> type) {
+		return VALUE_TYPES.get(type);
+	}
+
+	/**
+	 * @param targetType
+	 *            declared type of the property the copy is written to
+	 */
+	public static Object copy(Object value, Class<?> targetType, MappingContext context) {
+		if (Objects.isNull(value) || VALUE_TYPES.get(value.getClass()) && !MUTABLE_VALUES.get(value.getClass())) {
+			return value;
+		}
+		Object copy = context.copyOf(value);
+		if (Objects.nonNull(copy)) {
+			return copy;
+		}
+		if (MUTABLE_VALUES.get(value.getClass())) {
+			return copyMutableValue(value, context);
+		}
+		if (value.getClass().isArray()) {
+			return copyArray(value, context);
+		}
+		if (value instanceof Collection) {
+			return copyCollection((Collection<?>) value, targetType, context);
+		}
+		if (value instanceof Map) {
+			return copyMap((Map<?, ?>) value, targetType, context);
+		}
+		return copyBean(value, targetType, context);
+	}
+
+	private static Object copyMutableValue(Object value, MappingContext context) {
+		Object copy;
+		if (value instanceof Date) {
+			// clone() keeps the subclass, e.g. the nanos of a java.sql.Timestamp
+			copy = ((Date) value).clone();
+		} else if (value instanceof Calendar) {
+			copy = ((Calendar) value).clone();
+		} else if (value instanceof BitSet) {
+			copy = ((BitSet) value).clone();
+		} else if (value instanceof StringBuilder) {
+			copy = new StringBuilder((StringBuilder) value);
+		} else if (value instanceof StringBuffer) {
+			copy = new StringBuffer((StringBuffer) value);
+		} else if (value instanceof AtomicBoolean) {
+			copy = new AtomicBoolean(((AtomicBoolean) value).get());
+		} else if (value instanceof AtomicInteger) {
+			copy = new AtomicInteger(((AtomicInteger) value).get());
+		} else if (value instanceof AtomicLong) {
+			copy = new AtomicLong(((AtomicLong) value).get());
+		} else {
+			AtomicReference<Object> reference = new AtomicReference<>();
+			context.registerCopy(value, reference);
+			reference.set(copy(((AtomicReference<?>) value).get(), Object.class, context));
+			return reference;
+		}
+		context.registerCopy(value, copy);
+		return copy;
+	}
+
+	private static Object copyBean(Object value, Class<?> targetType, MappingContext context) {
+		Class<?> valueClass = value.getClass();
+		Object copy = null;
+		if (targetType.isAssignableFrom(valueClass)) {
+			copy = Instantiators.newInstance(valueClass);
+		}
+		if (Objects.isNull(copy) && targetType != Object.class) {
+			copy = Instantiators.newInstance(targetType);
+		}
+		if (Objects.isNull(copy)) {
+			return value;
+		}
+		context.registerCopy(value, copy);
+		MappingPlanCache.get(new MappingPlanKey(valueClass, copy.getClass(), Collections.emptyMap(), DEFAULT_IGNORES,
+				OPTIONS)).copy(value, copy, context);
+		return copy;
+	}
+
+	private static Object copyArray(Object value, MappingContext context) {
+		Class<?> componentType = value.getClass().getComponentType();
+		int length = Array.getLength(value);
+		Object copy = Array.newInstance(componentType, length);
+		if (componentType.isPrimitive()) {
+			System.arraycopy(value, 0, copy, 0, length);
+			return copy;
+		}
+		context.registerCopy(value, copy);
+		Object[] source = (Object[]) value;
+		Object[] target = (Object[]) copy;
+		for (int i = 0; i < length; i++) {
+			target[i] = copy(source[i], componentType, context);
+		}
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object copyCollection(Collection<?> value, Class<?> targetType, MappingContext context) {
+		Collection<Object> copy;
+		if (value instanceof SortedSet) {
+			copy = new TreeSet<>((Comparator<Object>) ((SortedSet<?>) value).comparator());
+		} else {
+			copy = (Collection<Object>) Instantiators.newInstance(value.getClass());
+		}
+		if (Objects.isNull(copy) || !targetType.isInstance(copy)) {
+			if (value instanceof Set) {
+				copy = new LinkedHashSet<>(Math.max(16, (int) (value.size() / .75f) + 1));
+			} else if (value instanceof Deque) {
+				copy = new ArrayDeque<>(value.size());
+			} else {
+				copy = new ArrayList<>(value.size());
+			}
+		}
+		context.registerCopy(value, copy);
+		for (Object element : value) {
+			copy.add(copy(element, Object.class, context));
+		}
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object copyMap(Map<?, ?> value, Class<?> targetType, MappingContext context) {
+		Map<Object, Object> copy;
+		if (value instanceof SortedMap) {
+			copy = new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) value).comparator());
+		} else {
+			copy = (Map<Object, Object>) Instantiators.newInstance(value.getClass());
+		}
+		if (Objects.isNull(copy) || !targetType.isInstance(copy)) {
+			copy = new LinkedHashMap<>(Math.max(16, (int) (value.size() / .75f) + 1));
+		}
+		context.registerCopy(value, copy);
+		for (Map.Entry<?, ?> entry : value.entrySet()) {
+			copy.put(copy(entry.getKey(), Object.class, context), copy(entry.getValue(), Object.class, context));
+		}
+		return copy;
+	}
+}
@@ -0,0 +1,73 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.util.PojoUtil;
+
+/**
+ * Plan counterpart of {@link org.pojomapper.copier.copyoperation.DefaultCopyOperation}. A typed converter resolved for
+ * the property pair runs on non-null values before the source converters.
+ */
+public class DefaultPropertyCopy implements PropertyCopy {
+
+	private final PropertyAccessor read;
+	private final PropertyAccessor write;
+	private final boolean rewrite;
+	private final boolean skipNulls;
+	private final boolean deep;
+	private final boolean dirtyCheck;
+	private final int typeConverter;
+
+	public DefaultPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		this(read, write, options, -1);
+	}
+
+	/**
+	 * @param typeConverter
+	 *            index of the {@link MappingContext#typeConverter(int)} to apply, {@code -1} for none
+	 */
+	public DefaultPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options,
+			int typeConverter) {
+		this.read = read;
+		this.write = write;
+		this.rewrite = options.rewrite();
+		this.skipNulls = options.skipNulls();
+		this.deep = options.deep();
+		this.dirtyCheck = options.dirtyCheck();
+		this.typeConverter = typeConverter;
+	}
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		Object valueToWrite = read.get(from);
+		if (Objects.isNull(valueToWrite) && skipNulls) {
+			return false;
+		}
+		if (rewrite || Objects.isNull(write.get(to))) {
+			Object converted;
+			try {
+				converted = typeConverter < 0 || Objects.isNull(valueToWrite) ? valueToWrite
+						: context.typeConverter(typeConverter).apply(valueToWrite);
+				converted = PojoUtil.convert(converted, context.converters());
+				// compared before a deep copy, which would never be equal by identity
+				if (dirtyCheck && DirtyCheck.isUnchanged(write, to, converted)) {
+					return false;
+				}
+				if (deep) {
+					converted = DeepCopy.copy(converted, write.type(), context);
+				}
+			} catch (RuntimeException e) {
+				// converter failures are swallowed the same way PojoUtil.set does
+				context.writeDropped(to, write.name(), e);
+				return false;
+			}
+			if (!write.set(to, converted)) {
+				context.writeDropped(to, write.name(), null);
+				return false;
+			}
+			return true;
+		}
+		return false;
+	}
+}
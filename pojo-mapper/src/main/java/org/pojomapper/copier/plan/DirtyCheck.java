@@ -0,0 +1,33 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.Primitives;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+
+/**
+ * Comparison of a value about to be written with the current target value for {@link MappingOptions#dirtyCheck()}.
+ */
+final class DirtyCheck {
+
+	private DirtyCheck() {
+	}
+
+	/**
+	 * @return {@code true} if writing {@code value} would not change the target property; write-only properties are
+	 *         always written
+	 */
+	static boolean isUnchanged(PropertyAccessor write, Object to, Object value) {
+		if (!write.readable()) {
+			return false;
+		}
+		Object current = write.get(to);
+		if (write.type().isPrimitive() && Objects.nonNull(value)) {
+			// the setter widens int to long and the like, compare what would end up in the target
+			Object widened = Primitives.widen(value, write.type());
+			return Objects.nonNull(widened) && widened.equals(current);
+		}
+		// arrays are created per call by element conversions, compare their contents
+		return Objects.deepEquals(current, value);
+	}
+}
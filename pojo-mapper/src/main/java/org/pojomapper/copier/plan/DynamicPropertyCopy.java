@@ -0,0 +1,58 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.pojomapper.copier.Source;
+import org.pojomapper.copier.copyoperation.PerPropertyCopyOperation;
+import org.pojomapper.copier.util.PojoUtil;
+
+/**
+ * Fallback for properties which can't be resolved up front (nested, indexed or mapped paths, {@link java.util.Map}
+ * and {@link org.apache.commons.beanutils.DynaBean} instances): runs the {@link PerPropertyCopyOperation} chain on
+ * every call.
+ */
+public class DynamicPropertyCopy implements PropertyCopy {
+
+	private final String fromProp;
+	private final String toProp;
+	private final boolean rewrite;
+	private final boolean skipNulls;
+	private final boolean dirtyCheck;
+	private final List<PerPropertyCopyOperation> copyOperations;
+
+	public DynamicPropertyCopy(String fromProp, String toProp, boolean rewrite, boolean skipNulls,
+			List<PerPropertyCopyOperation> copyOperations) {
+		this(fromProp, toProp, MappingOptions.DEFAULT.rewrite(rewrite).skipNulls(skipNulls), copyOperations);
+	}
+
+	/**
+	 * With {@link MappingOptions#dirtyCheck()} the chain still writes, the property only counts as written if its value
+	 * differs afterwards.
+	 */
+	public DynamicPropertyCopy(String fromProp, String toProp, MappingOptions options,
+			List<PerPropertyCopyOperation> copyOperations) {
+		this.fromProp = fromProp;
+		this.toProp = toProp;
+		this.rewrite = options.rewrite();
+		this.skipNulls = options.skipNulls();
+		this.dirtyCheck = options.dirtyCheck();
+		this.copyOperations = copyOperations;
+	}
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		Source source = new Source(from);
+		source.rewrite(rewrite);
+		source.skipNulls(skipNulls);
+		source.converters().addAll(Arrays.asList(context.converters()));
+		Object current = dirtyCheck ? PojoUtil.get(to, toProp) : null;
+		for (PerPropertyCopyOperation operation : copyOperations) {
+			if (operation.copy(source, to, fromProp, toProp)) {
+				return !dirtyCheck || !Objects.equals(current, PojoUtil.get(to, toProp));
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,510 @@
+package org.pojomapper.copier.plan;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+import org.pojomapper.copier.accessor.Instantiators;
+import org.pojomapper.copier.accessor.Primitives;
+import org.pojomapper.copier.accessor.TargetFactory;
+import org.pojomapper.copier.enums.EnumCodec;
+import org.pojomapper.copier.enums.EnumFallback;
+import org.pojomapper.copier.enums.EnumStrategy;
+
+/**
+ * Conversion of a single value between two declared types, resolved once per property pair by
+ * {@link #of(Type, Type, MappingOptions)}: kept as is, widened, enum to and from {@link String}, enum to enum, a bean
+ * mapped by the {@link CreationPlan} of its runtime class, or a collection, array or map converted element by
+ * element.
+ * <p>
+ * Failed conversions throw, the {@link PropertyCopy} using them reports the write as dropped. Values no enum constant
+ * matches follow the {@link EnumFallback} instead: {@link NoEnumConstant} is thrown, {@code null} is returned or the
+ * element is {@link #SKIP skipped}.
+ */
+abstract class ElementConverter {
+
+	/**
+	 * Returned for an element to leave out of the container.
+	 */
+	static final Object SKIP = new Object();
+
+	private static final Set<String> DEFAULT_IGNORES = Collections.singleton("class");
+
+	abstract Object convert(Object value, MappingContext context);
+
+	/**
+	 * @return whether values are kept as they are, apart from deep copies
+	 */
+	boolean keeps() {
+		return false;
+	}
+
+	/**
+	 * @return the converter, or {@code null} if values of {@code from} can't be converted to {@code to}
+	 */
+	static ElementConverter of(Type from, Type to, MappingOptions options) {
+		Class<?> fromRaw = raw(from);
+		Class<?> toRaw = raw(to);
+		if (isContainer(fromRaw) && isContainer(toRaw)) {
+			return ContainerConverter.of(from, to, options);
+		}
+		if (toRaw == Object.class || Primitives.wrap(toRaw).isAssignableFrom(Primitives.wrap(fromRaw))) {
+			return new Keep(toRaw, options.deep());
+		}
+		if (isContainer(fromRaw) || isContainer(toRaw) || fromRaw == Object.class) {
+			return null;
+		}
+		Class<?> fromPrimitive = unwrap(fromRaw);
+		Class<?> toPrimitive = unwrap(toRaw);
+		if (Primitives.isWidening(fromPrimitive, toPrimitive)) {
+			return new Widen(toPrimitive);
+		}
+		if (fromRaw.isEnum() && toRaw == String.class) {
+			return new EnumToString(options.enumStrategy());
+		}
+		if (toRaw.isEnum() && fromRaw == String.class) {
+			return new StringToEnum(EnumCodec.of(toRaw), options.enumStrategy(), options.enumFallback());
+		}
+		if (fromRaw.isEnum() && toRaw.isEnum()) {
+			return new EnumToEnum(toRaw, EnumCodec.of(fromRaw).translation(EnumCodec.of(toRaw), options.enumStrategy()),
+					options.enumFallback());
+		}
+		if (!DeepCopy.isValue(fromRaw) && !DeepCopy.isValue(toRaw) && Objects.nonNull(TargetFactory.of(toRaw))) {
+			return new BeanConverter(toRaw, options);
+		}
+		return null;
+	}
+
+	static boolean isContainer(Class<?> type) {
+		return type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+	}
+
+	static Class<?> raw(Type type) {
+		if (type instanceof Class) {
+			return (Class<?>) type;
+		}
+		if (type instanceof ParameterizedType) {
+			return raw(((ParameterizedType) type).getRawType());
+		}
+		if (type instanceof GenericArrayType) {
+			return Array.newInstance(raw(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+		}
+		if (type instanceof WildcardType) {
+			return raw(((WildcardType) type).getUpperBounds()[0]);
+		}
+		if (type instanceof TypeVariable) {
+			return raw(((TypeVariable<?>) type).getBounds()[0]);
+		}
+		return Object.class;
+	}
+
+	/**
+	 * @return type argument {@code index} of a parameterized JDK container type, {@link Object} where it isn't known
+	 */
+	static Type argument(Type type, int index) {
+		if (type instanceof ParameterizedType && raw(type).getName().startsWith("java.")) {
+			Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+			return index < arguments.length ? arguments[index] : Object.class;
+		}
+		return Object.class;
+	}
+
+	static Type component(Type type) {
+		return type instanceof GenericArrayType ? ((GenericArrayType) type).getGenericComponentType()
+				: raw(type).getComponentType();
+	}
+
+	/**
+	 * @return the element standing in for {@code value}, which no constant of {@code enumClass} matches
+	 */
+	private static Object fallback(EnumFallback fallback, Class<?> enumClass, Object value) {
+		switch (fallback) {
+		case SKIP:
+			return SKIP;
+		case NULL:
+			return null;
+		default:
+			throw new NoEnumConstant("No enum constant " + enumClass.getCanonicalName() + "." + value);
+		}
+	}
+
+	private static Class<?> unwrap(Class<?> type) {
+		for (Class<?> primitive : Arrays.asList(byte.class, short.class, char.class, int.class, long.class,
+				float.class, double.class)) {
+			if (Primitives.wrap(primitive) == type) {
+				return primitive;
+			}
+		}
+		return type;
+	}
+
+	private static final class Keep extends ElementConverter {
+
+		private final Class<?> type;
+		private final boolean deep;
+
+		Keep(Class<?> type, boolean deep) {
+			this.type = type;
+			this.deep = deep;
+		}
+
+		@Override
+		Object convert(Object value, MappingContext context) {
+			return deep ? DeepCopy.copy(value, type, context) : value;
+		}
+
+		@Override
+		boolean keeps() {
+			return true;
+		}
+	}
+
+	private static final class Widen extends ElementConverter {
+
+		private final Class<?> type;
+
+		Widen(Class<?> type) {
+			this.type = type;
+		}
+
+		@Override
+		Object convert(Object value, MappingContext context) {
+			return Objects.isNull(value) ? null : Primitives.widen(value, type);
+		}
+	}
+
+	private static final class EnumToString extends ElementConverter {
+
+		private final EnumStrategy strategy;
+
+		EnumToString(EnumStrategy strategy) {
+			this.strategy = strategy;
+		}
+
+		@Override
+		Object convert(Object value, MappingContext context) {
+			return Objects.isNull(value) ? null : EnumCodec.of(value.getClass()).encode((Enum<?>) value, strategy);
+		}
+	}
+
+	private static final class StringToEnum extends ElementConverter {
+
+		private final EnumCodec codec;
+		private final EnumStrategy strategy;
+		private final EnumFallback fallback;
+
+		StringToEnum(EnumCodec codec, EnumStrategy strategy, EnumFallback fallback) {
+			this.codec = codec;
+			this.strategy = strategy;
+			this.fallback = fallback;
+		}
+
+		@Override
+		Object convert(Object value, MappingContext context) {
+			if (Objects.isNull(value)) {
+				return null;
+			}
+			Enum<?> constant = codec.decode(value.toString(), strategy);
+			return Objects.nonNull(constant) ? constant : fallback(fallback, codec.enumClass(), value);
+		}
+	}
+
+	private static final class EnumToEnum extends ElementConverter {
+
+		private final Class<?> enumClass;
+		private final Enum<?>[] translation;
+		private final EnumFallback fallback;
+
+		EnumToEnum(Class<?> enumClass, Enum<?>[] translation, EnumFallback fallback) {
+			this.enumClass = enumClass;
+			this.translation = translation;
+			this.fallback = fallback;
+		}
+
+		@Override
+		Object convert(Object value, MappingContext context) {
+			if (Objects.isNull(value)) {
+				return null;
+			}
+			Enum<?> constant = translation[((Enum<?>) value).ordinal()];
+			return Objects.nonNull(constant) ? constant : fallback(fallback, enumClass, value);
+		}
+	}
+
+	/**
+	 * Maps beans with the creation plan of their runtime class, the last one is cached since elements of a container
+	 * mostly share their class.
+	 */
+	private static final class BeanConverter extends ElementConverter {
+
+		private final Class<?> type;
+		private final MappingOptions options;
+		private Resolved resolved;
+
+		BeanConverter(Class<?> type, MappingOptions options) {
+			this.type = type;
+			this.options = options;
+		}
+
+		@Override
+		Object convert(Object value, MappingContext context) {
+			if (Objects.isNull(value)) {
+				return null;
+			}
+			Object copy = options.deep() ? context.copyOf(value) : null;
+			if (Objects.nonNull(copy)) {
+				return copy;
+			}
+			Resolved current = resolved;
+			if (Objects.isNull(current) || current.sourceClass != value.getClass()) {
+				// racy, but every thread resolves the same plan for a class
+				current = new Resolved(value.getClass(), MappingPlanCache.creation(
+						new MappingPlanKey(value.getClass(), type, Collections.emptyMap(), DEFAULT_IGNORES, options)));
+				resolved = current;
+			}
+			copy = current.plan.create(value, context);
+			if (options.deep()) {
+				context.registerCopy(value, copy);
+			}
+			return copy;
+		}
+	}
+
+	private static final class Resolved {
+
+		private final Class<?> sourceClass;
+		private final CreationPlan plan;
+
+		Resolved(Class<?> sourceClass, CreationPlan plan) {
+			this.sourceClass = sourceClass;
+			this.plan = plan;
+		}
+	}
+
+	/**
+	 * Collection, array or map converted into a new container of the target type, sized to the source. Maps convert
+	 * keys and values, collections and arrays convert into each other.
+	 */
+	static final class ContainerConverter extends ElementConverter {
+
+		private final IntFunction<Object> factory;
+		private final ElementConverter elements;
+		private final ElementConverter keys;
+		private final boolean bulk;
+
+		private ContainerConverter(IntFunction<Object> factory, ElementConverter elements, ElementConverter keys,
+				boolean deep) {
+			this.factory = factory;
+			this.elements = elements;
+			this.keys = keys;
+			// elements kept by reference are copied in bulk, e.g. through the backing array of an ArrayList
+			this.bulk = elements.keeps() && !deep;
+		}
+
+		/**
+		 * @return the converter, a keeping one if {@code to} accepts {@code from} with its elements as they are, or
+		 *         {@code null} if they can't be converted
+		 */
+		static ElementConverter of(Type from, Type to, MappingOptions options) {
+			Class<?> fromRaw = raw(from);
+			Class<?> toRaw = raw(to);
+			boolean fromMap = Map.class.isAssignableFrom(fromRaw);
+			if (fromMap != Map.class.isAssignableFrom(toRaw)) {
+				return null;
+			}
+			ElementConverter elements = fromMap ? ElementConverter.of(argument(from, 1), argument(to, 1), options)
+					: ElementConverter.of(elementType(from), elementType(to), options);
+			ElementConverter keys = fromMap ? ElementConverter.of(argument(from, 0), argument(to, 0), options) : null;
+			if (Objects.isNull(elements) || fromMap && Objects.isNull(keys)) {
+				return null;
+			}
+			if (toRaw.isAssignableFrom(fromRaw) && elements.keeps() && (!fromMap || keys.keeps())) {
+				return new Keep(toRaw, options.deep());
+			}
+			IntFunction<Object> factory = factory(toRaw);
+			return Objects.isNull(factory) ? null : new ContainerConverter(factory, elements, keys, options.deep());
+		}
+
+		private static Type elementType(Type type) {
+			return raw(type).isArray() ? component(type) : argument(type, 0);
+		}
+
+		/**
+		 * @return creates a container for the given number of elements, {@code null} if {@code type} can't be created
+		 */
+		private static IntFunction<Object> factory(Class<?> type) {
+			if (type.isArray()) {
+				Class<?> componentType = type.getComponentType();
+				return size -> Array.newInstance(componentType, size);
+			}
+			if (type.isAssignableFrom(ArrayList.class)) {
+				return ArrayList::new;
+			}
+			if (type.isAssignableFrom(LinkedHashSet.class)) {
+				return size -> new LinkedHashSet<>(capacity(size));
+			}
+			if (type.isAssignableFrom(LinkedHashMap.class)) {
+				return size -> new LinkedHashMap<>(capacity(size));
+			}
+			if (type.isAssignableFrom(ArrayDeque.class)) {
+				return ArrayDeque::new;
+			}
+			if (type.isAssignableFrom(TreeSet.class) && SortedSet.class.isAssignableFrom(type)) {
+				return size -> new TreeSet<>();
+			}
+			if (type.isAssignableFrom(TreeMap.class) && SortedMap.class.isAssignableFrom(type)) {
+				return size -> new TreeMap<>();
+			}
+			return Instantiators.isInstantiable(type) ? size -> Instantiators.newInstance(type) : null;
+		}
+
+		private static int capacity(int size) {
+			return Math.max(16, (int) (size / .75f) + 1);
+		}
+
+		@Override
+		Object convert(Object value, MappingContext context) {
+			if (Objects.isNull(value)) {
+				return null;
+			}
+			if (value instanceof Map) {
+				return convertMap((Map<?, ?>) value, context);
+			}
+			return value instanceof Collection ? convertCollection((Collection<?>) value, context)
+					: convertArray(value, context);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object convertMap(Map<?, ?> value, MappingContext context) {
+			Map<Object, Object> target = (Map<Object, Object>) factory.apply(value.size());
+			for (Map.Entry<?, ?> entry : value.entrySet()) {
+				Object key = keys.convert(entry.getKey(), context);
+				Object element = elements.convert(entry.getValue(), context);
+				if (key != SKIP && element != SKIP) {
+					target.put(key, element);
+				}
+			}
+			return target;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object convertCollection(Collection<?> value, MappingContext context) {
+			Object target = factory.apply(value.size());
+			if (target instanceof Collection) {
+				Collection<Object> collection = (Collection<Object>) target;
+				if (bulk) {
+					collection.addAll(value);
+				} else {
+					for (Object element : value) {
+						add(collection, elements.convert(element, context));
+					}
+				}
+				return target;
+			}
+			if (bulk && target instanceof Object[]) {
+				return value.toArray((Object[]) target);
+			}
+			int length = 0;
+			for (Object element : value) {
+				length = set(target, length, elements.convert(element, context));
+			}
+			return trim(target, length);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object convertArray(Object value, MappingContext context) {
+			int length = Array.getLength(value);
+			Object target = factory.apply(length);
+			if (target instanceof Collection) {
+				Collection<Object> collection = (Collection<Object>) target;
+				if (bulk && value instanceof Object[]) {
+					collection.addAll(Arrays.asList((Object[]) value));
+				} else if (value instanceof int[]) {
+					for (int element : (int[]) value) {
+						add(collection, elements.convert(element, context));
+					}
+				} else {
+					for (int i = 0; i < length; i++) {
+						add(collection, elements.convert(Array.get(value, i), context));
+					}
+				}
+				return target;
+			}
+			int converted = 0;
+			for (int i = 0; i < length; i++) {
+				converted = set(target, converted, elements.convert(Array.get(value, i), context));
+			}
+			return trim(target, converted);
+		}
+
+		private static void add(Collection<Object> collection, Object value) {
+			if (value != SKIP) {
+				collection.add(value);
+			}
+		}
+
+		/**
+		 * @return the array length after skipped elements are left out
+		 */
+		private static Object trim(Object array, int length) {
+			if (length == Array.getLength(array)) {
+				return array;
+			}
+			Object trimmed = Array.newInstance(array.getClass().getComponentType(), length);
+			System.arraycopy(array, 0, trimmed, 0, length);
+			return trimmed;
+		}
+
+		/**
+		 * Stores into the common primitive arrays directly, a {@code null} element fails the conversion.
+		 *
+		 * @return the index of the next element, {@code index} again if {@code value} is skipped
+		 */
+		private static int set(Object array, int index, Object value) {
+			if (value == SKIP) {
+				return index;
+			}
+			if (array instanceof int[]) {
+				((int[]) array)[index] = (Integer) value;
+			} else if (array instanceof long[]) {
+				((long[]) array)[index] = (Long) value;
+			} else if (array instanceof double[]) {
+				((double[]) array)[index] = (Double) value;
+			} else {
+				Array.set(array, index, value);
+			}
+			return index + 1;
+		}
+	}
+
+	/**
+	 * Thrown for a value no enum constant matches with {@link EnumFallback#FAIL}, which fails the whole copy as it
+	 * does for a single enum property.
+	 */
+	static final class NoEnumConstant extends IllegalArgumentException {
+
+		private static final long serialVersionUID = 1L;
+
+		NoEnumConstant(String message) {
+			super(message);
+		}
+	}
+}
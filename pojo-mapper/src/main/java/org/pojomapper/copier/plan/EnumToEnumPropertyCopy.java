@@ -0,0 +1,23 @@
+package org.pojomapper.copier.plan;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.enums.EnumCodec;
+
+/**
+ * Copies an enum property to a property of another enum type through a table of the matching target constants,
+ * indexed by source ordinal and computed once.
+ */
+public class EnumToEnumPropertyCopy extends ToEnumPropertyCopy {
+
+	private final Enum<?>[] translation;
+
+	public EnumToEnumPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		super(read, write, options);
+		this.translation = EnumCodec.of(read.type()).translation(codec, options.enumStrategy());
+	}
+
+	@Override
+	protected Enum<?> decode(Object value) {
+		return translation[((Enum<?>) value).ordinal()];
+	}
+}
@@ -0,0 +1,55 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+import org.pojomapper.copier.accessor.IntPropertyAccessor;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+
+/**
+ * Writes the ordinal of an enum property to an {@code int} or {@link Integer} property, unboxed where the target
+ * accessor allows it.
+ */
+public class EnumToIntPropertyCopy implements PropertyCopy {
+
+	private final PropertyAccessor read;
+	private final PropertyAccessor write;
+	private final boolean rewrite;
+	private final boolean dirtyCheck;
+	private final ObjIntConsumer<Object> intSetter;
+
+	public EnumToIntPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		this.read = read;
+		this.write = write;
+		this.rewrite = options.rewrite();
+		this.dirtyCheck = options.dirtyCheck();
+		this.intSetter = write instanceof IntPropertyAccessor ? ((IntPropertyAccessor) write).intSetter() : null;
+	}
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		Object valueToWrite = read.get(from);
+		if (!rewrite && Objects.nonNull(write.get(to))) {
+			return false;
+		}
+		if (Objects.isNull(valueToWrite) || Objects.isNull(intSetter) || dirtyCheck) {
+			Integer ordinal = Objects.isNull(valueToWrite) ? null : ((Enum<?>) valueToWrite).ordinal();
+			if (dirtyCheck && DirtyCheck.isUnchanged(write, to, ordinal)) {
+				return false;
+			}
+			if (!write.set(to, ordinal)) {
+				context.writeDropped(to, write.name(), null);
+				return false;
+			}
+			return true;
+		}
+		try {
+			intSetter.accept(to, ((Enum<?>) valueToWrite).ordinal());
+			return true;
+		} catch (RuntimeException e) {
+			// swallowed as PropertyAccessor#set does
+			context.writeDropped(to, write.name(), e);
+			return false;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.enums.EnumCodec;
+
+/**
+ * Plan counterpart of the enum to {@link String} branch of
+ * {@link org.pojomapper.copier.copyoperation.EnumToStringCopyOperation}, reading the strings from an
+ * {@link EnumCodec} table.
+ */
+public class EnumToStringPropertyCopy implements PropertyCopy {
+
+	private final PropertyAccessor read;
+	private final PropertyAccessor write;
+	private final boolean rewrite;
+	private final boolean dirtyCheck;
+	private final String[] encodings;
+
+	public EnumToStringPropertyCopy(PropertyAccessor read, PropertyAccessor write, boolean rewrite) {
+		this(read, write, MappingOptions.DEFAULT.rewrite(rewrite));
+	}
+
+	public EnumToStringPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		this.read = read;
+		this.write = write;
+		this.rewrite = options.rewrite();
+		this.dirtyCheck = options.dirtyCheck();
+		this.encodings = EnumCodec.of(read.type()).encodings(options.enumStrategy());
+	}
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		Object valueToWrite = read.get(from);
+		if (rewrite || Objects.isNull(write.get(to))) {
+			String encoded = valueToWrite != null ? encodings[((Enum<?>) valueToWrite).ordinal()] : null;
+			if (dirtyCheck && DirtyCheck.isUnchanged(write, to, encoded)) {
+				return false;
+			}
+			if (!write.set(to, encoded)) {
+				context.writeDropped(to, write.name(), null);
+				return false;
+			}
+			return true;
+		}
+		return false;
+	}
+}
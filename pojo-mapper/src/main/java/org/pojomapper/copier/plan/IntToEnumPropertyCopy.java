@@ -0,0 +1,18 @@
+package org.pojomapper.copier.plan;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+
+/**
+ * Writes the enum constant with the ordinal read from an {@code int} or {@link Integer} property.
+ */
+public class IntToEnumPropertyCopy extends ToEnumPropertyCopy {
+
+	public IntToEnumPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		super(read, write, options);
+	}
+
+	@Override
+	protected Enum<?> decode(Object value) {
+		return codec.fromOrdinal((Integer) value);
+	}
+}
@@ -0,0 +1,23 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Map;
+
+/**
+ * Runs the copy of a {@link Map} source entry only if the map contains the key, so a partial map leaves the other
+ * target properties as they are.
+ */
+final class MapKeyPropertyCopy implements PropertyCopy {
+
+	private final String key;
+	private final PropertyCopy copy;
+
+	MapKeyPropertyCopy(String key, PropertyCopy copy) {
+		this.key = key;
+		this.copy = copy;
+	}
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		return ((Map<?, ?>) from).containsKey(key) && copy.copy(from, to, context);
+	}
+}
@@ -0,0 +1,108 @@
+package org.pojomapper.copier.plan;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.pojomapper.copier.metrics.MappingListeners;
+
+/**
+ * Per-call state of a {@link MappingPlan} execution which is not part of the plan itself: the source converters, the
+ * functions of the {@link TypeConverters} and, for deep copies, the objects copied so far.
+ */
+public class MappingContext {
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final Function<Object, Object>[] NO_CONVERTERS = new Function[0];
+
+	private final Function<Object, Object>[] converters;
+	private final Function<Object, Object>[] typeConverters;
+	private Map<Object, Object> copies;
+	private int droppedWrites;
+	private Class<?> targetClass;
+
+	public MappingContext(List<Function<Object, Object>> converters) {
+		this(converters, TypeConverters.EMPTY);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public MappingContext(List<Function<Object, Object>> converters, TypeConverters typeConverters) {
+		this.converters = converters.isEmpty() ? NO_CONVERTERS : converters.toArray(new Function[converters.size()]);
+		this.typeConverters = typeConverters.functions();
+	}
+
+	private MappingContext(Function<Object, Object>[] converters, Function<Object, Object>[] typeConverters) {
+		this.converters = converters;
+		this.typeConverters = typeConverters;
+	}
+
+	/**
+	 * @return a context with the same converters and its own copies, for contexts shared between calls
+	 */
+	public MappingContext fork() {
+		return new MappingContext(converters, typeConverters);
+	}
+
+	public Function<Object, Object>[] converters() {
+		return converters;
+	}
+
+	/**
+	 * @param index
+	 *            as resolved by {@link TypeConverters#resolve}
+	 */
+	public Function<Object, Object> typeConverter(int index) {
+		return typeConverters[index];
+	}
+
+	/**
+	 * Reports a property write which failed and is swallowed.
+	 *
+	 * @param cause
+	 *            the swallowed exception, {@code null} if the accessor just reported the failure
+	 */
+	public void writeDropped(Object target, String property, Throwable cause) {
+		droppedWrites++;
+		if (MappingListeners.isEnabled()) {
+			MappingListeners.writeDropped(Objects.nonNull(targetClass) ? targetClass : target.getClass(), property,
+					cause);
+		}
+	}
+
+	/**
+	 * Sets the class dropped writes are reported for while a plan writes to an intermediate object, e.g. the
+	 * constructor arguments of a record.
+	 *
+	 * @param targetClass
+	 *            {@code null} to report the class of the written object
+	 * @return the class set before, to restore once the plan is done
+	 */
+	Class<?> reportTargetAs(Class<?> targetClass) {
+		Class<?> previous = this.targetClass;
+		this.targetClass = targetClass;
+		return previous;
+	}
+
+	/**
+	 * @return writes dropped so far, only meaningful for a context not shared between threads
+	 */
+	public int droppedWrites() {
+		return droppedWrites;
+	}
+
+	/**
+	 * @return the copy of {@code source} made earlier in this call, compared by identity, or {@code null}
+	 */
+	public Object copyOf(Object source) {
+		return Objects.isNull(copies) ? null : copies.get(source);
+	}
+
+	public void registerCopy(Object source, Object copy) {
+		if (Objects.isNull(copies)) {
+			copies = new IdentityHashMap<>();
+		}
+		copies.put(source, copy);
+	}
+}
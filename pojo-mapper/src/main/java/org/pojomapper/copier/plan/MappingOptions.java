@@ -0,0 +1,145 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.AccessStrategy;
+import org.pojomapper.copier.enums.EnumFallback;
+import org.pojomapper.copier.enums.EnumStrategy;
+
+/**
+ * Per-source flags a {@link MappingPlan} is resolved for. Immutable, every setter-like method returns a copy.
+ */
+public final class MappingOptions {
+
+	public static final MappingOptions DEFAULT = new MappingOptions(true, false, false, false,
+			EnumStrategy.NAME, EnumFallback.FAIL, AccessStrategy.AUTO, false);
+
+	private final boolean rewrite;
+	private final boolean skipNulls;
+	private final boolean deep;
+	private final boolean dirtyCheck;
+	private final EnumStrategy enumStrategy;
+	private final EnumFallback enumFallback;
+	private final AccessStrategy access;
+	private final boolean createIntermediates;
+
+	private MappingOptions(boolean rewrite, boolean skipNulls, boolean deep, boolean dirtyCheck,
+			EnumStrategy enumStrategy, EnumFallback enumFallback, AccessStrategy access, boolean createIntermediates) {
+		this.rewrite = rewrite;
+		this.skipNulls = skipNulls;
+		this.deep = deep;
+		this.dirtyCheck = dirtyCheck;
+		this.enumStrategy = Objects.requireNonNull(enumStrategy);
+		this.enumFallback = Objects.requireNonNull(enumFallback);
+		this.access = Objects.requireNonNull(access);
+		this.createIntermediates = createIntermediates;
+	}
+
+	public boolean rewrite() {
+		return rewrite;
+	}
+
+	public MappingOptions rewrite(boolean rewrite) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	public boolean skipNulls() {
+		return skipNulls;
+	}
+
+	public MappingOptions skipNulls(boolean skipNulls) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	/**
+	 * @return whether nested beans, collections, maps and arrays are copied recursively instead of by reference
+	 */
+	public boolean deep() {
+		return deep;
+	}
+
+	public MappingOptions deep(boolean deep) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	/**
+	 * @return whether target properties are only written when the new value differs from the current one
+	 */
+	public boolean dirtyCheck() {
+		return dirtyCheck;
+	}
+
+	public MappingOptions dirtyCheck(boolean dirtyCheck) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	public EnumStrategy enumStrategy() {
+		return enumStrategy;
+	}
+
+	public MappingOptions enumStrategy(EnumStrategy enumStrategy) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	/**
+	 * @return what is written when no enum constant matches the source value
+	 */
+	public EnumFallback enumFallback() {
+		return enumFallback;
+	}
+
+	public MappingOptions enumFallback(EnumFallback enumFallback) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	/**
+	 * @return how source and target properties are found and accessed
+	 */
+	public AccessStrategy access() {
+		return access;
+	}
+
+	public MappingOptions access(AccessStrategy access) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	/**
+	 * @return whether missing intermediate beans of nested target paths are created
+	 */
+	public boolean createIntermediates() {
+		return createIntermediates;
+	}
+
+	public MappingOptions createIntermediates(boolean createIntermediates) {
+		return new MappingOptions(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof MappingOptions)) {
+			return false;
+		}
+		MappingOptions other = (MappingOptions) obj;
+		return rewrite == other.rewrite && skipNulls == other.skipNulls && deep == other.deep
+				&& dirtyCheck == other.dirtyCheck
+				&& enumStrategy == other.enumStrategy && enumFallback == other.enumFallback && access == other.access
+				&& createIntermediates == other.createIntermediates;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(rewrite, skipNulls, deep, dirtyCheck, enumStrategy, enumFallback, access,
+				createIntermediates);
+	}
+}
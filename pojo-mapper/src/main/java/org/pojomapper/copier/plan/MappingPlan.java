@@ -0,0 +1,163 @@
+package org.pojomapper.copier.plan;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.pojomapper.copier.metrics.MappingListeners;
+
+/**
+ * Flat list of property transfers resolved once for a {@link MappingPlanKey}.
+ */
+public class MappingPlan {
+
+	private final PropertyCopy[] copies;
+	private final String[] names;
+	private final boolean deep;
+	private final Class<?> targetClass;
+
+	/**
+	 * @param names
+	 *            target property name of every copy
+	 */
+	public MappingPlan(List<PropertyCopy> copies, List<String> names, boolean deep) {
+		this(copies, names, deep, null);
+	}
+
+	/**
+	 * @param targetClass
+	 *            class reported to listeners when the plan writes to an intermediate object, e.g. constructor arguments,
+	 *            {@code null} to report the class of the target itself
+	 */
+	public MappingPlan(List<PropertyCopy> copies, List<String> names, boolean deep, Class<?> targetClass) {
+		this.copies = copies.toArray(new PropertyCopy[copies.size()]);
+		this.names = names.toArray(new String[names.size()]);
+		this.deep = deep;
+		this.targetClass = targetClass;
+	}
+
+	/**
+	 * @param fields
+	 *            target paths to keep; a nested path selects the property it starts with, and a property selects the
+	 *            paths below it
+	 * @return a plan with the copies of the selected target properties only, in the same order
+	 */
+	public MappingPlan project(Set<String> fields) {
+		List<PropertyCopy> selected = new ArrayList<>();
+		List<String> selectedNames = new ArrayList<>();
+		for (int i = 0; i < copies.length; i++) {
+			if (selects(fields, names[i])) {
+				selected.add(copies[i]);
+				selectedNames.add(names[i]);
+			}
+		}
+		return new MappingPlan(selected, selectedNames, deep, targetClass);
+	}
+
+	private static boolean selects(Set<String> fields, String name) {
+		if (fields.contains(name) || fields.contains(root(name))) {
+			return true;
+		}
+		for (String field : fields) {
+			if (root(field).equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String root(String path) {
+		for (int i = 0; i < path.length(); i++) {
+			char c = path.charAt(i);
+			if (c == '.' || c == '[' || c == '(') {
+				return path.substring(0, i);
+			}
+		}
+		return path;
+	}
+
+	public void copy(Object from, Object to, MappingContext context) {
+		if (MappingListeners.isEnabled()) {
+			copyObserved(from, to, context);
+			return;
+		}
+		if (deep) {
+			// references back to the root resolve to the root target
+			context.registerCopy(from, to);
+		}
+		for (PropertyCopy copy : copies) {
+			copy.copy(from, to, context);
+		}
+	}
+
+	/**
+	 * Same as {@link #copy}, recording which entries wrote their target property.
+	 */
+	public ChangeSet copyChanges(Object from, Object to, MappingContext context) {
+		boolean observed = MappingListeners.isEnabled();
+		long start = observed ? System.nanoTime() : 0;
+		int dropped = context.droppedWrites();
+		if (deep) {
+			context.registerCopy(from, to);
+		}
+		BitSet changed = new BitSet(copies.length);
+		Class<?> reported = observed ? context.reportTargetAs(targetClass) : null;
+		try {
+			for (int i = 0; i < copies.length; i++) {
+				if (copies[i].copy(from, to, context)) {
+					changed.set(i);
+				}
+			}
+		} finally {
+			if (observed) {
+				context.reportTargetAs(reported);
+			}
+		}
+		if (observed) {
+			MappingListeners.mapped(from.getClass(), targetClass(to), copies.length, context.droppedWrites() - dropped,
+					System.nanoTime() - start);
+		}
+		return new ChangeSet(names, changed);
+	}
+
+	private void copyObserved(Object from, Object to, MappingContext context) {
+		long start = System.nanoTime();
+		int dropped = context.droppedWrites();
+		if (deep) {
+			context.registerCopy(from, to);
+		}
+		// nested plans set their own target class and restore this one
+		Class<?> reported = context.reportTargetAs(targetClass);
+		try {
+			for (PropertyCopy copy : copies) {
+				copy.copy(from, to, context);
+			}
+		} finally {
+			context.reportTargetAs(reported);
+		}
+		MappingListeners.mapped(from.getClass(), targetClass(to), copies.length, context.droppedWrites() - dropped,
+				System.nanoTime() - start);
+	}
+
+	private Class<?> targetClass(Object to) {
+		return Objects.nonNull(targetClass) ? targetClass : to.getClass();
+	}
+
+	/**
+	 * @return whether every copy was resolved up front, none of them is a {@link DynamicPropertyCopy}
+	 */
+	boolean isResolved() {
+		for (PropertyCopy copy : copies) {
+			if (copy instanceof DynamicPropertyCopy) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public int size() {
+		return copies.length;
+	}
+}
@@ -0,0 +1,369 @@
+package org.pojomapper.copier.plan;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.pojomapper.copier.accessor.AccessStrategy;
+import org.pojomapper.copier.accessor.AccessorCache;
+import org.pojomapper.copier.accessor.ClassAccessors;
+import org.pojomapper.copier.accessor.MapEntryAccessor;
+import org.pojomapper.copier.accessor.MethodPropertyAccessor;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.accessor.PropertyPath;
+import org.pojomapper.copier.accessor.TargetFactory;
+import org.pojomapper.copier.copyoperation.BindableCopyOperation;
+import org.pojomapper.copier.copyoperation.DefaultCopyOperation;
+import org.pojomapper.copier.copyoperation.EnumToStringCopyOperation;
+import org.pojomapper.copier.copyoperation.PerPropertyCopyOperation;
+import org.pojomapper.copier.util.PojoUtil;
+
+/**
+ * Resolves a {@link MappingPlan} in the same order {@code Copier} used to copy: matched properties first, then the
+ * mapper entries and finally the inverse mapper entries.
+ * <p>
+ * A {@link Map} source or target paired with a bean is resolved by the properties of the bean, its entries are read and
+ * written through {@link MapEntryAccessor}s. Since every key of a map source may be present, mapper entries are only
+ * applied in the direction the target has the property for. Map to map plans stay dynamic.
+ * <p>
+ * Every resolved property pair is bound by the first {@link BindableCopyOperation} returning a copy: the custom
+ * operations of the key, then {@link EnumToStringCopyOperation} and {@link DefaultCopyOperation}.
+ */
+public final class MappingPlanBuilder {
+
+	private static final EnumToStringCopyOperation ENUM_TO_STRING = new EnumToStringCopyOperation();
+	private static final DefaultCopyOperation DEFAULT = new DefaultCopyOperation();
+
+	private final MappingPlanKey key;
+	private final MappingOptions options;
+	private final ClassAccessors sourceProperties;
+	private final ClassAccessors targetProperties;
+	private final boolean sourceMap;
+	private final boolean targetMap;
+	private final boolean hasCustomPerPropertyOperations;
+	private final List<BindableCopyOperation> bindOperations = new ArrayList<>();
+	private final List<PerPropertyCopyOperation> copyOperations = new ArrayList<>();
+	private final List<PropertyCopy> copies = new ArrayList<>();
+	private final List<String> names = new ArrayList<>();
+	private List<PlanExplanation.Property> explained;
+	private List<PlanExplanation.Skipped> skipped;
+	private boolean untypedConverters;
+
+	private MappingPlanBuilder(MappingPlanKey key, ClassAccessors targetProperties) {
+		this.key = key;
+		this.options = key.options();
+		this.sourceProperties = AccessorCache.of(key.sourceClass(), options.access());
+		this.targetProperties = targetProperties;
+		this.sourceMap = isMap(key.sourceClass());
+		this.targetMap = isMap(key.targetClass());
+		for (BindableCopyOperation operation : key.operations()) {
+			bindOperations.add(operation);
+			if (operation instanceof PerPropertyCopyOperation) {
+				copyOperations.add((PerPropertyCopyOperation) operation);
+			}
+		}
+		this.hasCustomPerPropertyOperations = !copyOperations.isEmpty();
+		bindOperations.addAll(Arrays.asList(ENUM_TO_STRING, DEFAULT));
+		copyOperations.addAll(Arrays.asList(ENUM_TO_STRING, DEFAULT));
+	}
+
+	public static MappingPlan build(MappingPlanKey key) {
+		return new MappingPlanBuilder(key, AccessorCache.of(key.targetClass(), key.options().access())).build();
+	}
+
+	/**
+	 * Resolves the plan {@link #build} would, recording how every property pair is handled.
+	 */
+	public static PlanExplanation explain(MappingPlanKey key) {
+		return explain(key, false);
+	}
+
+	/**
+	 * @param untypedConverters
+	 *            whether calls pass untyped converters, which send primitive copies through the boxed path
+	 */
+	public static PlanExplanation explain(MappingPlanKey key, boolean untypedConverters) {
+		ClassAccessors targetProperties = AccessorCache.of(key.targetClass(), key.options().access());
+		MappingPlanBuilder builder = new MappingPlanBuilder(key, targetProperties);
+		builder.untypedConverters = untypedConverters;
+		builder.explained = new ArrayList<>();
+		builder.skipped = new ArrayList<>();
+		builder.build();
+		List<String> unmapped = new ArrayList<>();
+		for (PropertyAccessor write : targetProperties.all()) {
+			if (write.writable() && !key.ignores().contains(write.name()) && !builder.writes(write.name())) {
+				unmapped.add(write.name());
+			}
+		}
+		return new PlanExplanation(key.sourceClass(), key.targetClass(), builder.explained, builder.skipped, unmapped);
+	}
+
+	/**
+	 * Plans for a target created by its {@link TargetFactory}, bean targets share the plan of {@link #build}.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if instances of the target class can't be created
+	 */
+	public static CreationPlan buildCreation(MappingPlanKey key) {
+		TargetFactory factory = TargetFactory.of(key.targetClass());
+		if (Objects.isNull(factory)) {
+			throw new IllegalArgumentException("Can't create " + key.targetClass().getName()
+					+ ": no no-arg constructor with setters, record, builder or constructor with named parameters");
+		}
+		if (factory.isBean()) {
+			return new CreationPlan(factory, MappingPlanCache.get(key));
+		}
+		return new CreationPlan(factory, new MappingPlanBuilder(key, factory.properties()).build());
+	}
+
+	/**
+	 * Plans lazy views through the interface {@link MappingPlanKey#targetClass()}, the copies of every getter run on
+	 * the first call of the getter.
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the target class is no interface
+	 */
+	public static ViewPlan buildView(MappingPlanKey key) {
+		Class<?> type = key.targetClass();
+		if (!type.isInterface() || Map.class.isAssignableFrom(type)) {
+			throw new IllegalArgumentException("Can't view through " + type.getName() + ": not an interface");
+		}
+		Method[] getters = ViewPlan.getters(type);
+		String[] names = new String[getters.length];
+		Type[] genericTypes = new Type[getters.length];
+		for (int i = 0; i < getters.length; i++) {
+			names[i] = ViewPlan.propertyName(getters[i]);
+			genericTypes[i] = getters[i].getGenericReturnType();
+		}
+		MappingPlanBuilder builder = new MappingPlanBuilder(key, TargetFactory.arguments(names,
+				Arrays.stream(getters).map(Method::getReturnType).toArray(Class<?>[]::new), genericTypes));
+		builder.build();
+		PropertyCopy[][] copies = new PropertyCopy[getters.length][];
+		for (int i = 0; i < getters.length; i++) {
+			List<PropertyCopy> property = new ArrayList<>();
+			for (int j = 0; j < builder.names.size(); j++) {
+				if (builder.names.get(j).equals(names[i])) {
+					property.add(builder.copies.get(j));
+				}
+			}
+			copies[i] = property.toArray(new PropertyCopy[0]);
+		}
+		return new ViewPlan(type, getters, names, copies);
+	}
+
+	/**
+	 * Plans the sources of a multi-source copy into one {@link MergePlan}.
+	 *
+	 * @param keys
+	 *            key of every source, in source order, all for the same target class
+	 * @return {@code null} if the sources can't be merged: map or dynamic targets, nested paths, or sources accessing
+	 *         the target differently
+	 */
+	public static MergePlan buildMerge(List<MappingPlanKey> keys) {
+		Class<?> targetClass = keys.get(0).targetClass();
+		AccessStrategy access = keys.get(0).options().access();
+		if (Map.class.isAssignableFrom(targetClass) || DynaBean.class.isAssignableFrom(targetClass)) {
+			return null;
+		}
+		List<PropertyAccessor> writes = new ArrayList<>();
+		List<PropertyAccessor> slots = new ArrayList<>();
+		for (PropertyAccessor write : AccessorCache.of(targetClass, access).all()) {
+			if (write.writable()) {
+				slots.add(MergePlan.slot(write, writes.size()));
+				writes.add(write);
+			}
+		}
+		ClassAccessors buffer = new ClassAccessors(MergePlan.Buffer.class, slots);
+		MappingPlan[] plans = new MappingPlan[keys.size()];
+		boolean[] deep = new boolean[keys.size()];
+		for (int i = 0; i < plans.length; i++) {
+			MappingPlanKey key = keys.get(i);
+			if (key.targetClass() != targetClass || key.options().access() != access) {
+				return null;
+			}
+			plans[i] = new MappingPlanBuilder(key, buffer).build();
+			if (!plans[i].isResolved()) {
+				return null;
+			}
+			deep[i] = key.options().deep();
+		}
+		return new MergePlan(plans, deep, writes.toArray(new PropertyAccessor[0]));
+	}
+
+	private MappingPlan build() {
+		// keys of a map source are looked up by the target properties, keys the map lacks are left alone
+		for (PropertyAccessor accessor : (sourceMap && !targetMap ? targetProperties : sourceProperties).all()) {
+			add(accessor.name(), accessor.name());
+		}
+		for (Map.Entry<String, String> entry : key.mapper().entrySet()) {
+			if (!keysOnly() || hasTarget(entry.getValue())) {
+				add(entry.getKey(), entry.getValue());
+			}
+		}
+		for (Map.Entry<String, String> entry : key.mapper().entrySet()) {
+			if (!keysOnly() || !hasTarget(entry.getValue())) {
+				add(entry.getValue(), entry.getKey());
+			}
+		}
+		// references back to the root resolve to the root target, unless the plan writes to an intermediate object
+		boolean direct = targetProperties.beanClass() == key.targetClass();
+		return new MappingPlan(copies, names, options.deep() && direct, direct ? null : key.targetClass());
+	}
+
+	private void add(String fromProp, String toProp) {
+		if (key.ignores().contains(fromProp) || key.ignores().contains(toProp)) {
+			skip(fromProp, toProp, "ignored");
+			return;
+		}
+		if (!isResolvable(key.sourceClass(), fromProp) || !isResolvable(key.targetClass(), toProp)) {
+			addPath(fromProp, toProp);
+			return;
+		}
+		PropertyAccessor read = sourceMap ? new MapEntryAccessor(fromProp) : sourceProperties.get(fromProp);
+		PropertyAccessor write = targetMap ? new MapEntryAccessor(toProp) : targetProperties.get(toProp);
+		if (!isPlannable(fromProp, toProp, read, write)) {
+			return;
+		}
+		PropertyCopy copy = bind(fromProp, toProp, read, write, false);
+		if (Objects.nonNull(copy)) {
+			add(sourceMap ? new MapKeyPropertyCopy(fromProp, copy) : copy, toProp);
+		}
+	}
+
+	/**
+	 * Nested, indexed and mapped paths compile to {@link PropertyPath}s; the dynamic chain is kept for {@link DynaBean}
+	 * roots, map to map plans, custom per-property operations, syntax {@link PropertyPath} doesn't support and target
+	 * paths into intermediate objects.
+	 */
+	private void addPath(String fromProp, String toProp) {
+		PropertyPath fromPath = PojoUtil.isSimple(fromProp) ? null
+				: PropertyPath.compile(key.sourceClass(), fromProp, options.access());
+		PropertyPath toPath = PojoUtil.isSimple(toProp) ? null
+				: PropertyPath.compile(key.targetClass(), toProp, options.access());
+		boolean compiled = (PojoUtil.isSimple(fromProp) || Objects.nonNull(fromPath))
+				&& (PojoUtil.isSimple(toProp) || Objects.nonNull(toPath));
+		// custom per-property operations only run in the dynamic chain
+		if (!compiled || DynaBean.class.isAssignableFrom(key.sourceClass())
+				|| DynaBean.class.isAssignableFrom(key.targetClass()) || sourceMap && targetMap
+				|| hasCustomPerPropertyOperations
+				|| Objects.nonNull(toPath) && targetProperties.beanClass() != key.targetClass()) {
+			add(new DynamicPropertyCopy(fromProp, toProp, options, copyOperations), toProp);
+			if (Objects.nonNull(explained)) {
+				StringBuilder chain = new StringBuilder("per-call chain");
+				for (PerPropertyCopyOperation operation : copyOperations) {
+					chain.append(' ').append(operation.getClass().getSimpleName());
+				}
+				explained.add(new PlanExplanation.Property(toProp, fromProp,
+						DynamicPropertyCopy.class.getSimpleName(), chain.toString(), null, false, true));
+			}
+			return;
+		}
+		PropertyAccessor read = Objects.nonNull(fromPath) ? fromPath.leaf()
+				: sourceMap ? new MapEntryAccessor(fromProp) : sourceProperties.get(fromProp);
+		PropertyAccessor write = Objects.nonNull(toPath) ? toPath.leaf()
+				: targetMap ? new MapEntryAccessor(toProp) : targetProperties.get(toProp);
+		if (!isPlannable(fromProp, toProp, read, write)) {
+			return;
+		}
+		PropertyCopy copy = bind(fromProp, toProp, read, write, true);
+		if (Objects.nonNull(copy)) {
+			if (Objects.isNull(fromPath) && sourceMap) {
+				copy = new MapKeyPropertyCopy(fromProp, copy);
+			}
+			add(new PathPropertyCopy(fromPath, toPath, options, copy), toProp);
+		}
+	}
+
+	private boolean isPlannable(String fromProp, String toProp, PropertyAccessor read, PropertyAccessor write) {
+		if (Objects.isNull(read)) {
+			skip(fromProp, toProp, "no source property");
+		} else if (Objects.isNull(write)) {
+			skip(fromProp, toProp, "no target property");
+		} else if (!write.writable()) {
+			skip(fromProp, toProp, "read-only target property");
+		} else {
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param path
+	 *            whether the copy runs on the beans at the end of nested paths
+	 * @return the copy of the first operation binding the pair, {@code null} if there is nothing to copy
+	 */
+	private PropertyCopy bind(String fromProp, String toProp, PropertyAccessor read, PropertyAccessor write,
+			boolean path) {
+		int typeConverter = TypeConverters.resolve(key.converterTypes(), read.type(), write.type());
+		PropertyBinding binding = new PropertyBinding(key.sourceClass(), key.targetClass(), read, write, options,
+				typeConverter);
+		for (BindableCopyOperation operation : bindOperations) {
+			PropertyCopy copy = operation.bind(binding);
+			if (Objects.isNull(copy)) {
+				continue;
+			}
+			String operationName = operation.getClass().getSimpleName();
+			if (copy == PropertyCopy.NONE) {
+				skip(fromProp, toProp, "left out by " + operationName);
+				return null;
+			}
+			if (Objects.nonNull(explained)) {
+				String copyName = copy.getClass().getSimpleName();
+				explained.add(new PlanExplanation.Property(toProp, fromProp,
+						path ? PathPropertyCopy.class.getSimpleName() + "(" + copyName + ")" : copyName, operationName,
+						typeConverter >= 0 ? key.converterTypes().get(typeConverter) : null,
+						(read.type().isPrimitive() || write.type().isPrimitive())
+								&& (untypedConverters || !(copy instanceof PrimitivePropertyCopy)),
+						read instanceof MethodPropertyAccessor || write instanceof MethodPropertyAccessor));
+			}
+			return copy;
+		}
+		return null;
+	}
+
+	private void skip(String fromProp, String toProp, String reason) {
+		if (Objects.nonNull(skipped)) {
+			skipped.add(new PlanExplanation.Skipped(toProp, fromProp, reason));
+		}
+	}
+
+	/**
+	 * @return whether a planned copy writes {@code name} or a path below it
+	 */
+	private boolean writes(String name) {
+		for (String toProp : names) {
+			if (toProp.equals(name) || toProp.startsWith(name) && !PojoUtil.isSimple(toProp)
+					&& !Character.isJavaIdentifierPart(toProp.charAt(name.length()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void add(PropertyCopy copy, String toProp) {
+		copies.add(copy);
+		names.add(toProp);
+	}
+
+	private boolean isResolvable(Class<?> clazz, String prop) {
+		return !DynaBean.class.isAssignableFrom(clazz) && PojoUtil.isSimple(prop)
+				&& (!Map.class.isAssignableFrom(clazz) || !(sourceMap && targetMap));
+	}
+
+	private boolean keysOnly() {
+		return sourceMap && !targetMap;
+	}
+
+	private boolean hasTarget(String toProp) {
+		return !PojoUtil.isSimple(toProp) || Objects.nonNull(targetProperties.get(toProp));
+	}
+
+	private static boolean isMap(Class<?> clazz) {
+		return Map.class.isAssignableFrom(clazz) && !DynaBean.class.isAssignableFrom(clazz);
+	}
+}
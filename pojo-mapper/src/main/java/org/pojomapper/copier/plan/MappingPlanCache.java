@@ -0,0 +1,199 @@
+package org.pojomapper.copier.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache of resolved {@link MappingPlan}s. Plans are kept in a {@link ClassValue} of their source class, so
+ * they are released together with the class loader of the source class, as accessors are.
+ * <p>
+ * Plans with custom operations are kept per source class up to {@code -Dorg.pojomapper.operationPlanCacheSize} (64 by
+ * default), operations compare by {@code equals} and instances created per call would fill the cache otherwise.
+ * <p>
+ * Projections are cached per field mask, which usually comes from requests; arbitrary ones are evicted beyond
+ * {@code -Dorg.pojomapper.projectionCacheSize} (256 by default), hits don't take a lock.
+ */
+public final class MappingPlanCache {
+
+	private static final int PROJECTION_LIMIT = Integer.getInteger("org.pojomapper.projectionCacheSize", 256);
+	private static final int OPERATION_LIMIT = Integer.getInteger("org.pojomapper.operationPlanCacheSize", 64);
+
+	private static final Map<Class<?>, Boolean> SOURCES = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final ClassValue<SourcePlans> PLANS = new ClassValue<SourcePlans>() {
+		@Override
+		protected SourcePlans computeValue(Class<?> sourceClass) {
+			SOURCES.put(sourceClass, Boolean.TRUE);
+			return new SourcePlans();
+		}
+	};
+	private static final BoundedCache<Projection, MappingPlan> PROJECTIONS = new BoundedCache<>(PROJECTION_LIMIT);
+
+	private MappingPlanCache() {
+	}
+
+	/**
+	 * Plans of one source class.
+	 */
+	private static final class SourcePlans {
+
+		final Plans<MappingPlanKey, MappingPlan> plans = new Plans<>();
+		final Plans<MappingPlanKey, CreationPlan> creations = new Plans<>();
+		final Plans<MappingPlanKey, ViewPlan> views = new Plans<>();
+		// kept with the source class of the first key
+		final Plans<List<MappingPlanKey>, Optional<MergePlan>> merges = new Plans<>();
+	}
+
+	private static final class Plans<K, V> {
+
+		final ConcurrentMap<K, V> shared = new ConcurrentHashMap<>();
+		final BoundedCache<K, V> custom = new BoundedCache<>(OPERATION_LIMIT);
+
+		V get(K key, boolean operations) {
+			return operations ? custom.get(key) : shared.get(key);
+		}
+
+		V computeIfAbsent(K key, boolean operations, Function<? super K, ? extends V> factory) {
+			return operations ? custom.computeIfAbsent(key, factory) : shared.computeIfAbsent(key, factory);
+		}
+	}
+
+	private static SourcePlans of(MappingPlanKey key) {
+		return PLANS.get(key.sourceClass());
+	}
+
+	public static MappingPlan get(MappingPlanKey key) {
+		Plans<MappingPlanKey, MappingPlan> plans = of(key).plans;
+		boolean operations = !key.operations().isEmpty();
+		MappingPlan plan = plans.get(key, operations);
+		if (Objects.isNull(plan)) {
+			plan = plans.computeIfAbsent(key.snapshot(), operations, MappingPlanBuilder::build);
+		}
+		return plan;
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             if instances of the target class can't be created
+	 */
+	public static CreationPlan creation(MappingPlanKey key) {
+		Plans<MappingPlanKey, CreationPlan> creations = of(key).creations;
+		boolean operations = !key.operations().isEmpty();
+		CreationPlan plan = creations.get(key, operations);
+		if (Objects.isNull(plan)) {
+			plan = creations.computeIfAbsent(key.snapshot(), operations, MappingPlanBuilder::buildCreation);
+		}
+		return plan;
+	}
+
+	/**
+	 * @throws IllegalArgumentException
+	 *             if the target class is no interface
+	 */
+	public static ViewPlan view(MappingPlanKey key) {
+		Plans<MappingPlanKey, ViewPlan> views = of(key).views;
+		boolean operations = !key.operations().isEmpty();
+		ViewPlan plan = views.get(key, operations);
+		if (Objects.isNull(plan)) {
+			plan = views.computeIfAbsent(key.snapshot(), operations, MappingPlanBuilder::buildView);
+		}
+		return plan;
+	}
+
+	/**
+	 * @return the plan, or {@code null} if the sources can't be merged and are copied one after the other
+	 * @see MappingPlanBuilder#buildMerge(List)
+	 */
+	public static MergePlan merge(List<MappingPlanKey> keys) {
+		Plans<List<MappingPlanKey>, Optional<MergePlan>> merges = of(keys.get(0)).merges;
+		boolean operations = false;
+		for (MappingPlanKey key : keys) {
+			operations |= !key.operations().isEmpty();
+		}
+		Optional<MergePlan> plan = merges.get(keys, operations);
+		if (Objects.isNull(plan)) {
+			List<MappingPlanKey> snapshot = new ArrayList<>(keys.size());
+			for (MappingPlanKey key : keys) {
+				snapshot.add(key.snapshot());
+			}
+			plan = merges.computeIfAbsent(Collections.unmodifiableList(snapshot), operations,
+					k -> Optional.ofNullable(MappingPlanBuilder.buildMerge(k)));
+		}
+		return plan.orElse(null);
+	}
+
+	private static final class Projection {
+
+		private final MappingPlanKey key;
+		private final Set<String> fields;
+
+		Projection(MappingPlanKey key, Set<String> fields) {
+			this.key = key;
+			this.fields = fields;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Projection)) {
+				return false;
+			}
+			Projection other = (Projection) obj;
+			return key.equals(other.key) && fields.equals(other.fields);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * key.hashCode() + fields.hashCode();
+		}
+	}
+
+	/**
+	 * @return the plan of {@code key} restricted to the target properties selected by {@code fields}
+	 * @see MappingPlan#project(Set)
+	 */
+	public static MappingPlan projection(MappingPlanKey key, Set<String> fields) {
+		MappingPlan plan = PROJECTIONS.get(new Projection(key, fields));
+		if (Objects.isNull(plan)) {
+			plan = PROJECTIONS.computeIfAbsent(
+					new Projection(key.snapshot(), Collections.unmodifiableSet(new HashSet<>(fields))),
+					projection -> get(key).project(fields));
+		}
+		return plan;
+	}
+
+	/**
+	 * @return number of {@link #get} plans of the source classes still loaded
+	 */
+	public static int size() {
+		int size = 0;
+		for (Class<?> sourceClass : sources()) {
+			Plans<MappingPlanKey, MappingPlan> plans = PLANS.get(sourceClass).plans;
+			size += plans.shared.size() + plans.custom.size();
+		}
+		return size;
+	}
+
+	public static void clear() {
+		for (Class<?> sourceClass : sources()) {
+			PLANS.remove(sourceClass);
+		}
+		SOURCES.clear();
+		PROJECTIONS.clear();
+	}
+
+	private static List<Class<?>> sources() {
+		synchronized (SOURCES) {
+			return new ArrayList<>(SOURCES.keySet());
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package org.pojomapper.copier.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.pojomapper.copier.copyoperation.BindableCopyOperation;
+
+/**
+ * Everything a {@link MappingPlan} depends on: source and target classes, the source mapper, ignored properties,
+ * the {@link MappingOptions}, the types of the registered {@link TypeConverters} and the custom
+ * {@link BindableCopyOperation}s.
+ * <p>
+ * Lookups are done with a key referring to the live copier configuration, only keys stored in the cache take a
+ * {@link #snapshot()} of it.
+ */
+public final class MappingPlanKey {
+
+	private final Class<?> sourceClass;
+	private final Class<?> targetClass;
+	private final Map<String, String> mapper;
+	private final Set<String> ignores;
+	private final MappingOptions options;
+	private final List<TypePair> converterTypes;
+	private final List<BindableCopyOperation> operations;
+	private final int hash;
+
+	public MappingPlanKey(Class<?> sourceClass, Class<?> targetClass, Map<String, String> mapper, Set<String> ignores,
+			MappingOptions options) {
+		this(sourceClass, targetClass, mapper, ignores, options, Collections.emptyList());
+	}
+
+	public MappingPlanKey(Class<?> sourceClass, Class<?> targetClass, Map<String, String> mapper, Set<String> ignores,
+			MappingOptions options, List<TypePair> converterTypes) {
+		this(sourceClass, targetClass, mapper, ignores, options, converterTypes, Collections.emptyList());
+	}
+
+	public MappingPlanKey(Class<?> sourceClass, Class<?> targetClass, Map<String, String> mapper, Set<String> ignores,
+			MappingOptions options, List<TypePair> converterTypes, List<BindableCopyOperation> operations) {
+		this.sourceClass = sourceClass;
+		this.targetClass = targetClass;
+		this.mapper = mapper;
+		this.ignores = ignores;
+		this.options = options;
+		this.converterTypes = converterTypes;
+		this.operations = operations;
+		this.hash = Objects.hash(sourceClass, targetClass, mapper, ignores, options, converterTypes, operations);
+	}
+
+	public MappingPlanKey snapshot() {
+		return new MappingPlanKey(sourceClass, targetClass, Collections.unmodifiableMap(new LinkedHashMap<>(mapper)),
+				Collections.unmodifiableSet(new HashSet<>(ignores)), options,
+				Collections.unmodifiableList(new ArrayList<>(converterTypes)),
+				Collections.unmodifiableList(new ArrayList<>(operations)));
+	}
+
+	public Class<?> sourceClass() {
+		return sourceClass;
+	}
+
+	public Class<?> targetClass() {
+		return targetClass;
+	}
+
+	public Map<String, String> mapper() {
+		return mapper;
+	}
+
+	public Set<String> ignores() {
+		return ignores;
+	}
+
+	public MappingOptions options() {
+		return options;
+	}
+
+	public List<TypePair> converterTypes() {
+		return converterTypes;
+	}
+
+	public List<BindableCopyOperation> operations() {
+		return operations;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof MappingPlanKey)) {
+			return false;
+		}
+		MappingPlanKey other = (MappingPlanKey) obj;
+		return hash == other.hash && sourceClass == other.sourceClass && targetClass == other.targetClass
+				&& options.equals(other.options) && mapper.equals(other.mapper)
+				&& ignores.equals(other.ignores) && converterTypes.equals(other.converterTypes)
+				&& operations.equals(other.operations);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+}
@@ -0,0 +1,145 @@
+package org.pojomapper.copier.plan;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.Primitives;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+
+/**
+ * Copies several sources into one target, each target property written at most once. The plan of every source writes
+ * to a buffer with one slot per target property, in source order and with the rewrite and skip-nulls rules of its
+ * source, so the slot ends up with the value the last effective source would have left in the target. Only then the
+ * written slots are set on the target.
+ * <p>
+ * A slot reads the target property the first time a source needs its current value (no rewrite, dirty checking), and
+ * not at all otherwise. Values a target property wouldn't accept are rejected by the slot already, as the target would
+ * have, so a later source without rewrite still sees the previous value.
+ */
+public final class MergePlan {
+
+	private static final Object UNREAD = new Object();
+
+	private final MappingPlan[] plans;
+	private final boolean[] deep;
+	private final PropertyAccessor[] writes;
+
+	MergePlan(MappingPlan[] plans, boolean[] deep, PropertyAccessor[] writes) {
+		this.plans = plans;
+		this.deep = deep;
+		this.writes = writes;
+	}
+
+	/**
+	 * @param contexts
+	 *            context of each source
+	 */
+	public void copy(Object[] sources, MappingContext[] contexts, Object to) {
+		Buffer buffer = new Buffer(to, writes.length);
+		for (int i = 0; i < plans.length; i++) {
+			if (deep[i]) {
+				contexts[i].registerCopy(sources[i], to);
+			}
+			buffer.source = i;
+			plans[i].copy(sources[i], buffer, contexts[i]);
+		}
+		for (int i = 0; i < writes.length; i++) {
+			if (buffer.writers[i] >= 0 && !writes[i].set(to, buffer.values[i])) {
+				contexts[buffer.writers[i]].writeDropped(to, writes[i].name(), null);
+			}
+		}
+	}
+
+	public int sources() {
+		return plans.length;
+	}
+
+	static PropertyAccessor slot(PropertyAccessor write, int index) {
+		return new Slot(write, index);
+	}
+
+	/**
+	 * Target of the source plans: the pending values and the source which wrote each of them, {@code -1} for none.
+	 */
+	static final class Buffer {
+
+		private final Object target;
+		private final Object[] values;
+		private final int[] writers;
+		private int source;
+
+		Buffer(Object target, int size) {
+			this.target = target;
+			this.values = new Object[size];
+			this.writers = new int[size];
+			Arrays.fill(values, UNREAD);
+			Arrays.fill(writers, -1);
+		}
+	}
+
+	private static final class Slot implements PropertyAccessor {
+
+		private final PropertyAccessor write;
+		private final Class<?> wrapper;
+		private final int index;
+
+		Slot(PropertyAccessor write, int index) {
+			this.write = write;
+			this.wrapper = Primitives.wrap(write.type());
+			this.index = index;
+		}
+
+		@Override
+		public String name() {
+			return write.name();
+		}
+
+		@Override
+		public Class<?> type() {
+			return write.type();
+		}
+
+		@Override
+		public Type genericType() {
+			return write.genericType();
+		}
+
+		@Override
+		public boolean readable() {
+			return true;
+		}
+
+		@Override
+		public boolean writable() {
+			return true;
+		}
+
+		@Override
+		public Object get(Object bean) {
+			Buffer buffer = (Buffer) bean;
+			Object value = buffer.values[index];
+			if (value == UNREAD) {
+				value = write.readable() ? write.get(buffer.target) : null;
+				buffer.values[index] = value;
+			}
+			return value;
+		}
+
+		@Override
+		public boolean set(Object bean, Object value) {
+			Object slotValue = value;
+			Class<?> type = write.type();
+			if (Objects.isNull(slotValue) ? type.isPrimitive() : !wrapper.isInstance(slotValue)) {
+				slotValue = type.isPrimitive() ? Primitives.widen(slotValue, type) : null;
+				if (Objects.isNull(slotValue)) {
+					return false;
+				}
+			}
+			Buffer buffer = (Buffer) bean;
+			buffer.values[index] = slotValue;
+			buffer.writers[index] = buffer.source;
+			return true;
+		}
+	}
+}
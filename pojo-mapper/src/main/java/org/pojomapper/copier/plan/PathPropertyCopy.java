@@ -0,0 +1,52 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.PropertyPath;
+
+/**
+ * Copy between nested property paths: walks the source path to the bean holding its last segment, the target path to
+ * the bean holding its own, and runs the copy bound for the two last segments on them. A missing intermediate source
+ * bean or a last segment the runtime beans don't have skips the copy, as if the property didn't exist. A missing
+ * intermediate target bean is created if {@link MappingOptions#createIntermediates()} is set, the write is reported as
+ * dropped otherwise.
+ */
+public class PathPropertyCopy implements PropertyCopy {
+
+	private final PropertyPath from;
+	private final PropertyPath to;
+	private final boolean create;
+	private final PropertyCopy copy;
+
+	/**
+	 * @param from
+	 *            source path, {@code null} for a plain source property
+	 * @param to
+	 *            target path, {@code null} for a plain target property
+	 * @param copy
+	 *            bound for the {@link PropertyPath#leaf()} of each path
+	 */
+	public PathPropertyCopy(PropertyPath from, PropertyPath to, MappingOptions options, PropertyCopy copy) {
+		this.from = from;
+		this.to = to;
+		this.create = options.createIntermediates();
+		this.copy = copy;
+	}
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		Object source = Objects.isNull(this.from) ? from : this.from.parent(from, false);
+		if (Objects.isNull(source) || Objects.nonNull(this.from) && !this.from.resolves(source)) {
+			return false;
+		}
+		Object target = Objects.isNull(this.to) ? to : this.to.parent(to, create);
+		if (Objects.isNull(target)) {
+			context.writeDropped(to, this.to.path(), null);
+			return false;
+		}
+		if (Objects.nonNull(this.to) && !this.to.resolves(target)) {
+			return false;
+		}
+		return copy.copy(source, target, context);
+	}
+}
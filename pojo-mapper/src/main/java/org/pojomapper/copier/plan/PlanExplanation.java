@@ -0,0 +1,184 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * How a {@link MappingPlan} maps a source class to a target class, as resolved by {@link MappingPlanBuilder}: the
+ * planned property copies in plan order, the property pairs left out and the writable target properties nothing is
+ * copied to.
+ */
+public final class PlanExplanation {
+
+	private final Class<?> sourceClass;
+	private final Class<?> targetClass;
+	private final List<Property> properties;
+	private final List<Skipped> skipped;
+	private final List<String> unmapped;
+
+	PlanExplanation(Class<?> sourceClass, Class<?> targetClass, List<Property> properties, List<Skipped> skipped,
+			List<String> unmapped) {
+		this.sourceClass = sourceClass;
+		this.targetClass = targetClass;
+		this.properties = Collections.unmodifiableList(properties);
+		this.skipped = Collections.unmodifiableList(skipped);
+		this.unmapped = Collections.unmodifiableList(unmapped);
+	}
+
+	public Class<?> sourceClass() {
+		return sourceClass;
+	}
+
+	public Class<?> targetClass() {
+		return targetClass;
+	}
+
+	/**
+	 * @return planned copies in the order they run; a target property written by several entries ends up with the
+	 *         value of the last one
+	 */
+	public List<Property> properties() {
+		return properties;
+	}
+
+	/**
+	 * @return property pairs considered but not planned, e.g. ignored ones or source properties the target lacks
+	 */
+	public List<Skipped> skipped() {
+		return skipped;
+	}
+
+	/**
+	 * @return writable target properties no entry writes to
+	 */
+	public List<String> unmapped() {
+		return unmapped;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder(sourceClass.getName()).append(" -> ").append(targetClass.getName());
+		for (Property property : properties) {
+			text.append(System.lineSeparator()).append("  ").append(property);
+		}
+		for (Skipped pair : skipped) {
+			text.append(System.lineSeparator()).append("  skipped ").append(pair);
+		}
+		if (!unmapped.isEmpty()) {
+			text.append(System.lineSeparator()).append("  unmapped ").append(unmapped);
+		}
+		return text.toString();
+	}
+
+	/**
+	 * A planned copy from a source property or path to a target property or path.
+	 */
+	public static final class Property {
+
+		private final String target;
+		private final String source;
+		private final String copy;
+		private final String operation;
+		private final TypePair converter;
+		private final boolean boxed;
+		private final boolean reflective;
+
+		Property(String target, String source, String copy, String operation, TypePair converter, boolean boxed,
+				boolean reflective) {
+			this.target = target;
+			this.source = source;
+			this.copy = copy;
+			this.operation = operation;
+			this.converter = converter;
+			this.boxed = boxed;
+			this.reflective = reflective;
+		}
+
+		public String target() {
+			return target;
+		}
+
+		public String source() {
+			return source;
+		}
+
+		/**
+		 * @return simple name of the {@link PropertyCopy} running on every call, e.g. {@code IntToInt} or
+		 *         {@code PathPropertyCopy(DefaultPropertyCopy)}
+		 */
+		public String copy() {
+			return copy;
+		}
+
+		/**
+		 * @return simple name of the operation which bound the copy, or the per-call chain of a
+		 *         {@link DynamicPropertyCopy}
+		 */
+		public String operation() {
+			return operation;
+		}
+
+		/**
+		 * @return the typed converter applied, {@code null} if none
+		 */
+		public TypePair converter() {
+			return converter;
+		}
+
+		/**
+		 * @return whether primitive values are boxed on the way; unboxed copies such as {@code IntToInt} count as
+		 *         boxed when untyped converters are present, they delegate every call to the boxed copy then
+		 */
+		public boolean boxed() {
+			return boxed;
+		}
+
+		/**
+		 * @return whether the copy goes through reflection: {@code Method.invoke} accessors or the dynamic chain
+		 */
+		public boolean reflective() {
+			return reflective;
+		}
+
+		@Override
+		public String toString() {
+			return target + " <- " + source + ": " + copy + " by " + operation
+					+ (Objects.nonNull(converter) ? ", converter " + converter : "") + (boxed ? ", boxed" : "")
+					+ (reflective ? ", reflective" : "");
+		}
+	}
+
+	/**
+	 * A property pair not planned, with the reason.
+	 */
+	public static final class Skipped {
+
+		private final String target;
+		private final String source;
+		private final String reason;
+
+		Skipped(String target, String source, String reason) {
+			this.target = target;
+			this.source = source;
+			this.reason = reason;
+		}
+
+		public String target() {
+			return target;
+		}
+
+		public String source() {
+			return source;
+		}
+
+		public String reason() {
+			return reason;
+		}
+
+		@Override
+		public String toString() {
+			return target + " <- " + source + ": " + reason;
+		}
+	}
+}
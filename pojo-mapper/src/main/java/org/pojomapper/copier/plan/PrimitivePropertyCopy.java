@@ -0,0 +1,238 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.pojomapper.copier.accessor.DoublePropertyAccessor;
+import org.pojomapper.copier.accessor.IntPropertyAccessor;
+import org.pojomapper.copier.accessor.LongPropertyAccessor;
+import org.pojomapper.copier.accessor.Primitives;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+
+/**
+ * Copies a numeric primitive property to a primitive property of the same or a wider type through unboxed accessors,
+ * so no wrapper is allocated. Calls with converters go through the boxed {@link DefaultPropertyCopy}, converters see
+ * the same wrapper values as before.
+ * <p>
+ * Only {@code int}, {@code long} and {@code double} targets are specialized; the remaining primitives are either fully
+ * cached by their wrappers or rare enough to keep the boxed path.
+ */
+public abstract class PrimitivePropertyCopy implements PropertyCopy {
+
+	protected final PropertyCopy boxed;
+	protected final String name;
+
+	protected PrimitivePropertyCopy(PropertyCopy boxed, String name) {
+		this.boxed = boxed;
+		this.name = name;
+	}
+
+	/**
+	 * @return an unboxed copy where both accessors support it, a {@link DefaultPropertyCopy} otherwise
+	 */
+	public static PropertyCopy create(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		PropertyCopy boxed = new DefaultPropertyCopy(read, write, options);
+		if (!options.rewrite() || options.dirtyCheck() || !Primitives.isWidening(read.type(), write.type())) {
+			// without rewrite or with dirty checking the current target value decides, which the boxed copy reads
+			return boxed;
+		}
+		ToIntFunction<Object> intGetter = read instanceof IntPropertyAccessor
+				? ((IntPropertyAccessor) read).intGetter() : null;
+		ToLongFunction<Object> longGetter = read instanceof LongPropertyAccessor
+				? ((LongPropertyAccessor) read).longGetter() : null;
+		ToDoubleFunction<Object> doubleGetter = read instanceof DoublePropertyAccessor
+				? ((DoublePropertyAccessor) read).doubleGetter() : null;
+		if (write instanceof IntPropertyAccessor && Objects.nonNull(((IntPropertyAccessor) write).intSetter())) {
+			ObjIntConsumer<Object> setter = ((IntPropertyAccessor) write).intSetter();
+			if (Objects.nonNull(intGetter)) {
+				return new IntToInt(intGetter, setter, boxed, write.name());
+			}
+		} else if (write instanceof LongPropertyAccessor
+				&& Objects.nonNull(((LongPropertyAccessor) write).longSetter())) {
+			ObjLongConsumer<Object> setter = ((LongPropertyAccessor) write).longSetter();
+			if (Objects.nonNull(intGetter)) {
+				return new IntToLong(intGetter, setter, boxed, write.name());
+			} else if (Objects.nonNull(longGetter)) {
+				return new LongToLong(longGetter, setter, boxed, write.name());
+			}
+		} else if (write instanceof DoublePropertyAccessor
+				&& Objects.nonNull(((DoublePropertyAccessor) write).doubleSetter())) {
+			ObjDoubleConsumer<Object> setter = ((DoublePropertyAccessor) write).doubleSetter();
+			if (Objects.nonNull(intGetter)) {
+				return new IntToDouble(intGetter, setter, boxed, write.name());
+			} else if (Objects.nonNull(longGetter)) {
+				return new LongToDouble(longGetter, setter, boxed, write.name());
+			} else if (Objects.nonNull(doubleGetter)) {
+				return new DoubleToDouble(doubleGetter, setter, boxed, write.name());
+			}
+		}
+		return boxed;
+	}
+
+	/*
+	 * Each pair implements copy() itself so every call site sees a single getter and setter type. Failed reads and
+	 * writes are reported to the context and swallowed, as in the boxed path.
+	 */
+
+	static final class IntToInt extends PrimitivePropertyCopy {
+
+		private final ToIntFunction<Object> getter;
+		private final ObjIntConsumer<Object> setter;
+
+		IntToInt(ToIntFunction<Object> getter, ObjIntConsumer<Object> setter, PropertyCopy boxed, String name) {
+			super(boxed, name);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean copy(Object from, Object to, MappingContext context) {
+			if (context.converters().length > 0) {
+				return boxed.copy(from, to, context);
+			}
+			try {
+				setter.accept(to, getter.applyAsInt(from));
+				return true;
+			} catch (Exception e) {
+				context.writeDropped(to, name, e);
+				return false;
+			}
+		}
+	}
+
+	static final class IntToLong extends PrimitivePropertyCopy {
+
+		private final ToIntFunction<Object> getter;
+		private final ObjLongConsumer<Object> setter;
+
+		IntToLong(ToIntFunction<Object> getter, ObjLongConsumer<Object> setter, PropertyCopy boxed, String name) {
+			super(boxed, name);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean copy(Object from, Object to, MappingContext context) {
+			if (context.converters().length > 0) {
+				return boxed.copy(from, to, context);
+			}
+			try {
+				setter.accept(to, getter.applyAsInt(from));
+				return true;
+			} catch (Exception e) {
+				context.writeDropped(to, name, e);
+				return false;
+			}
+		}
+	}
+
+	static final class LongToLong extends PrimitivePropertyCopy {
+
+		private final ToLongFunction<Object> getter;
+		private final ObjLongConsumer<Object> setter;
+
+		LongToLong(ToLongFunction<Object> getter, ObjLongConsumer<Object> setter, PropertyCopy boxed, String name) {
+			super(boxed, name);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean copy(Object from, Object to, MappingContext context) {
+			if (context.converters().length > 0) {
+				return boxed.copy(from, to, context);
+			}
+			try {
+				setter.accept(to, getter.applyAsLong(from));
+				return true;
+			} catch (Exception e) {
+				context.writeDropped(to, name, e);
+				return false;
+			}
+		}
+	}
+
+	static final class IntToDouble extends PrimitivePropertyCopy {
+
+		private final ToIntFunction<Object> getter;
+		private final ObjDoubleConsumer<Object> setter;
+
+		IntToDouble(ToIntFunction<Object> getter, ObjDoubleConsumer<Object> setter, PropertyCopy boxed, String name) {
+			super(boxed, name);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean copy(Object from, Object to, MappingContext context) {
+			if (context.converters().length > 0) {
+				return boxed.copy(from, to, context);
+			}
+			try {
+				setter.accept(to, getter.applyAsInt(from));
+				return true;
+			} catch (Exception e) {
+				context.writeDropped(to, name, e);
+				return false;
+			}
+		}
+	}
+
+	static final class LongToDouble extends PrimitivePropertyCopy {
+
+		private final ToLongFunction<Object> getter;
+		private final ObjDoubleConsumer<Object> setter;
+
+		LongToDouble(ToLongFunction<Object> getter, ObjDoubleConsumer<Object> setter, PropertyCopy boxed, String name) {
+			super(boxed, name);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean copy(Object from, Object to, MappingContext context) {
+			if (context.converters().length > 0) {
+				return boxed.copy(from, to, context);
+			}
+			try {
+				setter.accept(to, getter.applyAsLong(from));
+				return true;
+			} catch (Exception e) {
+				context.writeDropped(to, name, e);
+				return false;
+			}
+		}
+	}
+
+	static final class DoubleToDouble extends PrimitivePropertyCopy {
+
+		private final ToDoubleFunction<Object> getter;
+		private final ObjDoubleConsumer<Object> setter;
+
+		DoubleToDouble(ToDoubleFunction<Object> getter, ObjDoubleConsumer<Object> setter, PropertyCopy boxed,
+				String name) {
+			super(boxed, name);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public boolean copy(Object from, Object to, MappingContext context) {
+			if (context.converters().length > 0) {
+				return boxed.copy(from, to, context);
+			}
+			try {
+				setter.accept(to, getter.applyAsDouble(from));
+				return true;
+			} catch (Exception e) {
+				context.writeDropped(to, name, e);
+				return false;
+			}
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package org.pojomapper.copier.plan;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+
+/**
+ * Resolved source and target property a {@link org.pojomapper.copier.copyoperation.BindableCopyOperation} binds a
+ * {@link PropertyCopy} for, once per {@link MappingPlan}.
+ */
+public final class PropertyBinding {
+
+	private final Class<?> sourceClass;
+	private final Class<?> targetClass;
+	private final PropertyAccessor read;
+	private final PropertyAccessor write;
+	private final MappingOptions options;
+	private final int typeConverter;
+
+	public PropertyBinding(Class<?> sourceClass, Class<?> targetClass, PropertyAccessor read, PropertyAccessor write,
+			MappingOptions options, int typeConverter) {
+		this.sourceClass = sourceClass;
+		this.targetClass = targetClass;
+		this.read = read;
+		this.write = write;
+		this.options = options;
+		this.typeConverter = typeConverter;
+	}
+
+	public Class<?> sourceClass() {
+		return sourceClass;
+	}
+
+	public Class<?> targetClass() {
+		return targetClass;
+	}
+
+	/**
+	 * @return source property, not necessarily readable
+	 */
+	public PropertyAccessor read() {
+		return read;
+	}
+
+	/**
+	 * @return writable target property
+	 */
+	public PropertyAccessor write() {
+		return write;
+	}
+
+	public MappingOptions options() {
+		return options;
+	}
+
+	/**
+	 * @return index of the {@link MappingContext#typeConverter(int)} registered for this pair, {@code -1} if none
+	 */
+	public int typeConverter() {
+		return typeConverter;
+	}
+}
@@ -0,0 +1,17 @@
+package org.pojomapper.copier.plan;
+
+/**
+ * A single precomputed property transfer of a {@link MappingPlan}.
+ */
+public interface PropertyCopy {
+
+	/**
+	 * Bound for properties which are handled by not copying them at all; left out of the plan.
+	 */
+	PropertyCopy NONE = (from, to, context) -> false;
+
+	/**
+	 * @return {@code true} if the target property has been written
+	 */
+	boolean copy(Object from, Object to, MappingContext context);
+}
@@ -0,0 +1,27 @@
+package org.pojomapper.copier.plan;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.enums.EnumStrategy;
+
+/**
+ * Plan counterpart of the {@link String} to enum branch of
+ * {@link org.pojomapper.copier.copyoperation.EnumToStringCopyOperation}.
+ */
+public class StringToEnumPropertyCopy extends ToEnumPropertyCopy {
+
+	private final EnumStrategy strategy;
+
+	public StringToEnumPropertyCopy(PropertyAccessor read, PropertyAccessor write, boolean rewrite) {
+		this(read, write, MappingOptions.DEFAULT.rewrite(rewrite));
+	}
+
+	public StringToEnumPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		super(read, write, options);
+		this.strategy = options.enumStrategy();
+	}
+
+	@Override
+	protected Enum<?> decode(Object value) {
+		return codec.decode(value.toString(), strategy);
+	}
+}
@@ -0,0 +1,70 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.enums.EnumCodec;
+import org.pojomapper.copier.enums.EnumFallback;
+
+/**
+ * Writes the enum constant a source value stands for, looked up in the {@link EnumCodec} of the target property.
+ * Values no constant matches are handled by the {@link EnumFallback}.
+ */
+public abstract class ToEnumPropertyCopy implements PropertyCopy {
+
+	protected final PropertyAccessor read;
+	protected final PropertyAccessor write;
+	protected final EnumCodec codec;
+	private final boolean rewrite;
+	private final boolean dirtyCheck;
+	private final EnumFallback fallback;
+
+	protected ToEnumPropertyCopy(PropertyAccessor read, PropertyAccessor write, MappingOptions options) {
+		this.read = read;
+		this.write = write;
+		this.codec = EnumCodec.of(write.type());
+		this.rewrite = options.rewrite();
+		this.dirtyCheck = options.dirtyCheck();
+		this.fallback = options.enumFallback();
+	}
+
+	/**
+	 * @return the constant {@code value} stands for, {@code null} if there is none
+	 */
+	protected abstract Enum<?> decode(Object value);
+
+	@Override
+	public boolean copy(Object from, Object to, MappingContext context) {
+		Object valueToWrite = read.get(from);
+		if (!rewrite && Objects.nonNull(write.get(to))) {
+			return false;
+		}
+		if (Objects.isNull(valueToWrite)) {
+			return write(to, null, context);
+		}
+		Enum<?> constant = codec.enumClass().isInstance(valueToWrite) ? (Enum<?>) valueToWrite : decode(valueToWrite);
+		if (Objects.nonNull(constant)) {
+			return write(to, constant, context);
+		}
+		switch (fallback) {
+		case SKIP:
+			return false;
+		case NULL:
+			return write(to, null, context);
+		default:
+			throw new IllegalArgumentException(
+					"No enum constant " + codec.enumClass().getCanonicalName() + "." + valueToWrite);
+		}
+	}
+
+	private boolean write(Object to, Enum<?> constant, MappingContext context) {
+		if (dirtyCheck && DirtyCheck.isUnchanged(write, to, constant)) {
+			return false;
+		}
+		if (!write.set(to, constant)) {
+			context.writeDropped(to, write.name(), null);
+			return false;
+		}
+		return true;
+	}
+}
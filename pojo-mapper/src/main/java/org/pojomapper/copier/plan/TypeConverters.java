@@ -0,0 +1,78 @@
+package org.pojomapper.copier.plan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Converters registered for a (source type, target type) pair. Immutable, {@link #with} returns a copy.
+ * <p>
+ * Only the {@link #types()} are part of a {@link MappingPlanKey}: the plan resolves every property to the index of its
+ * converter once, the functions themselves are passed with the {@link MappingContext} of each call.
+ */
+public final class TypeConverters {
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static final TypeConverters EMPTY = new TypeConverters(Collections.emptyList(), new Function[0]);
+
+	private final List<TypePair> types;
+	private final Function<Object, Object>[] functions;
+
+	private TypeConverters(List<TypePair> types, Function<Object, Object>[] functions) {
+		this.types = types;
+		this.functions = functions;
+	}
+
+	/**
+	 * A pair registered again replaces the earlier converter.
+	 */
+	@SuppressWarnings("unchecked")
+	public <S, T> TypeConverters with(Class<S> sourceType, Class<T> targetType,
+			Function<? super S, ? extends T> converter) {
+		TypePair type = new TypePair(sourceType, targetType);
+		List<TypePair> newTypes = new ArrayList<>(types);
+		Function<Object, Object>[] newFunctions;
+		int index = newTypes.indexOf(type);
+		if (index < 0) {
+			newTypes.add(type);
+			newFunctions = Arrays.copyOf(functions, functions.length + 1);
+			index = functions.length;
+		} else {
+			newFunctions = functions.clone();
+		}
+		newFunctions[index] = (Function<Object, Object>) converter;
+		return new TypeConverters(Collections.unmodifiableList(newTypes), newFunctions);
+	}
+
+	public List<TypePair> types() {
+		return types;
+	}
+
+	public Function<Object, Object>[] functions() {
+		return functions;
+	}
+
+	public boolean isEmpty() {
+		return types.isEmpty();
+	}
+
+	/**
+	 * @return index of the converter for a property of {@code readType} written to {@code writeType}: an exact pair
+	 *         wins over the first applicable one, {@code -1} if there is none
+	 */
+	public static int resolve(List<TypePair> types, Class<?> readType, Class<?> writeType) {
+		for (int i = 0; i < types.size(); i++) {
+			if (types.get(i).isExact(readType, writeType)) {
+				return i;
+			}
+		}
+		for (int i = 0; i < types.size(); i++) {
+			if (types.get(i).isApplicable(readType, writeType)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,61 @@
+package org.pojomapper.copier.plan;
+
+import java.util.Objects;
+
+import org.pojomapper.copier.accessor.Primitives;
+
+/**
+ * Source and target type a typed converter is registered for.
+ */
+public final class TypePair {
+
+	private final Class<?> source;
+	private final Class<?> target;
+
+	public TypePair(Class<?> source, Class<?> target) {
+		this.source = Objects.requireNonNull(source);
+		this.target = Objects.requireNonNull(target);
+	}
+
+	public Class<?> source() {
+		return source;
+	}
+
+	public Class<?> target() {
+		return target;
+	}
+
+	public boolean isExact(Class<?> readType, Class<?> writeType) {
+		return source == Primitives.wrap(readType) && target == Primitives.wrap(writeType);
+	}
+
+	/**
+	 * @return whether values of {@code readType} are accepted and the result can be written to {@code writeType}
+	 */
+	public boolean isApplicable(Class<?> readType, Class<?> writeType) {
+		return source.isAssignableFrom(Primitives.wrap(readType))
+				&& Primitives.wrap(writeType).isAssignableFrom(Primitives.wrap(target));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof TypePair)) {
+			return false;
+		}
+		TypePair other = (TypePair) obj;
+		return source == other.source && target == other.target;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * source.hashCode() + target.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return source.getName() + " -> " + target.getName();
+	}
+}
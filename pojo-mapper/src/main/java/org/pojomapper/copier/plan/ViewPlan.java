@@ -0,0 +1,135 @@
+package org.pojomapper.copier.plan;
+
+import java.beans.Introspector;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-only views of a source through an interface: every abstract no-arg method of the interface is a property,
+ * {@code getName()}, {@code isActive()} or plainly {@code name()}. A view copies nothing up front, the first call of a
+ * getter runs the copies planned for its property, with the renames, converters and enum conversions of the plan, and
+ * keeps the value for later calls.
+ * <p>
+ * Default methods are invoked, {@code equals} and {@code hashCode} are those of the view instance, any other method
+ * throws {@link UnsupportedOperationException}. Views are thread-safe.
+ */
+public final class ViewPlan {
+
+	private final Class<?> type;
+	private final Map<Method, Integer> indexes = new HashMap<>();
+	private final String[] names;
+	private final Object[] defaults;
+	private final PropertyCopy[][] copies;
+
+	ViewPlan(Class<?> type, Method[] getters, String[] names, PropertyCopy[][] copies) {
+		this.type = type;
+		this.names = names;
+		this.defaults = new Object[getters.length];
+		this.copies = copies;
+		for (int i = 0; i < getters.length; i++) {
+			indexes.put(getters[i], i);
+			Class<?> returnType = getters[i].getReturnType();
+			defaults[i] = returnType.isPrimitive() ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+		}
+	}
+
+	/**
+	 * @return the getters of {@code type} in a stable order
+	 */
+	static Method[] getters(Class<?> type) {
+		List<Method> getters = new ArrayList<>();
+		for (Method method : type.getMethods()) {
+			if (Modifier.isAbstract(method.getModifiers()) && method.getParameterCount() == 0
+					&& method.getReturnType() != void.class) {
+				getters.add(method);
+			}
+		}
+		getters.sort(Comparator.comparing(Method::getName));
+		return getters.toArray(new Method[0]);
+	}
+
+	static String propertyName(Method getter) {
+		String name = getter.getName();
+		if (name.startsWith("get") && name.length() > 3) {
+			return Introspector.decapitalize(name.substring(3));
+		}
+		if (name.startsWith("is") && name.length() > 2
+				&& (getter.getReturnType() == boolean.class || getter.getReturnType() == Boolean.class)) {
+			return Introspector.decapitalize(name.substring(2));
+		}
+		return name;
+	}
+
+	/**
+	 * @param context
+	 *            used by the view on every first read, not shared with other calls
+	 */
+	public Object create(Object source, MappingContext context) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				new View(this, source, context));
+	}
+
+	public Class<?> type() {
+		return type;
+	}
+
+	private static final class View implements InvocationHandler {
+
+		private final ViewPlan plan;
+		private final Object source;
+		private final MappingContext context;
+		private final Object[] values;
+		private final boolean[] read;
+
+		View(ViewPlan plan, Object source, MappingContext context) {
+			this.plan = plan;
+			this.source = source;
+			this.context = context;
+			this.values = new Object[plan.names.length];
+			this.read = new boolean[plan.names.length];
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Integer index = plan.indexes.get(method);
+			if (Objects.nonNull(index)) {
+				return value(index);
+			}
+			if (method.getDeclaringClass() == Object.class) {
+				switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				default:
+					return plan.type.getSimpleName() + " view of " + source;
+				}
+			}
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, args);
+			}
+			throw new UnsupportedOperationException(method + " is not a getter of the view");
+		}
+
+		private synchronized Object value(int index) {
+			if (!read[index]) {
+				// in plan order, so the last copy wins as it would on a bean
+				for (PropertyCopy copy : plan.copies[index]) {
+					copy.copy(source, values, context);
+				}
+				read[index] = true;
+			}
+			Object value = values[index];
+			return Objects.isNull(value) ? plan.defaults[index] : value;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package org.pojomapper.copier.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.pojomapper.copier.accessor.AccessorCache;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.metrics.MappingListeners;
+
+/**
+ * @author Sergey_Smolyarchuk
+ */
+public class PojoUtil {
+
+	public static Object get(Object obj, String prop) {
+		if (isSimple(obj, prop)) {
+			PropertyAccessor accessor = AccessorCache.of(obj.getClass()).get(prop);
+			return Objects.nonNull(accessor) ? accessor.get(obj) : null;
+		}
+		try {
+			return PropertyUtils.getProperty(obj, prop);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	@SafeVarargs
+	public static void set(Object obj, String prop, Object value, Function<Object, Object>... converter) {
+		try {
+			if (isSimple(obj, prop)) {
+				PropertyAccessor accessor = AccessorCache.of(obj.getClass()).get(prop);
+				if (Objects.nonNull(accessor) && !accessor.set(obj, convert(value, converter))) {
+					writeDropped(obj, prop, null);
+				}
+				return;
+			}
+			PropertyUtils.setProperty(obj, prop, convert(value, converter));
+		} catch (Exception e) {
+			writeDropped(obj, prop, e);
+		}
+	}
+
+	private static void writeDropped(Object obj, String prop, Throwable cause) {
+		if (Objects.nonNull(obj) && MappingListeners.isEnabled()) {
+			MappingListeners.writeDropped(obj.getClass(), prop, cause);
+		}
+	}
+
+	/**
+	 * Same as {@link #set(Object, String, Object, Function...)} without copying {@code converters} to an array.
+	 */
+	public static void set(Object obj, String prop, Object value, List<Function<Object, Object>> converters) {
+		Object converted;
+		try {
+			converted = convert(value, converters);
+		} catch (Exception e) {
+			writeDropped(obj, prop, e);
+			return;
+		}
+		set(obj, prop, converted);
+	}
+
+	public static Object convert(Object value, List<Function<Object, Object>> converters) {
+		Object copyValue = value;
+		for (int i = 0; i < converters.size(); i++) {
+			copyValue = converters.get(i).apply(copyValue);
+		}
+		return copyValue;
+	}
+
+	@SafeVarargs
+	public static Object convert(Object value, Function<Object, Object>... converter) {
+		Object copyValue = value;
+		if (converter.length > 0) {
+			for (Function<Object, Object> function : converter) {
+				copyValue = function.apply(copyValue);
+			}
+		}
+		return copyValue;
+	}
+
+	public static boolean hasProperty(Object obj, String prop) {
+		if (isSimple(obj, prop)) {
+			return Objects.nonNull(AccessorCache.of(obj.getClass()).get(prop));
+		}
+		try {
+			return Objects.nonNull(PropertyUtils.getPropertyDescriptor(obj, prop));
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Plain property names of ordinary beans are served by the {@link AccessorCache}, everything else (nested, indexed
+	 * and mapped names, {@link Map} and {@link DynaBean} instances) is left to {@link PropertyUtils}.
+	 */
+	public static boolean isSimple(Object obj, String prop) {
+		return Objects.nonNull(obj) && Objects.nonNull(prop) && !(obj instanceof Map) && !(obj instanceof DynaBean)
+				&& isSimple(prop);
+	}
+
+	public static boolean isSimple(String prop) {
+		return prop.indexOf('.') < 0 && prop.indexOf('[') < 0 && prop.indexOf('(') < 0;
+	}
+}
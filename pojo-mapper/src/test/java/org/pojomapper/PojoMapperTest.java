@@ -192,6 +192,54 @@ public class PojoMapperTest {
 		Assert.assertThat(dto, nullValue());
 	}
 
+	@Test
+	public void copyMapToDomain() {
+		Map<String, Object> map = new HashMap<>();
+		map.put("extraProp", "extra");
+		map.put("enumProp", "SECOND");
+		map.put("notMatchedProp3", "notMatched");
+		map.put("unknown", "ignored");
+
+		Domain domain = PojoMapper.copyTo(new Domain()).from(map).mapper("notMatchedProp1", "notMatchedProp3").copy();
+
+		Assert.assertThat(domain.getExtraProp(), equalTo("extra"));
+		Assert.assertThat(domain.getEnumProp(), equalTo(Domain.Enum.SECOND));
+		Assert.assertThat(domain.getNotMatchedProp1(), equalTo("notMatched"));
+	}
+
+	@Test
+	public void partialMapLeavesOtherPropertiesAlone() {
+		Domain domain = new Domain();
+		domain.setExtraProp("keep");
+		domain.setNotMatchedProp1("keep");
+		Map<String, Object> map = new HashMap<>();
+		map.put("extraProp", "new");
+		map.put("enumProp", null);
+
+		PojoMapper.copyTo(domain).from(map).copy();
+
+		Assert.assertThat(domain.getExtraProp(), equalTo("new"));
+		Assert.assertThat(domain.getEnumProp(), nullValue());
+		Assert.assertThat(domain.getNotMatchedProp1(), equalTo("keep"));
+	}
+
+	@Test
+	public void copyDomainToMapAndBack() {
+		Domain domain = setRandomPropertyValues(new Domain());
+
+		Map<String, Object> map = PojoMapper.toMap(domain);
+
+		Assert.assertThat(map.get("extraProp"), equalTo(domain.getExtraProp()));
+		Assert.assertThat(map.get("enumProp"), equalTo(domain.getEnumProp()));
+		Assert.assertThat(map.containsKey("class"), equalTo(false));
+
+		Domain copy = PojoMapper.copyTo(new Domain()).from(map).copy();
+
+		Assert.assertThat(copy.getExtraProp(), equalTo(domain.getExtraProp()));
+		Assert.assertThat(copy.getEnumProp(), equalTo(domain.getEnumProp()));
+		Assert.assertThat(copy.getDateDomain(), equalTo(domain.getDateDomain()));
+	}
+
 	public static class TestingIllegalAccessException {
 		public void setIllegalAccessException(Object illegalAccessException) throws IllegalAccessException {
 			throw new IllegalAccessException();
@@ -0,0 +1,108 @@
+package org.pojomapper.copier;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.PojoMapperTest.Domain;
+import org.pojomapper.PojoMapperTest.Dto;
+
+public class MappingRegistryTest {
+
+	@Test
+	public void warmUpBuildsValidSpecs() throws Exception {
+		MappingRegistry registry = PojoMapper.registry()
+				.register(PojoMapper.spec(Domain.class, Dto.class).mapper("notMatchedProp1", "notMatchedProp3")
+						.mapper("nestedProp.prop1", "notMatchedProp5"))
+				.register(PojoMapper.spec(Dto.class, Domain.class).mapper("notMatchedProp1", "notMatchedProp3"));
+
+		List<String> problems = registry.warmUp().get(10, TimeUnit.SECONDS);
+
+		Assert.assertThat(problems, equalTo(Collections.emptyList()));
+		MappingSpec<Domain, Dto> spec = registry.spec(Domain.class, Dto.class);
+		Assert.assertThat(registry.spec(Domain.class, Dto.class), sameInstance(spec));
+		Domain domain = new Domain();
+		domain.setNotMatchedProp1("value");
+		Assert.assertThat(spec.map(domain, new Dto()).getNotMatchedProp3(), equalTo("value"));
+	}
+
+	@Test
+	public void unknownPropertiesAreReported() {
+		MappingRegistry registry = PojoMapper.registry()
+				.register(PojoMapper.spec(Domain.class, Dto.class).mapper("notExisting", "notMatchedProp3")
+						.mapper("nestedProp.notExisting", "notMatchedProp5").ignore("notMatchedProp1", "typo"));
+
+		List<String> problems = registry.resolve();
+
+		Assert.assertThat(problems.size(), equalTo(3));
+		Assert.assertThat(problems.get(0), containsString("Can't map notExisting to notMatchedProp3"));
+		Assert.assertThat(problems.get(1), containsString("nestedProp.notExisting"));
+		Assert.assertThat(problems.get(2), containsString("Ignored property typo"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void validateFailsFast() {
+		PojoMapper.registry().register(PojoMapper.spec(Domain.class, Dto.class).mapper("notExisting", "extraProp"))
+				.validate();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void duplicateRegistrationIsRejected() {
+		PojoMapper.registry().register(PojoMapper.spec(Domain.class, Dto.class))
+				.register(PojoMapper.spec(Domain.class, Dto.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unregisteredSpecIsRejected() {
+		PojoMapper.registry().spec(Domain.class, Dto.class);
+	}
+
+	@Test
+	public void pathsBelowRuntimeTypesAreAccepted() {
+		Assert.assertThat(MappingValidator.hasPath(Domain.class, "nestedProp.prop1"), equalTo(true));
+		Assert.assertThat(MappingValidator.hasPath(Domain.class, "nestedProp.prop1[0]"), equalTo(true));
+		Assert.assertThat(MappingValidator.hasPath(Domain.class, "readOnlyProperty.anything"), equalTo(true));
+		Assert.assertThat(MappingValidator.hasPath(Domain.class, "nestedProp.missing"), equalTo(false));
+	}
+
+	@Test
+	public void misspelledIndexedAndMappedPathsAreReported() {
+		Assert.assertThat(MappingValidator.hasPath(Domain.class, "nestedPorp[0].prop1"), equalTo(false));
+		Assert.assertThat(MappingValidator.hasPath(Domain.class, "nestedPorp(key).prop1"), equalTo(false));
+		Assert.assertThat(MappingValidator.hasPath(Slots.class, "item[0]"), equalTo(true));
+		Assert.assertThat(MappingValidator.hasPath(Slots.class, "attr(key)"), equalTo(true));
+		Assert.assertThat(MappingValidator.hasPath(Slots.class, "itme[0]"), equalTo(false));
+		Assert.assertThat(MappingValidator.hasPath(Slots.class, "atr(key)"), equalTo(false));
+	}
+
+	public static class Slots {
+
+		private final String[] items = new String[1];
+		private final Map<String, String> attrs = new HashMap<>();
+
+		public String getItem(int index) {
+			return items[index];
+		}
+
+		public void setItem(int index, String item) {
+			items[index] = item;
+		}
+
+		public String getAttr(String key) {
+			return attrs.get(key);
+		}
+
+		public void setAttr(String key, String value) {
+			attrs.put(key, value);
+		}
+	}
+}
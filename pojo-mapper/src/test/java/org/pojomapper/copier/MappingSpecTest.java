@@ -0,0 +1,171 @@
+package org.pojomapper.copier;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.PojoMapperTest.Domain;
+import org.pojomapper.PojoMapperTest.Dto;
+
+public class MappingSpecTest {
+
+	private static final MappingSpec<Domain, Dto> SPEC = PojoMapper.spec(Domain.class, Dto.class)
+			.mapper("notMatchedProp1", "notMatchedProp3").mapper("nestedProp.prop1", "notMatchedProp5")
+			.converter(value -> value instanceof String ? ((String) value).toUpperCase() : value).build();
+
+	@Test
+	public void mapWithSpec() {
+		Domain domain = domain("value");
+
+		Dto dto = SPEC.map(domain, new Dto());
+
+		Assert.assertThat(dto.getExtraProp(), equalTo("VALUE"));
+		Assert.assertThat(dto.getNotMatchedProp3(), equalTo("NOTMATCHED"));
+		Assert.assertThat(dto.getNotMatchedProp5(), equalTo("NESTED"));
+		Assert.assertThat(dto.getEnumProp(), equalTo("SECOND"));
+	}
+
+	@Test
+	public void nullMaskMapsEveryProperty() {
+		Dto dto = SPEC.map(domain("value"), new Dto(), null);
+
+		Assert.assertThat(dto.getExtraProp(), equalTo("VALUE"));
+		Assert.assertThat(dto.getNotMatchedProp3(), equalTo("NOTMATCHED"));
+	}
+
+	@Test
+	public void specIsReusable() {
+		Assert.assertThat(SPEC.map(domain("first"), new Dto()).getExtraProp(), equalTo("FIRST"));
+		Assert.assertThat(SPEC.map(domain("second"), new Dto()).getExtraProp(), equalTo("SECOND"));
+	}
+
+	@Test
+	public void specIsThreadSafe() {
+		List<String> values = IntStream.range(0, 1000).parallel()
+				.mapToObj(i -> SPEC.map(domain("value" + i), new Dto()).getExtraProp()).collect(Collectors.toList());
+
+		for (int i = 0; i < values.size(); i++) {
+			Assert.assertThat(values.get(i), equalTo("VALUE" + i));
+		}
+	}
+
+	@Test
+	public void builderChangesDoNotAffectSpec() {
+		MappingSpecBuilder<Domain, Dto> builder = PojoMapper.spec(Domain.class, Dto.class).rewrite(false);
+		MappingSpec<Domain, Dto> spec = builder.build();
+		builder.rewrite(true);
+
+		Dto to = new Dto();
+		to.setExtraProp("current");
+
+		Assert.assertThat(spec.map(domain("value"), to).getExtraProp(), equalTo("current"));
+	}
+
+	@Test
+	public void mapSubclass() {
+		Domain domain = new Domain() {
+		};
+		domain.setExtraProp("value");
+
+		Assert.assertThat(SPEC.map(domain, new Dto()).getExtraProp(), equalTo("VALUE"));
+	}
+
+	@Test
+	public void mapAll() {
+		List<Domain> domains = IntStream.range(0, 10).mapToObj(i -> domain("value" + i)).collect(Collectors.toList());
+		domains.set(5, null);
+
+		List<Dto> dtos = SPEC.mapAll(domains, Dto::new);
+
+		Assert.assertThat(dtos.size(), equalTo(10));
+		Assert.assertThat(dtos.get(0).getExtraProp(), equalTo("VALUE0"));
+		Assert.assertThat(dtos.get(5), nullValue());
+		Assert.assertThat(dtos.get(9).getExtraProp(), equalTo("VALUE9"));
+	}
+
+	@Test
+	public void mapAllParallel() {
+		List<Domain> domains = IntStream.range(0, 10_000).mapToObj(i -> domain("value" + i))
+				.collect(Collectors.toList());
+
+		List<Dto> dtos = SPEC.mapAllParallel(domains, Dto::new);
+
+		Assert.assertThat(dtos.size(), equalTo(domains.size()));
+		for (int i = 0; i < dtos.size(); i++) {
+			Assert.assertThat(dtos.get(i).getExtraProp(), equalTo("VALUE" + i));
+		}
+		dtos.add(new Dto());
+	}
+
+	@Test
+	public void mapStreamIsLazy() {
+		AtomicInteger created = new AtomicInteger();
+
+		Optional<Dto> first = SPEC.mapStream(Stream.of(domain("first"), domain("second")), () -> {
+			created.incrementAndGet();
+			return new Dto();
+		}).findFirst();
+
+		Assert.assertThat(first.get().getExtraProp(), equalTo("FIRST"));
+		Assert.assertThat(created.get(), equalTo(1));
+	}
+
+	@Test
+	public void mapParallelStream() {
+		List<Domain> domains = IntStream.range(0, 10_000).mapToObj(i -> domain("value" + i))
+				.collect(Collectors.toList());
+
+		List<String> values = SPEC.mapStream(domains.parallelStream(), Dto::new).map(Dto::getExtraProp)
+				.collect(Collectors.toList());
+
+		Assert.assertThat(values.size(), equalTo(domains.size()));
+		Assert.assertThat(values.get(9_999), equalTo("VALUE9999"));
+	}
+
+	@Test
+	public void mapIterator() {
+		Iterator<Domain> cursor = Arrays.asList(domain("first"), domain("second")).iterator();
+
+		List<String> values = SPEC.mapStream(cursor, Dto::new).map(Dto::getExtraProp).collect(Collectors.toList());
+
+		Assert.assertThat(values, equalTo(Arrays.asList("FIRST", "SECOND")));
+	}
+
+	@Test
+	public void mapSpliteratorKeepsCharacteristics() {
+		List<Domain> domains = Arrays.asList(domain("first"), domain("second"));
+
+		Spliterator<Dto> spliterator = SPEC.mapSpliterator(domains.spliterator(), Dto::new);
+
+		Assert.assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED), equalTo(true));
+		Assert.assertThat(spliterator.getExactSizeIfKnown(), equalTo(2L));
+	}
+
+	@Test
+	public void mapNull() {
+		Assert.assertThat(SPEC.map(null, new Dto()), nullValue());
+		Assert.assertThat(SPEC.map(new Domain(), null), nullValue());
+	}
+
+	private static Domain domain(String value) {
+		Domain domain = new Domain();
+		domain.setExtraProp(value);
+		domain.setNotMatchedProp1("notMatched");
+		domain.setEnumProp(Domain.Enum.SECOND);
+		domain.setNestedProp(new Domain.NestedProp());
+		domain.getNestedProp().setProp1("nested");
+		return domain;
+	}
+}
@@ -0,0 +1,60 @@
+package org.pojomapper.copier.accessor;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AccessorCacheTest {
+
+	@Test
+	public void accessorsAreResolvedOncePerClass() {
+		ClassAccessors first = AccessorCache.of(Bean.class);
+		AccessorCacheStats before = AccessorCache.stats();
+		ClassAccessors second = AccessorCache.of(Bean.class);
+		AccessorCacheStats after = AccessorCache.stats();
+
+		Assert.assertThat(second, sameInstance(first));
+		Assert.assertThat(after.misses(), equalTo(before.misses()));
+		Assert.assertThat(after.hits() > before.hits(), equalTo(true));
+	}
+
+	@Test
+	public void missIsCounted() {
+		AccessorCacheStats before = AccessorCache.stats();
+		AccessorCache.of(OtherBean.class);
+		AccessorCacheStats after = AccessorCache.stats();
+
+		Assert.assertThat(after.misses(), equalTo(before.misses() + 1));
+		Assert.assertThat(after.size() > 0, equalTo(true));
+	}
+
+	@Test
+	public void missingProperty() {
+		Assert.assertThat(AccessorCache.of(Bean.class).get("notExisting"), nullValue());
+	}
+
+	public static class Bean {
+
+		private String prop;
+
+		public String getProp() {
+			return prop;
+		}
+
+		public void setProp(String prop) {
+			this.prop = prop;
+		}
+	}
+
+	public static class OtherBean {
+
+		private String prop;
+
+		public String getProp() {
+			return prop;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package org.pojomapper.copier.accessor;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+
+public class FieldPropertyAccessorTest {
+
+	@Test
+	public void structsAreCopiedByFieldsAutomatically() {
+		Struct source = new Struct();
+		source.name = "name";
+		source.count = 7;
+		source.secret = "secret";
+
+		Struct target = PojoMapper.copyTo(new Struct()).from(source).copy();
+
+		Assert.assertThat(target.name, equalTo("name"));
+		Assert.assertThat(target.count, equalTo(7));
+		Assert.assertThat(target.secret, equalTo("secret"));
+		Assert.assertThat(target.id, equalTo(1L));
+	}
+
+	@Test
+	public void fieldsBypassGettersAndSetters() {
+		Validated source = new Validated();
+		source.value = "source";
+
+		Validated target = PojoMapper.copyTo(new Validated()).from(source).access(AccessStrategy.FIELDS).copy();
+
+		Assert.assertThat(target.value, equalTo("source"));
+		Assert.assertThat(target.calls, equalTo(0));
+		Assert.assertThat(source.calls, equalTo(0));
+	}
+
+	@Test
+	public void structToBeanWidensPrimitives() {
+		Struct source = new Struct();
+		source.count = 7;
+
+		Bean bean = PojoMapper.copyTo(new Bean()).from(source).copy();
+
+		Assert.assertThat(bean.getCount(), equalTo(7L));
+	}
+
+	@Test
+	public void fieldAccessors() {
+		ClassAccessors fields = AccessorCache.of(Struct.class, AccessStrategy.AUTO);
+
+		Assert.assertThat(fields.get("id").writable(), equalTo(false));
+		Assert.assertThat(fields.get("count").set(new Struct(), null), equalTo(false));
+		Assert.assertThat(fields.get("count").set(new Struct(), "7"), equalTo(false));
+		Assert.assertThat(fields.get("CONSTANT"), nullValue());
+		Assert.assertThat(AccessorCache.of(Bean.class, AccessStrategy.AUTO).get("count").type(), equalTo(long.class));
+	}
+
+	public static class Struct {
+
+		static final String CONSTANT = "constant";
+
+		final long id = 1;
+		public String name;
+		int count;
+		private String secret;
+	}
+
+	public static class Validated {
+
+		private String value;
+		private int calls;
+
+		public String getValue() {
+			calls++;
+			return value;
+		}
+
+		public void setValue(String value) {
+			calls++;
+			this.value = value;
+		}
+	}
+
+	public static class Bean {
+
+		private long count;
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+	}
+}
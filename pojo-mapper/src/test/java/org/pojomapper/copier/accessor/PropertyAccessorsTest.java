@@ -0,0 +1,149 @@
+package org.pojomapper.copier.accessor;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.util.Date;
+
+import org.apache.commons.beanutils.PropertyUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+
+public class PropertyAccessorsTest {
+
+	@Test
+	public void generatedAccessor() throws Exception {
+		PropertyAccessor accessor = PropertyAccessors.create(Bean.class, descriptor(Bean.class, "prop"));
+		Bean bean = new Bean();
+
+		Assert.assertThat(accessor, instanceOf(LambdaPropertyAccessor.class));
+		Assert.assertThat(accessor.set(bean, "value"), equalTo(true));
+		Assert.assertThat(accessor.get(bean), equalTo("value"));
+	}
+
+	@Test
+	public void generatedPrimitiveAccessor() throws Exception {
+		PropertyAccessor accessor = PropertyAccessors.create(Bean.class, descriptor(Bean.class, "count"));
+		Bean bean = new Bean();
+
+		Assert.assertThat(accessor.set(bean, 5), equalTo(true));
+		Assert.assertThat(accessor.get(bean), equalTo(5));
+		Assert.assertThat(accessor.set(bean, null), equalTo(false));
+		Assert.assertThat(accessor.set(bean, "wrong type"), equalTo(false));
+	}
+
+	@Test
+	public void unboxedPrimitiveAccessors() throws Exception {
+		PropertyAccessor count = PropertyAccessors.create(Bean.class, descriptor(Bean.class, "count"));
+		PropertyAccessor total = PropertyAccessors.create(Bean.class, descriptor(Bean.class, "total"));
+		Bean bean = new Bean();
+
+		Assert.assertThat(count, instanceOf(IntPropertyAccessor.class));
+		Assert.assertThat(total, instanceOf(LongPropertyAccessor.class));
+		((LongPropertyAccessor) total).longSetter().accept(bean, 7L);
+		((IntPropertyAccessor) count).intSetter().accept(bean, 3);
+		Assert.assertThat(((LongPropertyAccessor) total).longGetter().applyAsLong(bean), equalTo(7L));
+		Assert.assertThat(((IntPropertyAccessor) count).intGetter().applyAsInt(bean), equalTo(3));
+	}
+
+	@Test
+	public void boxedSetterWidensLikeReflection() throws Exception {
+		PropertyAccessor total = PropertyAccessors.create(Bean.class, descriptor(Bean.class, "total"));
+		Bean bean = new Bean();
+
+		Assert.assertThat(total.set(bean, 5), equalTo(true));
+		Assert.assertThat(bean.getTotal(), equalTo(5L));
+		Assert.assertThat(total.set(bean, 'a'), equalTo(true));
+		Assert.assertThat(bean.getTotal(), equalTo(97L));
+		Assert.assertThat(total.set(bean, 1.5d), equalTo(false));
+	}
+
+	@Test
+	public void checkedExceptionsOfBeanMethodsAreSwallowed() throws Exception {
+		PropertyAccessor accessor = PropertyAccessors.create(Throwing.class, descriptor(Throwing.class, "value"));
+
+		Assert.assertThat(accessor, instanceOf(LambdaPropertyAccessor.class));
+		Assert.assertThat(accessor.get(new Throwing()), nullValue());
+		Assert.assertThat(accessor.set(new Throwing(), "value"), equalTo(false));
+		Assert.assertThat(PojoMapper.copyTo(new Throwing()).from(new Throwing()).copy(), instanceOf(Throwing.class));
+	}
+
+	@Test
+	public void readOnlyProperty() throws Exception {
+		PropertyAccessor accessor = PropertyAccessors.create(Bean.class, descriptor(Bean.class, "readOnlyProperty"));
+
+		Assert.assertThat(accessor.writable(), equalTo(false));
+		Assert.assertThat(accessor.set(new Bean(), new Object()), equalTo(false));
+		Assert.assertThat(accessor.get(new Bean()), nullValue());
+	}
+
+	@Test
+	public void reflectionFallbackForClosedPackages() throws Exception {
+		PropertyAccessor accessor = PropertyAccessors.create(Date.class, descriptor(Date.class, "time"));
+		Date date = new Date();
+
+		Assert.assertThat(accessor, instanceOf(MethodPropertyAccessor.class));
+		Assert.assertThat(accessor.set(date, 42L), equalTo(true));
+		Assert.assertThat(accessor.get(date), equalTo(42L));
+	}
+
+	private static PropertyDescriptor descriptor(Class<?> clazz, String name) throws Exception {
+		for (PropertyDescriptor descr : PropertyUtils.getPropertyDescriptors(clazz)) {
+			if (descr.getName().equals(name)) {
+				return descr;
+			}
+		}
+		throw new IllegalArgumentException(name);
+	}
+
+	public static class Bean {
+
+		private String prop;
+		private int count;
+		private long total;
+		private Object readOnlyProperty;
+
+		public String getProp() {
+			return prop;
+		}
+
+		public void setProp(String prop) {
+			this.prop = prop;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public long getTotal() {
+			return total;
+		}
+
+		public void setTotal(long total) {
+			this.total = total;
+		}
+
+		public Object getReadOnlyProperty() {
+			return readOnlyProperty;
+		}
+	}
+
+	public static class Throwing {
+
+		public String getValue() throws IOException {
+			throw new IOException("boom");
+		}
+
+		public void setValue(String value) throws IllegalAccessException {
+			throw new IllegalAccessException("boom");
+		}
+	}
+}
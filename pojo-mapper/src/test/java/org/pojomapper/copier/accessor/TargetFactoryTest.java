@@ -0,0 +1,176 @@
+package org.pojomapper.copier.accessor;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.beans.ConstructorProperties;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+
+public class TargetFactoryTest {
+
+	@Test
+	public void recordThroughCanonicalConstructor() {
+		Point point = PojoMapper.map(source("name", 7, "SECOND"), Point.class);
+
+		Assert.assertThat(point, equalTo(new Point("name", 7L, Status.SECOND, 0)));
+	}
+
+	@Test
+	public void recordToBeanAndBack() {
+		Source source = PojoMapper.map(new Point("name", 7L, Status.FIRST, 3), Source.class);
+
+		Assert.assertThat(source.getName(), equalTo("name"));
+		Assert.assertThat(source.getStatus(), equalTo("FIRST"));
+		Assert.assertThat(PojoMapper.map(source, Point.class), equalTo(new Point("name", 0L, Status.FIRST, 0)));
+	}
+
+	@Test
+	public void constructorWithPropertyNames() {
+		Immutable immutable = PojoMapper.map(source("name", 7, null), Immutable.class);
+
+		Assert.assertThat(immutable.name, equalTo("name"));
+		Assert.assertThat(immutable.count, equalTo(7));
+	}
+
+	@Test
+	public void builderKeepsItsDefaults() {
+		Built built = PojoMapper.map(source("name", 7, null), Built.class);
+
+		Assert.assertThat(built.name, equalTo("name"));
+		Assert.assertThat(built.count, equalTo(7L));
+		Assert.assertThat(built.label, equalTo("default"));
+	}
+
+	@Test
+	public void specOptionsApply() {
+		Point point = PojoMapper.spec(Source.class, Point.class).ignore("count").converter(String.class,
+				String.class, String::toUpperCase).build().map(source("name", 7, "SECOND"));
+
+		Assert.assertThat(point, equalTo(new Point("NAME", 0L, Status.SECOND, 0)));
+	}
+
+	@Test
+	public void factoriesByPreference() {
+		Assert.assertThat(TargetFactory.of(Source.class).isBean(), equalTo(true));
+		Assert.assertThat(TargetFactory.of(Point.class).properties().get("count").type(), equalTo(long.class));
+		Assert.assertThat(TargetFactory.of(Runnable.class), nullValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void notCreatable() {
+		PojoMapper.map(source("name", 7, null), Unnamed.class);
+	}
+
+	private static Source source(String name, int count, String status) {
+		Source source = new Source();
+		source.setName(name);
+		source.setCount(count);
+		source.setStatus(status);
+		return source;
+	}
+
+	public enum Status {
+		FIRST, SECOND
+	}
+
+	public record Point(String name, long count, Status status, int other) {
+	}
+
+	public static class Source {
+
+		private String name;
+		private int count;
+		private String status;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+	}
+
+	public static class Immutable {
+
+		private final String name;
+		private final Integer count;
+
+		public Immutable(String name) {
+			this(name, null);
+		}
+
+		@ConstructorProperties({ "name", "count" })
+		public Immutable(String name, Integer count) {
+			this.name = name;
+			this.count = count;
+		}
+	}
+
+	public static class Built {
+
+		private final String name;
+		private final long count;
+		private final String label;
+
+		private Built(Builder builder) {
+			this.name = builder.name;
+			this.count = builder.count;
+			this.label = builder.label;
+		}
+
+		public static Builder builder() {
+			return new Builder();
+		}
+
+		public static class Builder {
+
+			private String name;
+			private long count;
+			private String label = "default";
+
+			public Builder name(String name) {
+				this.name = name;
+				return this;
+			}
+
+			public Builder withCount(long count) {
+				this.count = count;
+				return this;
+			}
+
+			public void setLabel(String label) {
+				this.label = label;
+			}
+
+			public Built build() {
+				return new Built(this);
+			}
+		}
+	}
+
+	public static class Unnamed {
+
+		public Unnamed(String name) {
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package org.pojomapper.copier.copyoperation;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.MappingSpec;
+import org.pojomapper.copier.accessor.PropertyAccessor;
+import org.pojomapper.copier.plan.MappingPlanCache;
+import org.pojomapper.copier.plan.PropertyBinding;
+import org.pojomapper.copier.plan.PropertyCopy;
+
+public class BindableCopyOperationTest {
+
+	private static final MaskOperation MASK = new MaskOperation();
+
+	@Test
+	public void customOperationIsBoundOnce() {
+		MaskOperation mask = new MaskOperation();
+		for (int i = 0; i < 3; i++) {
+			Card copy = PojoMapper.copyTo(new Card()).from(card()).operation(mask).copy();
+
+			Assert.assertThat(copy.getNumber(), equalTo("************1234"));
+			Assert.assertThat(copy.getHolder(), equalTo("john"));
+		}
+		// number and holder, the second and third copy reuse the plan
+		Assert.assertThat(mask.binds.get(), equalTo(2));
+	}
+
+	@Test
+	public void noneLeavesPropertyOut() {
+		Card copy = PojoMapper.copyTo(new Card()).from(card())
+				.operation(binding -> "holder".equals(binding.write().name()) ? PropertyCopy.NONE : null).copy();
+
+		Assert.assertThat(copy.getNumber(), equalTo("4111111111111234"));
+		Assert.assertThat(copy.getHolder(), nullValue());
+	}
+
+	@Test
+	public void specOperation() {
+		MappingSpec<Card, Card> spec = PojoMapper.spec(Card.class, Card.class).operation(MASK).build();
+
+		Assert.assertThat(spec.map(card(), new Card()).getNumber(), equalTo("************1234"));
+	}
+
+	@Test
+	public void ignoreOperationBindsIgnoredProperties() {
+		IgnoreCopyOperation ignore = new IgnoreCopyOperation(Collections.singleton("number"));
+
+		Card copy = PojoMapper.copyTo(new Card()).from(card()).operation(ignore).copy();
+
+		Assert.assertThat(copy.getNumber(), nullValue());
+		Assert.assertThat(copy.getHolder(), equalTo("john"));
+	}
+
+	@Test
+	public void equalOperationsShareThePlan() {
+		for (int i = 0; i < 3; i++) {
+			PojoMapper.copyTo(new Card()).from(card()).operation(new CountingIgnore(Collections.singleton("number")))
+					.copy();
+		}
+
+		Assert.assertThat(CountingIgnore.BINDS.get(), equalTo(2));
+	}
+
+	@Test
+	public void operationsCreatedPerCallDontFillTheCache() {
+		int before = MappingPlanCache.size();
+		for (int i = 0; i < 200; i++) {
+			String suffix = String.valueOf(i);
+			PojoMapper.copyTo(new Card()).from(card()).operation(binding -> {
+				// captures suffix, so no two operations are equal
+				return suffix.isEmpty() ? PropertyCopy.NONE : null;
+			}).copy();
+		}
+
+		Assert.assertThat(MappingPlanCache.size() - before <= 64, equalTo(true));
+	}
+
+	private static Card card() {
+		Card card = new Card();
+		card.setNumber("4111111111111234");
+		card.setHolder("john");
+		return card;
+	}
+
+	static class CountingIgnore extends IgnoreCopyOperation {
+
+		static final AtomicInteger BINDS = new AtomicInteger();
+
+		CountingIgnore(Set<String> ignores) {
+			super(ignores);
+		}
+
+		@Override
+		public PropertyCopy bind(PropertyBinding binding) {
+			BINDS.incrementAndGet();
+			return super.bind(binding);
+		}
+	}
+
+	static class MaskOperation implements BindableCopyOperation {
+
+		final AtomicInteger binds = new AtomicInteger();
+
+		@Override
+		public PropertyCopy bind(PropertyBinding binding) {
+			binds.incrementAndGet();
+			if (!"number".equals(binding.read().name()) || binding.write().type() != String.class) {
+				return null;
+			}
+			PropertyAccessor read = binding.read();
+			PropertyAccessor write = binding.write();
+			return (from, to, context) -> {
+				String value = (String) read.get(from);
+				return write.set(to,
+						value == null ? null : "*".repeat(value.length() - 4) + value.substring(value.length() - 4));
+			};
+		}
+	}
+
+	public static class Card {
+
+		private String number;
+		private String holder;
+
+		public String getNumber() {
+			return number;
+		}
+
+		public void setNumber(String number) {
+			this.number = number;
+		}
+
+		public String getHolder() {
+			return holder;
+		}
+
+		public void setHolder(String holder) {
+			this.holder = holder;
+		}
+	}
+}
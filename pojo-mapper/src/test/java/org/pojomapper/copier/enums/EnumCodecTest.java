@@ -0,0 +1,77 @@
+package org.pojomapper.copier.enums;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EnumCodecTest {
+
+	private final EnumCodec codec = EnumCodec.of(Status.class);
+
+	@Test
+	public void encode() {
+		Assert.assertThat(codec.encode(Status.ACTIVE, EnumStrategy.NAME), equalTo("ACTIVE"));
+		Assert.assertThat(codec.encode(Status.ACTIVE, EnumStrategy.ORDINAL), equalTo("0"));
+		Assert.assertThat(codec.encode(Status.ACTIVE, EnumStrategy.CODE), equalTo("A"));
+		Assert.assertThat(codec.encode(Status.CLOSED, EnumStrategy.CODE), equalTo("CLOSED"));
+		Assert.assertThat(codec.encode(null, EnumStrategy.NAME), nullValue());
+	}
+
+	@Test
+	public void decode() {
+		Assert.assertThat(codec.decode("SUSPENDED", EnumStrategy.NAME), equalTo(Status.SUSPENDED));
+		Assert.assertThat(codec.decode("suspended", EnumStrategy.NAME), nullValue());
+		Assert.assertThat(codec.decode("suspended", EnumStrategy.NAME_IGNORE_CASE), equalTo(Status.SUSPENDED));
+		Assert.assertThat(codec.decode("2", EnumStrategy.ORDINAL), equalTo(Status.CLOSED));
+		Assert.assertThat(codec.decode("3", EnumStrategy.ORDINAL), nullValue());
+		Assert.assertThat(codec.decode("-1", EnumStrategy.ORDINAL), nullValue());
+		Assert.assertThat(codec.decode("S", EnumStrategy.CODE), equalTo(Status.SUSPENDED));
+		Assert.assertThat(codec.decode("unknown", EnumStrategy.CODE), nullValue());
+	}
+
+	@Test
+	public void constantsWithBody() {
+		Assert.assertThat(EnumCodec.of(Operation.class).decode("PLUS", EnumStrategy.NAME), equalTo(Operation.PLUS));
+		Assert.assertThat(EnumCodec.of(Operation.class).encode(Operation.PLUS, EnumStrategy.CODE), equalTo("+"));
+	}
+
+	@Test
+	public void translation() {
+		Enum<?>[] table = codec.translation(EnumCodec.of(State.class), EnumStrategy.NAME);
+
+		Assert.assertThat(table[Status.ACTIVE.ordinal()], equalTo(State.ACTIVE));
+		Assert.assertThat(table[Status.SUSPENDED.ordinal()], nullValue());
+		Assert.assertThat(table[Status.CLOSED.ordinal()], equalTo(State.CLOSED));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void notAnEnum() {
+		EnumCodec.of(String.class);
+	}
+
+	public enum Status {
+		@EnumCode("A")
+		ACTIVE,
+		@EnumCode("S")
+		SUSPENDED,
+		CLOSED
+	}
+
+	public enum State {
+		CLOSED, ACTIVE
+	}
+
+	public enum Operation {
+		@EnumCode("+")
+		PLUS {
+			@Override
+			int apply(int a, int b) {
+				return a + b;
+			}
+		};
+
+		abstract int apply(int a, int b);
+	}
+}
@@ -0,0 +1,189 @@
+package org.pojomapper.copier.metrics;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class MappingMetricsTest {
+
+	private MappingMetrics metrics;
+
+	@After
+	public void tearDown() {
+		MappingListeners.remove(metrics);
+	}
+
+	@Test
+	public void recordsCallsPropertiesAndLatency() {
+		metrics = new MappingMetrics();
+		MappingListeners.add(metrics);
+
+		for (int i = 0; i < 3; i++) {
+			PojoMapper.copyTo(new Target()).from(source("value")).copy();
+		}
+
+		PairMetrics pair = metrics.get(Source.class, Target.class);
+		Assert.assertThat(pair.calls(), equalTo(3L));
+		Assert.assertThat(pair.properties(), equalTo(6L));
+		Assert.assertThat(pair.droppedWrites(), equalTo(0L));
+		Assert.assertThat(pair.latency().count(), equalTo(3L));
+		Assert.assertThat(pair.latency().percentileNanos(50) > 0, equalTo(true));
+		Assert.assertThat(metrics.get(Target.class, Source.class), nullValue());
+	}
+
+	@Test
+	public void countsDroppedWrites() {
+		metrics = new MappingMetrics();
+		MappingListeners.add(metrics);
+		Source source = source("value");
+		source.setCount(null);
+
+		PojoMapper.spec(Source.class, Target.class).build().map(source, new Target());
+
+		Assert.assertThat(metrics.get(Source.class, Target.class).droppedWrites(), equalTo(1L));
+		Assert.assertThat(metrics.droppedWrites(), equalTo(1L));
+	}
+
+	@Test
+	public void droppedWritesToRecordsAreReportedForTheRecord() {
+		List<Class<?>> reported = new ArrayList<>();
+		MappingListener listener = new MappingListener() {
+
+			@Override
+			public void writeDropped(Class<?> targetClass, String property, Throwable cause) {
+				reported.add(targetClass);
+			}
+		};
+		MappingListeners.add(listener);
+		Source source = source("value");
+		source.setCount(null);
+
+		try {
+			PojoMapper.map(source, Counted.class);
+		} finally {
+			MappingListeners.remove(listener);
+		}
+
+		Assert.assertThat(reported, equalTo(Collections.singletonList(Counted.class)));
+	}
+
+	@Test
+	public void failedConvertersOfDynamicCopiesAreDroppedWrites() {
+		metrics = new MappingMetrics();
+		MappingListeners.add(metrics);
+		Map<String, Object> source = new HashMap<>();
+		source.put("name", "value");
+
+		PojoMapper.copyTo(new HashMap<String, Object>()).from(source).converter(value -> {
+			throw new IllegalStateException("boom");
+		}).copy();
+
+		Assert.assertThat(metrics.droppedWrites(), equalTo(1L));
+	}
+
+	@Test
+	public void slowMappingsAreRecordedByFlightRecorder() throws Exception {
+		metrics = new MappingMetrics(Duration.ZERO);
+		MappingListeners.add(metrics);
+		Path file = Files.createTempFile("pojo-mapper", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.pojomapper.Mapping");
+			recording.start();
+			PojoMapper.copyTo(new Target()).from(source("value")).copy();
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+			Assert.assertThat(events.size(), equalTo(1));
+			Assert.assertThat(events.get(0).getClass("targetClass").getName(), equalTo(Target.class.getName()));
+			Assert.assertThat(events.get(0).getInt("properties"), equalTo(2));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void histogramPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 99; i++) {
+			histogram.record(100);
+		}
+		histogram.record(1_000_000);
+
+		Assert.assertThat(histogram.count(), equalTo(100L));
+		Assert.assertThat(histogram.percentileNanos(50), equalTo(128L));
+		Assert.assertThat(histogram.percentileNanos(100), equalTo(1L << 20));
+	}
+
+	private static Source source(String name) {
+		Source source = new Source();
+		source.setName(name);
+		source.setCount(1);
+		return source;
+	}
+
+	public static class Source {
+
+		private String name;
+		private Integer count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Integer getCount() {
+			return count;
+		}
+
+		public void setCount(Integer count) {
+			this.count = count;
+		}
+	}
+
+	public record Counted(String name, int count) {
+	}
+
+	public static class Target {
+
+		private String name;
+		private int count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+}
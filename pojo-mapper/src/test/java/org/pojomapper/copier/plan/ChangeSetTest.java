@@ -0,0 +1,189 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.MappingSpec;
+
+public class ChangeSetTest {
+
+	@Test
+	public void dirtyCheckWritesChangedPropertiesOnly() {
+		Entity entity = entity("john", 5L, Status.ACTIVE);
+		Dto dto = dto("john", 5, "CLOSED");
+
+		ChangeSet changes = PojoMapper.copyTo(entity).from(dto).dirtyCheck(true).copyChanges();
+
+		Assert.assertThat(changes.names(), equalTo(Collections.singleton("status")));
+		Assert.assertThat(changes.size(), equalTo(1));
+		Assert.assertThat(changes.isChanged("status"), equalTo(true));
+		Assert.assertThat(changes.isChanged("name"), equalTo(false));
+		Assert.assertThat(entity.getStatus(), equalTo(Status.CLOSED));
+		Assert.assertThat(entity.writes, equalTo(Collections.singletonList("status")));
+	}
+
+	@Test
+	public void nothingChanged() {
+		Entity entity = entity("john", 5L, Status.ACTIVE);
+
+		ChangeSet changes = PojoMapper.copyTo(entity).from(dto("john", 5, "ACTIVE")).dirtyCheck(true).copyChanges();
+
+		Assert.assertThat(changes.isEmpty(), equalTo(true));
+		Assert.assertThat(entity.writes.isEmpty(), equalTo(true));
+	}
+
+	@Test
+	public void withoutDirtyCheckEveryWrittenPropertyIsReported() {
+		Entity entity = entity("john", 5L, Status.ACTIVE);
+
+		ChangeSet changes = PojoMapper.copyTo(entity).from(dto("john", 5, "ACTIVE")).copyChanges();
+
+		Assert.assertThat(changes.names(), equalTo(new HashSet<>(Arrays.asList("name", "count", "status"))));
+		Assert.assertThat(entity.writes.size(), equalTo(3));
+	}
+
+	@Test
+	public void droppedWritesAreNotReported() {
+		Entity entity = entity("john", 5L, Status.ACTIVE);
+
+		ChangeSet changes = PojoMapper.copyTo(entity).from(dto("jane", 6, "ACTIVE")).converter(value -> {
+			if ("jane".equals(value)) {
+				throw new IllegalStateException("rejected");
+			}
+			return value;
+		}).copyChanges();
+
+		Assert.assertThat(changes.names(), equalTo(new HashSet<>(Arrays.asList("count", "status"))));
+		Assert.assertThat(entity.getName(), equalTo("john"));
+
+		changes = PojoMapper.copyTo(new ReadOnlyName()).from(dto("jane", 6, "ACTIVE")).copyChanges();
+
+		Assert.assertThat(changes.names(), equalTo(new HashSet<>(Arrays.asList("count", "status"))));
+	}
+
+	@Test
+	public void specChanges() {
+		MappingSpec<Dto, Entity> spec = PojoMapper.spec(Dto.class, Entity.class).dirtyCheck(true).build();
+		Entity entity = entity("john", 5L, Status.ACTIVE);
+
+		ChangeSet changes = spec.mapChanges(dto("jane", 6, "ACTIVE"), entity);
+
+		Assert.assertThat(changes.names(), equalTo(new LinkedHashSet<>(Arrays.asList("name", "count"))));
+		Assert.assertThat(entity.getCount(), equalTo(6L));
+	}
+
+	@Test
+	public void sourcesAreMerged() {
+		Entity entity = entity("john", 5L, Status.ACTIVE);
+
+		ChangeSet changes = PojoMapper.copyTo(entity).from(dto("john", 5, "ACTIVE")).dirtyCheck(true)
+				.from(dto("john", 7, "ACTIVE")).dirtyCheck(true).copyChanges();
+
+		Assert.assertThat(changes.names(), equalTo(Collections.singleton("count")));
+		Assert.assertThat(changes.bits().nextSetBit(0) >= 3, equalTo(true));
+	}
+
+	private static Entity entity(String name, long count, Status status) {
+		Entity entity = new Entity();
+		entity.setName(name);
+		entity.setCount(count);
+		entity.setStatus(status);
+		entity.writes.clear();
+		return entity;
+	}
+
+	private static Dto dto(String name, int count, String status) {
+		Dto dto = new Dto();
+		dto.setName(name);
+		dto.setCount(count);
+		dto.setStatus(status);
+		return dto;
+	}
+
+	public enum Status {
+		ACTIVE, CLOSED
+	}
+
+	public static class Entity {
+
+		final List<String> writes = new ArrayList<>();
+		private String name;
+		private long count;
+		private Status status;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			writes.add("name");
+			this.name = name;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			writes.add("count");
+			this.count = count;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public void setStatus(Status status) {
+			writes.add("status");
+			this.status = status;
+		}
+	}
+
+	public static class ReadOnlyName extends Entity {
+
+		@Override
+		public void setName(String name) {
+			throw new UnsupportedOperationException("name is read-only");
+		}
+	}
+
+	public static class Dto {
+
+		private String name;
+		private int count;
+		private String status;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+	}
+}
@@ -0,0 +1,347 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.enums.EnumFallback;
+import org.pojomapper.copier.enums.EnumStrategy;
+
+public class ContainerPropertyCopyTest {
+
+	@Test
+	public void elementsAreMappedIntoNewContainers() {
+		Source source = new Source();
+		source.setItems(Arrays.asList(item("a", 1), item("b", 2)));
+		source.setTags(new LinkedHashSet<>(Arrays.asList(Status.OPEN, Status.CLOSED)));
+		source.setById(new LinkedHashMap<>(Collections.singletonMap(1, item("c", 3))));
+
+		Target target = PojoMapper.copyTo(new Target()).from(source).copy();
+
+		Assert.assertThat(target.getItems().size(), equalTo(2));
+		Assert.assertThat(target.getItems().get(1), instanceOf(ItemDto.class));
+		Assert.assertThat(target.getItems().get(1).getName(), equalTo("b"));
+		Assert.assertThat(target.getItems().get(1).getCount(), equalTo(2L));
+		Assert.assertThat(target.getTags(), equalTo((Set<String>) new LinkedHashSet<>(Arrays.asList("OPEN", "CLOSED"))));
+		Assert.assertThat(target.getById().get(1L).getName(), equalTo("c"));
+	}
+
+	@Test
+	public void primitiveArraysConvertToListsAndBack() {
+		Source source = new Source();
+		source.setCodes(new int[] { 1, 2, 3 });
+		source.setScores(new ArrayList<>(Arrays.asList(4, 5)));
+
+		Target target = PojoMapper.copyTo(new Target()).from(source).copy();
+
+		Assert.assertThat(target.getCodes(), equalTo(Arrays.asList(1, 2, 3)));
+		Assert.assertThat(target.getScores(), equalTo(new long[] { 4, 5 }));
+
+		source.getScores().add(null);
+		target = PojoMapper.copyTo(new Target()).from(source).copy();
+		Assert.assertThat(target.getScores(), nullValue());
+	}
+
+	@Test
+	public void acceptedContainersAreShared() {
+		Source source = new Source();
+		source.setNames(new ArrayList<>(Arrays.asList("x")));
+
+		Target target = PojoMapper.copyTo(new Target()).from(source).copy();
+
+		Assert.assertThat(target.getNames(), sameInstance(source.getNames()));
+
+		target = PojoMapper.copyTo(new Target()).from(source).deep(true).copy();
+		Assert.assertThat(target.getNames(), not(sameInstance(source.getNames())));
+		Assert.assertThat(target.getNames(), equalTo(source.getNames()));
+	}
+
+	@Test
+	public void elementPlanFollowsOptions() {
+		MappingOptions options = MappingOptions.DEFAULT.enumStrategy(EnumStrategy.ORDINAL);
+		Source source = new Source();
+		source.setTags(Collections.singleton(Status.CLOSED));
+		MappingPlan plan = MappingPlanCache.get(new MappingPlanKey(Source.class, Target.class, Collections.emptyMap(),
+				Collections.singleton("class"), options));
+
+		Target target = new Target();
+		plan.copy(source, target, new MappingContext(Collections.emptyList()));
+
+		Assert.assertThat(target.getTags(), equalTo(Collections.singleton("1")));
+	}
+
+	@Test
+	public void unknownEnumElementsFollowTheFallback() {
+		Labels labels = new Labels();
+		labels.setStatus("bogus");
+		labels.setStatuses(new LinkedHashSet<>(Arrays.asList("OPEN", "bogus")));
+		labels.setHistory(new String[] { "bogus", "CLOSED" });
+
+		Parsed parsed = PojoMapper.copyTo(new Parsed()).from(labels).enumFallback(EnumFallback.NULL).copy();
+
+		Assert.assertThat(parsed.getStatus(), nullValue());
+		Assert.assertThat(parsed.getStatuses(),
+				equalTo((Set<Status>) new LinkedHashSet<>(Arrays.asList(Status.OPEN, null))));
+		Assert.assertThat(parsed.getHistory(), equalTo(new Status[] { null, Status.CLOSED }));
+
+		parsed = PojoMapper.copyTo(new Parsed()).from(labels).enumFallback(EnumFallback.SKIP).copy();
+
+		Assert.assertThat(parsed.getStatuses(), equalTo(Collections.singleton(Status.OPEN)));
+		Assert.assertThat(parsed.getHistory(), equalTo(new Status[] { Status.CLOSED }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unknownEnumElementsFailByDefault() {
+		Labels labels = new Labels();
+		labels.setStatuses(Collections.singleton("bogus"));
+
+		PojoMapper.copyTo(new Parsed()).from(labels).copy();
+	}
+
+	private static Item item(String name, int count) {
+		Item item = new Item();
+		item.setName(name);
+		item.setCount(count);
+		return item;
+	}
+
+	public enum Status {
+		OPEN, CLOSED
+	}
+
+	public static class Item {
+
+		private String name;
+		private int count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+
+	public static class ItemDto {
+
+		private String name;
+		private long count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+	}
+
+	public static class Source {
+
+		private List<Item> items;
+		private Set<Status> tags;
+		private Map<Integer, Item> byId;
+		private int[] codes;
+		private List<Integer> scores;
+		private List<String> names;
+
+		public List<Item> getItems() {
+			return items;
+		}
+
+		public void setItems(List<Item> items) {
+			this.items = items;
+		}
+
+		public Set<Status> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<Status> tags) {
+			this.tags = tags;
+		}
+
+		public Map<Integer, Item> getById() {
+			return byId;
+		}
+
+		public void setById(Map<Integer, Item> byId) {
+			this.byId = byId;
+		}
+
+		public int[] getCodes() {
+			return codes;
+		}
+
+		public void setCodes(int[] codes) {
+			this.codes = codes;
+		}
+
+		public List<Integer> getScores() {
+			return scores;
+		}
+
+		public void setScores(List<Integer> scores) {
+			this.scores = scores;
+		}
+
+		public List<String> getNames() {
+			return names;
+		}
+
+		public void setNames(List<String> names) {
+			this.names = names;
+		}
+	}
+
+	public static class Target {
+
+		private List<ItemDto> items;
+		private Set<String> tags;
+		private Map<Long, ItemDto> byId;
+		private List<Integer> codes;
+		private long[] scores;
+		private List<String> names;
+
+		public List<ItemDto> getItems() {
+			return items;
+		}
+
+		public void setItems(List<ItemDto> items) {
+			this.items = items;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<String> tags) {
+			this.tags = tags;
+		}
+
+		public Map<Long, ItemDto> getById() {
+			return byId;
+		}
+
+		public void setById(Map<Long, ItemDto> byId) {
+			this.byId = byId;
+		}
+
+		public List<Integer> getCodes() {
+			return codes;
+		}
+
+		public void setCodes(List<Integer> codes) {
+			this.codes = codes;
+		}
+
+		public long[] getScores() {
+			return scores;
+		}
+
+		public void setScores(long[] scores) {
+			this.scores = scores;
+		}
+
+		public List<String> getNames() {
+			return names;
+		}
+
+		public void setNames(List<String> names) {
+			this.names = names;
+		}
+	}
+
+	public static class Labels {
+
+		private String status;
+		private Set<String> statuses;
+		private String[] history;
+
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+
+		public Set<String> getStatuses() {
+			return statuses;
+		}
+
+		public void setStatuses(Set<String> statuses) {
+			this.statuses = statuses;
+		}
+
+		public String[] getHistory() {
+			return history;
+		}
+
+		public void setHistory(String[] history) {
+			this.history = history;
+		}
+	}
+
+	public static class Parsed {
+
+		private Status status;
+		private Set<Status> statuses;
+		private Status[] history;
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public void setStatus(Status status) {
+			this.status = status;
+		}
+
+		public Set<Status> getStatuses() {
+			return statuses;
+		}
+
+		public void setStatuses(Set<Status> statuses) {
+			this.statuses = statuses;
+		}
+
+		public Status[] getHistory() {
+			return history;
+		}
+
+		public void setHistory(Status[] history) {
+			this.history = history;
+		}
+	}
+}
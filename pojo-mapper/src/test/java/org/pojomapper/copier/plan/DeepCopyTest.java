@@ -0,0 +1,342 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.MappingSpec;
+
+public class DeepCopyTest {
+
+	@Test
+	public void shallowCopySharesNestedObjects() {
+		Order order = order(new Customer("john"));
+
+		Order copy = PojoMapper.copyTo(new Order()).from(order).copy();
+
+		Assert.assertThat(copy.getCustomer(), sameInstance(order.getCustomer()));
+		Assert.assertThat(copy.getLines(), sameInstance(order.getLines()));
+	}
+
+	@Test
+	public void deepCopyCopiesNestedObjects() {
+		Order order = order(new Customer("john"));
+
+		Order copy = PojoMapper.copyTo(new Order()).from(order).deep(true).copy();
+
+		Assert.assertThat(copy.getCustomer(), not(sameInstance(order.getCustomer())));
+		Assert.assertThat(copy.getCustomer().getName(), equalTo("john"));
+		Assert.assertThat(copy.getLines(), not(sameInstance(order.getLines())));
+		Assert.assertThat(copy.getLines().get(0), not(sameInstance(order.getLines().get(0))));
+		Assert.assertThat(copy.getLines().get(0).getProduct(), equalTo("first"));
+		Assert.assertThat(copy.getAttributes(), not(sameInstance(order.getAttributes())));
+		Assert.assertThat(copy.getAttributes().get("gift").getProduct(), equalTo("gift"));
+		Assert.assertThat(copy.getQuantities(), not(sameInstance(order.getQuantities())));
+		Assert.assertThat(copy.getQuantities()[1], equalTo(2));
+	}
+
+	@Test
+	public void mutableJdkValuesAreCopied() {
+		Timestamp created = new Timestamp(1000L);
+		created.setNanos(123456789);
+		Dated dated = new Dated();
+		dated.setCreated(created);
+		dated.setDue(Calendar.getInstance());
+		dated.setCounter(new AtomicInteger(3));
+		dated.setLabel(new AtomicReference<>(new Customer("john")));
+		dated.setName("kept");
+
+		Dated copy = PojoMapper.copyTo(new Dated()).from(dated).deep(true).copy();
+
+		Assert.assertThat(copy.getCreated(), not(sameInstance((Date) created)));
+		Assert.assertThat(copy.getCreated(), instanceOf(Timestamp.class));
+		Assert.assertThat(copy.getCreated(), equalTo((Date) created));
+		Assert.assertThat(copy.getDue(), not(sameInstance(dated.getDue())));
+		Assert.assertThat(copy.getDue(), equalTo(dated.getDue()));
+		Assert.assertThat(copy.getCounter(), not(sameInstance(dated.getCounter())));
+		Assert.assertThat(copy.getCounter().get(), equalTo(3));
+		Assert.assertThat(copy.getLabel().get(), not(sameInstance(dated.getLabel().get())));
+		Assert.assertThat(copy.getLabel().get().getName(), equalTo("john"));
+		Assert.assertThat(copy.getName(), sameInstance(dated.getName()));
+		created.setTime(0L);
+		Assert.assertThat(copy.getCreated().getTime(), equalTo(1123L));
+	}
+
+	@Test
+	public void sharedReferencesAreCopiedOnce() {
+		Customer customer = new Customer("john");
+		Order order = order(customer);
+		order.getLines().get(0).setCustomer(customer);
+		order.getLines().get(1).setCustomer(customer);
+
+		Order copy = PojoMapper.copyTo(new Order()).from(order).deep(true).copy();
+
+		Assert.assertThat(copy.getLines().get(0).getCustomer(), sameInstance(copy.getCustomer()));
+		Assert.assertThat(copy.getLines().get(1).getCustomer(), sameInstance(copy.getCustomer()));
+	}
+
+	@Test
+	public void cyclesTerminate() {
+		Node root = new Node("root");
+		Node child = new Node("child");
+		child.setParent(root);
+		root.setChildren(new ArrayList<>(Arrays.asList(child)));
+		root.setParent(root);
+
+		Node copy = PojoMapper.copyTo(new Node()).from(root).deep(true).copy();
+
+		Assert.assertThat(copy.getParent(), sameInstance(copy));
+		Assert.assertThat(copy.getChildren().get(0).getName(), equalTo("child"));
+		Assert.assertThat(copy.getChildren().get(0), not(sameInstance(child)));
+		Assert.assertThat(copy.getChildren().get(0).getParent(), sameInstance(copy));
+	}
+
+	@Test
+	public void nestedBeanOfDifferentType() {
+		Order order = order(new Customer("john"));
+
+		OrderDto dto = PojoMapper.copyTo(new OrderDto()).from(order).deep(true).copy();
+
+		Assert.assertThat(dto.getCustomer(), instanceOf(CustomerDto.class));
+		Assert.assertThat(dto.getCustomer().getName(), equalTo("john"));
+	}
+
+	@Test
+	public void deepSpec() {
+		MappingSpec<Order, Order> spec = PojoMapper.spec(Order.class, Order.class).deep(true).build();
+		Order order = order(new Customer("john"));
+
+		Order first = spec.map(order, new Order());
+		Order second = spec.map(order, new Order());
+
+		Assert.assertThat(first.getCustomer(), not(sameInstance(order.getCustomer())));
+		Assert.assertThat(second.getCustomer(), not(sameInstance(first.getCustomer())));
+	}
+
+	private static Order order(Customer customer) {
+		Order order = new Order();
+		order.setCustomer(customer);
+		order.setLines(new ArrayList<>(Arrays.asList(new Line("first"), new Line("second"))));
+		order.setAttributes(new HashMap<>());
+		order.getAttributes().put("gift", new Line("gift"));
+		order.setQuantities(new int[] { 1, 2 });
+		return order;
+	}
+
+	public static class Dated {
+
+		private Date created;
+		private Calendar due;
+		private AtomicInteger counter;
+		private AtomicReference<Customer> label;
+		private String name;
+
+		public Date getCreated() {
+			return created;
+		}
+
+		public void setCreated(Date created) {
+			this.created = created;
+		}
+
+		public Calendar getDue() {
+			return due;
+		}
+
+		public void setDue(Calendar due) {
+			this.due = due;
+		}
+
+		public AtomicInteger getCounter() {
+			return counter;
+		}
+
+		public void setCounter(AtomicInteger counter) {
+			this.counter = counter;
+		}
+
+		public AtomicReference<Customer> getLabel() {
+			return label;
+		}
+
+		public void setLabel(AtomicReference<Customer> label) {
+			this.label = label;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Order {
+
+		private Customer customer;
+		private List<Line> lines;
+		private Map<String, Line> attributes;
+		private int[] quantities;
+
+		public Customer getCustomer() {
+			return customer;
+		}
+
+		public void setCustomer(Customer customer) {
+			this.customer = customer;
+		}
+
+		public List<Line> getLines() {
+			return lines;
+		}
+
+		public void setLines(List<Line> lines) {
+			this.lines = lines;
+		}
+
+		public Map<String, Line> getAttributes() {
+			return attributes;
+		}
+
+		public void setAttributes(Map<String, Line> attributes) {
+			this.attributes = attributes;
+		}
+
+		public int[] getQuantities() {
+			return quantities;
+		}
+
+		public void setQuantities(int[] quantities) {
+			this.quantities = quantities;
+		}
+	}
+
+	public static class OrderDto {
+
+		private CustomerDto customer;
+
+		public CustomerDto getCustomer() {
+			return customer;
+		}
+
+		public void setCustomer(CustomerDto customer) {
+			this.customer = customer;
+		}
+	}
+
+	public static class Line {
+
+		private String product;
+		private Customer customer;
+
+		public Line() {
+		}
+
+		public Line(String product) {
+			this.product = product;
+		}
+
+		public String getProduct() {
+			return product;
+		}
+
+		public void setProduct(String product) {
+			this.product = product;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+
+		public void setCustomer(Customer customer) {
+			this.customer = customer;
+		}
+	}
+
+	public static class Customer {
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class CustomerDto {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Node {
+
+		private String name;
+		private Node parent;
+		private List<Node> children;
+
+		public Node() {
+		}
+
+		public Node(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Node getParent() {
+			return parent;
+		}
+
+		public void setParent(Node parent) {
+			this.parent = parent;
+		}
+
+		public List<Node> getChildren() {
+			return children;
+		}
+
+		public void setChildren(List<Node> children) {
+			this.children = children;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.enums.EnumCodecTest.State;
+import org.pojomapper.copier.enums.EnumCodecTest.Status;
+import org.pojomapper.copier.enums.EnumFallback;
+import org.pojomapper.copier.enums.EnumStrategy;
+
+public class EnumPropertyCopyTest {
+
+	@Test
+	public void enumToStringByCode() {
+		Text text = PojoMapper.copyTo(new Text()).from(typed(Status.SUSPENDED)).enumStrategy(EnumStrategy.CODE).copy();
+
+		Assert.assertThat(text.getStatus(), equalTo("S"));
+	}
+
+	@Test
+	public void stringToEnumIgnoringCase() {
+		Typed typed = PojoMapper.copyTo(new Typed()).from(text("active")).enumStrategy(EnumStrategy.NAME_IGNORE_CASE)
+				.copy();
+
+		Assert.assertThat(typed.getStatus(), equalTo(Status.ACTIVE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unknownStringFailsByDefault() {
+		PojoMapper.copyTo(new Typed()).from(text("unknown")).copy();
+	}
+
+	@Test
+	public void unknownStringFallback() {
+		Typed current = typed(Status.CLOSED);
+
+		Typed skipped = PojoMapper.copyTo(current).from(text("unknown")).enumFallback(EnumFallback.SKIP).copy();
+		Assert.assertThat(skipped.getStatus(), equalTo(Status.CLOSED));
+
+		Typed nulled = PojoMapper.copyTo(current).from(text("unknown")).enumFallback(EnumFallback.NULL).copy();
+		Assert.assertThat(nulled.getStatus(), nullValue());
+	}
+
+	@Test
+	public void enumToEnumByName() {
+		Other other = PojoMapper.copyTo(new Other()).from(typed(Status.CLOSED)).copy();
+		Assert.assertThat(other.getStatus(), equalTo(State.CLOSED));
+
+		other = PojoMapper.copyTo(new Other()).from(typed(Status.SUSPENDED)).enumFallback(EnumFallback.NULL).copy();
+		Assert.assertThat(other.getStatus(), nullValue());
+	}
+
+	@Test
+	public void enumToIntAndBack() {
+		Numeric numeric = PojoMapper.copyTo(new Numeric()).from(typed(Status.CLOSED)).copy();
+		Assert.assertThat(numeric.getStatus(), equalTo(2));
+
+		Typed typed = PojoMapper.spec(Numeric.class, Typed.class).build().map(numeric, new Typed());
+		Assert.assertThat(typed.getStatus(), equalTo(Status.CLOSED));
+	}
+
+	private static Typed typed(Status status) {
+		Typed typed = new Typed();
+		typed.setStatus(status);
+		return typed;
+	}
+
+	private static Text text(String status) {
+		Text text = new Text();
+		text.setStatus(status);
+		return text;
+	}
+
+	public static class Typed {
+
+		private Status status;
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public void setStatus(Status status) {
+			this.status = status;
+		}
+	}
+
+	public static class Text {
+
+		private String status;
+
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+	}
+
+	public static class Other {
+
+		private State status;
+
+		public State getStatus() {
+			return status;
+		}
+
+		public void setStatus(State status) {
+			this.status = status;
+		}
+	}
+
+	public static class Numeric {
+
+		private int status;
+
+		public int getStatus() {
+			return status;
+		}
+
+		public void setStatus(int status) {
+			this.status = status;
+		}
+	}
+}
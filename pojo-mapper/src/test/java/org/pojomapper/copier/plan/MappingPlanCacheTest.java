@@ -0,0 +1,153 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.beans.Introspector;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.beanutils.PropertyUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.PojoMapperTest.Domain;
+import org.pojomapper.PojoMapperTest.Dto;
+
+public class MappingPlanCacheTest {
+
+	@Test
+	public void samePlanForSameConfiguration() {
+		MappingPlan first = MappingPlanCache.get(key(Collections.singletonMap("notMatchedProp1", "notMatchedProp3"), true));
+		MappingPlan second = MappingPlanCache.get(key(Collections.singletonMap("notMatchedProp1", "notMatchedProp3"), true));
+
+		Assert.assertThat(second, sameInstance(first));
+	}
+
+	@Test
+	public void newPlanForDifferentConfiguration() {
+		MappingPlan first = MappingPlanCache.get(key(Collections.emptyMap(), true));
+		MappingPlan second = MappingPlanCache.get(key(Collections.emptyMap(), false));
+
+		Assert.assertThat(second, not(sameInstance(first)));
+	}
+
+	@Test
+	public void planSkipsIgnoredAndMissingProperties() {
+		MappingPlan plan = MappingPlanCache.get(key(Collections.emptyMap(), true));
+
+		// extraProp, enumProp
+		Assert.assertThat(plan.size(), equalTo(2));
+	}
+
+	@Test
+	public void cachedPlanCopiesEveryTime() {
+		for (int i = 0; i < 3; i++) {
+			Domain domain = new Domain();
+			domain.setExtraProp("value" + i);
+			domain.setEnumProp(Domain.Enum.FIRST);
+
+			Dto dto = PojoMapper.copyTo(new Dto()).from(domain).copy();
+
+			Assert.assertThat(dto.getExtraProp(), equalTo("value" + i));
+			Assert.assertThat(dto.getEnumProp(), equalTo("FIRST"));
+		}
+	}
+
+	@Test
+	public void projectionCopiesRequestedFieldsOnly() {
+		Domain domain = new Domain();
+		domain.setExtraProp("extra");
+		domain.setEnumProp(Domain.Enum.FIRST);
+		Set<String> fields = new HashSet<>(Arrays.asList("enumProp", "unknown.path"));
+
+		Dto dto = PojoMapper.copyTo(new Dto()).from(domain).fields(fields).copy();
+
+		Assert.assertThat(dto.getEnumProp(), equalTo("FIRST"));
+		Assert.assertThat(dto.getExtraProp(), nullValue());
+		Assert.assertThat(MappingPlanCache.projection(key(Collections.emptyMap(), true), fields).size(), equalTo(1));
+	}
+
+	@Test
+	public void samePlanForSameMask() {
+		MappingPlan first = MappingPlanCache.projection(key(Collections.emptyMap(), true),
+				new HashSet<>(Arrays.asList("extraProp", "enumProp")));
+		MappingPlan second = MappingPlanCache.projection(key(Collections.emptyMap(), true),
+				new TreeSet<>(Arrays.asList("enumProp", "extraProp")));
+
+		Assert.assertThat(second, sameInstance(first));
+	}
+
+	@Test
+	public void nestedPathsSelectTheirRoot() {
+		MappingPlan plan = MappingPlanCache.get(key(Collections.singletonMap("notMatchedProp1", "nested.value"), true));
+
+		Assert.assertThat(plan.project(Collections.singleton("nested")).size(), equalTo(1));
+		Assert.assertThat(plan.project(Collections.singleton("extraProp.length")).size(), equalTo(1));
+		Assert.assertThat(plan.project(Collections.singleton("nestedValue")).size(), equalTo(0));
+	}
+
+	@Test
+	public void plansAreReleasedWithTheClassLoader() throws Exception {
+		WeakReference<ClassLoader> loader = mapWithThrowawayLoader();
+		// the JavaBeans and BeanUtils descriptor caches pin classes until flushed, as containers do on undeploy
+		Introspector.flushCaches();
+		PropertyUtils.clearDescriptors();
+
+		for (int i = 0; i < 50 && Objects.nonNull(loader.get()); i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+
+		Assert.assertThat(loader.get(), nullValue());
+	}
+
+	private static WeakReference<ClassLoader> mapWithThrowawayLoader() throws Exception {
+		URL classes = MappingPlanCacheTest.class.getProtectionDomain().getCodeSource().getLocation();
+		ClassLoader loader = new URLClassLoader(new URL[] { classes }, MappingPlanCacheTest.class.getClassLoader()) {
+			@Override
+			protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+				if (!name.equals(Isolated.class.getName())) {
+					return super.loadClass(name, resolve);
+				}
+				synchronized (getClassLoadingLock(name)) {
+					Class<?> loaded = findLoadedClass(name);
+					return Objects.nonNull(loaded) ? loaded : findClass(name);
+				}
+			}
+		};
+		Class<?> isolated = loader.loadClass(Isolated.class.getName());
+		Assert.assertThat(isolated, not(sameInstance((Object) Isolated.class)));
+		Object source = isolated.getConstructor().newInstance();
+		Assert.assertThat(PojoMapper.copyTo(new Isolated()).from(source).copy().getName(), equalTo("isolated"));
+		return new WeakReference<>(loader);
+	}
+
+	private static MappingPlanKey key(Map<String, String> mapper, boolean rewrite) {
+		return new MappingPlanKey(Domain.class, Dto.class, mapper, new HashSet<>(Collections.singleton("class")),
+				MappingOptions.DEFAULT.rewrite(rewrite));
+	}
+
+	public static class Isolated {
+
+		private String name = "isolated";
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
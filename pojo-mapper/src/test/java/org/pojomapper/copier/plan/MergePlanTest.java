@@ -0,0 +1,180 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+
+public class MergePlanTest {
+
+	@Test
+	public void lastEffectiveSourceWinsWithOneWrite() {
+		Target target = new Target();
+
+		PojoMapper.copyTo(target)
+				.from(part("cache", null, 1))
+				.from(part(null, "db", 2)).skipNulls(true)
+				.from(part("remote", "remote", 3)).rewrite(false)
+				.copy();
+
+		Assert.assertThat(target.name, equalTo("cache"));
+		Assert.assertThat(target.label, equalTo("db"));
+		Assert.assertThat(target.count, equalTo(2L));
+		Assert.assertThat(target.writes, equalTo(3));
+	}
+
+	@Test
+	public void targetIsReadOnlyWhenNeeded() {
+		Target target = new Target();
+		target.name = "current";
+
+		PojoMapper.copyTo(target).from(part("first", "first", 1)).from(part("second", null, 2)).skipNulls(true)
+				.copy();
+
+		Assert.assertThat(target.reads, equalTo(0));
+		Assert.assertThat(target.label, equalTo("first"));
+
+		PojoMapper.copyTo(target).from(part(null, null, 3)).skipNulls(true).from(part("third", "third", 4))
+				.rewrite(false).copy();
+
+		// count was written by the first source, name and label are read once
+		Assert.assertThat(target.reads, equalTo(2));
+		Assert.assertThat(target.name, equalTo("second"));
+		Assert.assertThat(target.label, equalTo("first"));
+		Assert.assertThat(target.count, equalTo(3L));
+	}
+
+	@Test
+	public void rejectedValuesKeepThePreviousOne() {
+		Target target = new Target();
+		Part wrongType = part("first", "first", 1);
+
+		PojoMapper.copyTo(target).from(wrongType).from(new Other()).rewrite(false).copy();
+
+		Assert.assertThat(target.count, equalTo(1L));
+		Assert.assertThat(target.name, equalTo("first"));
+	}
+
+	@Test
+	public void nestedPathsAreCopiedSourceBySource() {
+		Part first = part("first", null, 1);
+		Nested nested = new Nested();
+		nested.setValue("nested");
+
+		Target target = PojoMapper.copyTo(new Target()).from(first).from(nested).mapper("value.x", "label").copy();
+
+		Assert.assertThat(target.name, equalTo("first"));
+		Assert.assertThat(MappingPlanCache.merge(Arrays.asList(key(Part.class), key(Nested.class))), nullValue());
+		Assert.assertThat(MappingPlanCache.merge(Arrays.asList(key(Part.class), key(Other.class))), notNullValue());
+	}
+
+	private static MappingPlanKey key(Class<?> sourceClass) {
+		return new MappingPlanKey(sourceClass, Target.class,
+				sourceClass == Nested.class ? Collections.singletonMap("value.x", "label") : Collections.emptyMap(),
+				Collections.singleton("class"), MappingOptions.DEFAULT);
+	}
+
+	private static Part part(String name, String label, long count) {
+		Part part = new Part();
+		part.setName(name);
+		part.setLabel(label);
+		part.setCount(count);
+		return part;
+	}
+
+	public static class Part {
+
+		private String name;
+		private String label;
+		private long count;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+
+		public void setLabel(String label) {
+			this.label = label;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+	}
+
+	public static class Other {
+
+		public Object getCount() {
+			return "not a number";
+		}
+	}
+
+	public static class Nested {
+
+		private String value;
+
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			this.value = value;
+		}
+	}
+
+	public static class Target {
+
+		private String name;
+		private String label;
+		private long count;
+		private int reads;
+		private int writes;
+
+		public String getName() {
+			reads++;
+			return name;
+		}
+
+		public void setName(String name) {
+			writes++;
+			this.name = name;
+		}
+
+		public String getLabel() {
+			reads++;
+			return label;
+		}
+
+		public void setLabel(String label) {
+			writes++;
+			this.label = label;
+		}
+
+		public long getCount() {
+			reads++;
+			return count;
+		}
+
+		public void setCount(long count) {
+			writes++;
+			this.count = count;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.accessor.AccessStrategy;
+import org.pojomapper.copier.accessor.PropertyPath;
+
+public class PathPropertyCopyTest {
+
+	@Test
+	public void nestedSourcePathsAreCompiled() {
+		Outer outer = new Outer();
+		outer.setInner(new Inner());
+		outer.getInner().setName("nested");
+		MappingPlan plan = MappingPlanCache.get(new MappingPlanKey(Outer.class, Flat.class,
+				Collections.singletonMap("inner.name", "name"), Collections.singleton("class"), MappingOptions.DEFAULT));
+
+		Flat flat = new Flat();
+		plan.copy(outer, flat, new MappingContext(Collections.emptyList()));
+
+		Assert.assertThat(flat.getName(), equalTo("nested"));
+		Assert.assertThat(plan.isResolved(), equalTo(true));
+	}
+
+	@Test
+	public void missingIntermediateSourceSkipsTheCopy() {
+		Flat flat = new Flat();
+		flat.setName("kept");
+
+		PojoMapper.copyTo(flat).from(new Outer()).mapper("inner.name", "name").copy();
+
+		Assert.assertThat(flat.getName(), equalTo("kept"));
+	}
+
+	@Test
+	public void indexedSegmentsReadListsAndArrays() {
+		Outer outer = new Outer();
+		Inner first = new Inner();
+		first.setName("first");
+		outer.setItems(new ArrayList<>(Arrays.asList(first)));
+		outer.setCodes(new int[] { 7, 8 });
+
+		Flat flat = PojoMapper.copyTo(new Flat()).from(outer).mapper("items[0].name", "name")
+				.mapper("codes[1]", "code").copy();
+
+		Assert.assertThat(flat.getName(), equalTo("first"));
+		Assert.assertThat(flat.getCode(), equalTo(8));
+
+		flat = PojoMapper.copyTo(new Flat()).from(outer).mapper("items[3].name", "name").copy();
+		Assert.assertThat(flat.getName(), nullValue());
+	}
+
+	@Test
+	public void intermediateTargetsAreCreatedOnRequest() {
+		Flat flat = new Flat();
+		flat.setName("flat");
+		MappingContext context = new MappingContext(Collections.emptyList());
+		MappingPlan plan = MappingPlanCache.get(new MappingPlanKey(Flat.class, Outer.class,
+				Collections.singletonMap("name", "inner.name"), Collections.singleton("class"), MappingOptions.DEFAULT));
+
+		Outer outer = new Outer();
+		plan.copy(flat, outer, context);
+
+		Assert.assertThat(outer.getInner(), nullValue());
+		Assert.assertThat(context.droppedWrites(), equalTo(1));
+
+		outer = PojoMapper.copyTo(new Outer()).from(flat).mapper("name", "inner.name").createIntermediates(true)
+				.copy();
+
+		Assert.assertThat(outer.getInner(), notNullValue());
+		Assert.assertThat(outer.getInner().getName(), equalTo("flat"));
+	}
+
+	@Test
+	public void segmentsResolveByRuntimeClass() {
+		PropertyPath path = PropertyPath.compile(Outer.class, "inner.name", AccessStrategy.AUTO);
+		Outer outer = new Outer();
+		outer.setInner(new SpecialInner());
+		outer.getInner().setName("special");
+
+		Assert.assertThat(path.leaf().type(), equalTo((Object) String.class));
+		Assert.assertThat(path.parent(outer, false), instanceOf(SpecialInner.class));
+		Assert.assertThat(path.leaf().get(path.parent(outer, false)), equalTo((Object) "special"));
+		Assert.assertThat(PropertyPath.compile(Outer.class, "inner..name", AccessStrategy.AUTO), nullValue());
+	}
+
+	public static class Outer {
+
+		private Inner inner;
+		private List<Inner> items;
+		private int[] codes;
+
+		public Inner getInner() {
+			return inner;
+		}
+
+		public void setInner(Inner inner) {
+			this.inner = inner;
+		}
+
+		public List<Inner> getItems() {
+			return items;
+		}
+
+		public void setItems(List<Inner> items) {
+			this.items = items;
+		}
+
+		public int[] getCodes() {
+			return codes;
+		}
+
+		public void setCodes(int[] codes) {
+			this.codes = codes;
+		}
+	}
+
+	public static class Inner {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class SpecialInner extends Inner {
+	}
+
+	public static class Flat {
+
+		private String name;
+		private int code;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCode() {
+			return code;
+		}
+
+		public void setCode(int code) {
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,248 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.MappingSpec;
+import org.pojomapper.copier.copyoperation.IgnoreCopyOperation;
+
+public class PlanExplanationTest {
+
+	@Test
+	public void everyTargetPropertyIsDescribed() {
+		MappingSpec<Order, OrderDto> spec = PojoMapper.spec(Order.class, OrderDto.class).mapper("created", "createdOn")
+				.converter(LocalDate.class, String.class, LocalDate::toString).ignore("note").build();
+
+		PlanExplanation explanation = spec.explain();
+
+		PlanExplanation.Property quantity = property(explanation, "quantity");
+		Assert.assertThat(quantity.source(), equalTo("quantity"));
+		Assert.assertThat(quantity.boxed(), equalTo(false));
+		Assert.assertThat(quantity.converter(), nullValue());
+		PlanExplanation.Property total = property(explanation, "total");
+		Assert.assertThat(total.boxed(), equalTo(true));
+		PlanExplanation.Property createdOn = property(explanation, "createdOn");
+		Assert.assertThat(createdOn.source(), equalTo("created"));
+		Assert.assertThat(createdOn.converter(), equalTo(new TypePair(LocalDate.class, String.class)));
+		PlanExplanation.Property status = property(explanation, "status");
+		Assert.assertThat(status.operation(), equalTo("EnumToStringCopyOperation"));
+		Assert.assertThat(skippedReasons(explanation), hasItem("note <- note: ignored"));
+		Assert.assertThat(skippedReasons(explanation), hasItem("secret <- secret: no target property"));
+		Assert.assertThat(explanation.unmapped(), equalTo(Arrays.asList("missing", "customerName")));
+	}
+
+	@Test
+	public void copierExplainsEverySource() {
+		List<PlanExplanation> explanations = PojoMapper.copyTo(new OrderDto()).from(new Order())
+				.mapper("customer.name", "customerName").explain();
+
+		Assert.assertThat(explanations.size(), equalTo(1));
+		Assert.assertThat(property(explanations.get(0), "customerName").copy(),
+				equalTo("PathPropertyCopy(DefaultPropertyCopy)"));
+	}
+
+	@Test
+	public void untypedConvertersBoxPrimitiveCopies() {
+		MappingSpec<Order, OrderDto> spec = PojoMapper.spec(Order.class, OrderDto.class).converter(value -> value)
+				.build();
+
+		PlanExplanation.Property quantity = property(spec.explain(), "quantity");
+		Assert.assertThat(quantity.copy(), equalTo("IntToInt"));
+		Assert.assertThat(quantity.boxed(), equalTo(true));
+		Assert.assertThat(property(PojoMapper.copyTo(new OrderDto()).from(new Order()).converter(value -> value)
+				.explain().get(0), "quantity").boxed(), equalTo(true));
+	}
+
+	@Test
+	public void customPerPropertyOperationsKeepPathsDynamic() {
+		List<PlanExplanation> explanations = PojoMapper.copyTo(new OrderDto()).from(new Order())
+				.mapper("customer.name", "customerName").operation(new IgnoreCopyOperation(Collections.singleton("note")))
+				.explain();
+
+		Assert.assertThat(property(explanations.get(0), "customerName").copy(), equalTo("DynamicPropertyCopy"));
+
+		explanations = PojoMapper.copyTo(new OrderDto()).from(new Order()).mapper("customer.name", "customerName")
+				.operation(binding -> null).explain();
+
+		Assert.assertThat(property(explanations.get(0), "customerName").copy(),
+				equalTo("PathPropertyCopy(DefaultPropertyCopy)"));
+	}
+
+	private static PlanExplanation.Property property(PlanExplanation explanation, String target) {
+		for (PlanExplanation.Property property : explanation.properties()) {
+			if (property.target().equals(target)) {
+				return property;
+			}
+		}
+		throw new AssertionError(target + " not planned");
+	}
+
+	private static List<String> skippedReasons(PlanExplanation explanation) {
+		List<String> reasons = new ArrayList<>();
+		for (PlanExplanation.Skipped pair : explanation.skipped()) {
+			reasons.add(pair.toString());
+		}
+		return reasons;
+	}
+
+	public enum Status {
+		PENDING, SHIPPED
+	}
+
+	public static class Customer {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Order {
+
+		private int quantity;
+		private int total;
+		private Status status;
+		private LocalDate created;
+		private String note;
+		private String secret;
+		private Customer customer;
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public int getTotal() {
+			return total;
+		}
+
+		public void setTotal(int total) {
+			this.total = total;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public void setStatus(Status status) {
+			this.status = status;
+		}
+
+		public LocalDate getCreated() {
+			return created;
+		}
+
+		public void setCreated(LocalDate created) {
+			this.created = created;
+		}
+
+		public String getNote() {
+			return note;
+		}
+
+		public void setNote(String note) {
+			this.note = note;
+		}
+
+		public String getSecret() {
+			return secret;
+		}
+
+		public void setSecret(String secret) {
+			this.secret = secret;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+
+		public void setCustomer(Customer customer) {
+			this.customer = customer;
+		}
+	}
+
+	public static class OrderDto {
+
+		private int quantity;
+		private Long total;
+		private String status;
+		private String createdOn;
+		private String note;
+		private String customerName;
+		private int missing;
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public Long getTotal() {
+			return total;
+		}
+
+		public void setTotal(Long total) {
+			this.total = total;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+
+		public String getCreatedOn() {
+			return createdOn;
+		}
+
+		public void setCreatedOn(String createdOn) {
+			this.createdOn = createdOn;
+		}
+
+		public String getNote() {
+			return note;
+		}
+
+		public void setNote(String note) {
+			this.note = note;
+		}
+
+		public String getCustomerName() {
+			return customerName;
+		}
+
+		public void setCustomerName(String customerName) {
+			this.customerName = customerName;
+		}
+
+		public int getMissing() {
+			return missing;
+		}
+
+		public void setMissing(int missing) {
+			this.missing = missing;
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+
+public class PrimitivePropertyCopyTest {
+
+	@Test
+	public void sameTypes() {
+		Quote quote = quote();
+
+		Quote copy = PojoMapper.copyTo(new Quote()).from(quote).copy();
+
+		Assert.assertThat(copy.getSize(), equalTo(1000));
+		Assert.assertThat(copy.getVolume(), equalTo(123456789L));
+		Assert.assertThat(copy.getPrice(), equalTo(101.25d));
+		Assert.assertThat(copy.getTick(), equalTo(0.5f));
+		Assert.assertThat(copy.getVenue(), equalTo('X'));
+	}
+
+	@Test
+	public void widening() {
+		WideQuote copy = PojoMapper.copyTo(new WideQuote()).from(quote()).copy();
+
+		Assert.assertThat(copy.getSize(), equalTo(1000L));
+		Assert.assertThat(copy.getVolume(), equalTo(123456789d));
+		Assert.assertThat(copy.getPrice(), equalTo(101.25d));
+		Assert.assertThat(copy.getTick(), equalTo(0.5d));
+		Assert.assertThat(copy.getVenue(), equalTo(88));
+	}
+
+	@Test
+	public void narrowingIsNotCopied() {
+		WideQuote wide = new WideQuote();
+		wide.setSize(5L);
+		wide.setVenue(88);
+
+		Quote copy = PojoMapper.copyTo(new Quote()).from(wide).copy();
+
+		Assert.assertThat(copy.getSize(), equalTo(0));
+		Assert.assertThat(copy.getVenue(), equalTo('\0'));
+	}
+
+	@Test
+	public void convertersSeeBoxedValues() {
+		Quote copy = PojoMapper.copyTo(new Quote()).from(quote())
+				.converter(value -> value instanceof Integer ? (Integer) value * 2 : value).copy();
+
+		Assert.assertThat(copy.getSize(), equalTo(2000));
+		Assert.assertThat(copy.getVolume(), equalTo(123456789L));
+	}
+
+	@Test
+	public void wrapperToPrimitive() {
+		Boxed boxed = new Boxed();
+		boxed.setSize(7);
+
+		WideQuote copy = PojoMapper.copyTo(new WideQuote()).from(boxed).copy();
+
+		Assert.assertThat(copy.getSize(), equalTo(7L));
+	}
+
+	@Test
+	public void checkedExceptionsDropTheWrite() {
+		Throwing throwing = PojoMapper.copyTo(new Throwing()).from(quote()).copy();
+		WideQuote copy = PojoMapper.copyTo(new WideQuote()).from(throwing).copy();
+
+		Assert.assertThat(throwing.getVolume(), equalTo(123456789L));
+		Assert.assertThat(copy.getSize(), equalTo(0L));
+		Assert.assertThat(copy.getVolume(), equalTo(123456789d));
+	}
+
+	private static Quote quote() {
+		Quote quote = new Quote();
+		quote.setSize(1000);
+		quote.setVolume(123456789L);
+		quote.setPrice(101.25d);
+		quote.setTick(0.5f);
+		quote.setVenue('X');
+		return quote;
+	}
+
+	public static class Quote {
+
+		private int size;
+		private long volume;
+		private double price;
+		private float tick;
+		private char venue;
+
+		public int getSize() {
+			return size;
+		}
+
+		public void setSize(int size) {
+			this.size = size;
+		}
+
+		public long getVolume() {
+			return volume;
+		}
+
+		public void setVolume(long volume) {
+			this.volume = volume;
+		}
+
+		public double getPrice() {
+			return price;
+		}
+
+		public void setPrice(double price) {
+			this.price = price;
+		}
+
+		public float getTick() {
+			return tick;
+		}
+
+		public void setTick(float tick) {
+			this.tick = tick;
+		}
+
+		public char getVenue() {
+			return venue;
+		}
+
+		public void setVenue(char venue) {
+			this.venue = venue;
+		}
+	}
+
+	public static class WideQuote {
+
+		private long size;
+		private double volume;
+		private double price;
+		private double tick;
+		private int venue;
+
+		public long getSize() {
+			return size;
+		}
+
+		public void setSize(long size) {
+			this.size = size;
+		}
+
+		public double getVolume() {
+			return volume;
+		}
+
+		public void setVolume(double volume) {
+			this.volume = volume;
+		}
+
+		public double getPrice() {
+			return price;
+		}
+
+		public void setPrice(double price) {
+			this.price = price;
+		}
+
+		public double getTick() {
+			return tick;
+		}
+
+		public void setTick(double tick) {
+			this.tick = tick;
+		}
+
+		public int getVenue() {
+			return venue;
+		}
+
+		public void setVenue(int venue) {
+			this.venue = venue;
+		}
+	}
+
+	public static class Boxed {
+
+		private Integer size;
+
+		public Integer getSize() {
+			return size;
+		}
+
+		public void setSize(Integer size) {
+			this.size = size;
+		}
+	}
+
+	public static class Throwing {
+
+		private long volume;
+
+		public int getSize() throws IOException {
+			throw new IOException("boom");
+		}
+
+		public void setSize(int size) throws IllegalAccessException {
+			throw new IllegalAccessException("boom");
+		}
+
+		public long getVolume() {
+			return volume;
+		}
+
+		public void setVolume(long volume) {
+			this.volume = volume;
+		}
+	}
+}
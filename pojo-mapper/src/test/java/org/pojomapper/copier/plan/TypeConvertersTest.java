@@ -0,0 +1,164 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+
+public class TypeConvertersTest {
+
+	@Test
+	public void converterRunsOnMatchingPropertiesOnly() {
+		List<Object> seen = new ArrayList<>();
+		Event event = event();
+
+		EventDto dto = PojoMapper.copyTo(new EventDto()).from(event)
+				.converter(LocalDate.class, String.class, date -> {
+					seen.add(date);
+					return date.toString();
+				}).copy();
+
+		Assert.assertThat(dto.getDate(), equalTo("2020-01-31"));
+		Assert.assertThat(dto.getName(), equalTo("release"));
+		Assert.assertThat(seen, equalTo(Collections.singletonList(LocalDate.of(2020, 1, 31))));
+	}
+
+	@Test
+	public void nullValuesAreNotConverted() {
+		Event event = event();
+		event.setDate(null);
+
+		EventDto dto = PojoMapper.copyTo(new EventDto()).from(event)
+				.converter(LocalDate.class, String.class, LocalDate::toString).copy();
+
+		Assert.assertThat(dto.getDate(), nullValue());
+	}
+
+	@Test
+	public void exactPairWinsOverAssignable() {
+		EventDto dto = PojoMapper.copyTo(new EventDto()).from(event())
+				.converter(Object.class, String.class, value -> "object")
+				.converter(String.class, String.class, String::toUpperCase).copy();
+
+		Assert.assertThat(dto.getName(), equalTo("RELEASE"));
+		Assert.assertThat(dto.getDate(), equalTo("object"));
+	}
+
+	@Test
+	public void primitivesMatchTheirWrappers() {
+		EventDto dto = PojoMapper.copyTo(new EventDto()).from(event())
+				.converter(Integer.class, Long.class, value -> value * 10L).copy();
+
+		Assert.assertThat(dto.getAttendees(), equalTo(50L));
+	}
+
+	@Test
+	public void specConverter() {
+		EventDto dto = PojoMapper.spec(Event.class, EventDto.class)
+				.converter(LocalDate.class, String.class, date -> String.valueOf(date.getYear())).build()
+				.map(event(), new EventDto());
+
+		Assert.assertThat(dto.getDate(), equalTo("2020"));
+	}
+
+	@Test
+	public void planIsSharedBetweenConverterInstances() {
+		TypeConverters first = TypeConverters.EMPTY.with(LocalDate.class, String.class, date -> "first");
+		TypeConverters second = TypeConverters.EMPTY.with(LocalDate.class, String.class, date -> "second");
+
+		Assert.assertThat(MappingPlanCache.get(key(second)), sameInstance(MappingPlanCache.get(key(first))));
+	}
+
+	@Test
+	public void registeringAPairAgainReplacesIt() {
+		TypeConverters converters = TypeConverters.EMPTY.with(String.class, String.class, value -> "first")
+				.with(String.class, String.class, value -> "second");
+
+		Assert.assertThat(converters.types().size(), equalTo(1));
+		Assert.assertThat(converters.functions()[0].apply("value"), equalTo("second"));
+	}
+
+	private static MappingPlanKey key(TypeConverters converters) {
+		return new MappingPlanKey(Event.class, EventDto.class, Collections.emptyMap(),
+				new HashSet<>(Collections.singleton("class")), MappingOptions.DEFAULT, converters.types());
+	}
+
+	private static Event event() {
+		Event event = new Event();
+		event.setName("release");
+		event.setDate(LocalDate.of(2020, 1, 31));
+		event.setAttendees(5);
+		return event;
+	}
+
+	public static class Event {
+
+		private String name;
+		private LocalDate date;
+		private int attendees;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public LocalDate getDate() {
+			return date;
+		}
+
+		public void setDate(LocalDate date) {
+			this.date = date;
+		}
+
+		public int getAttendees() {
+			return attendees;
+		}
+
+		public void setAttendees(int attendees) {
+			this.attendees = attendees;
+		}
+	}
+
+	public static class EventDto {
+
+		private String name;
+		private String date;
+		private long attendees;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getDate() {
+			return date;
+		}
+
+		public void setDate(String date) {
+			this.date = date;
+		}
+
+		public long getAttendees() {
+			return attendees;
+		}
+
+		public void setAttendees(long attendees) {
+			this.attendees = attendees;
+		}
+	}
+}
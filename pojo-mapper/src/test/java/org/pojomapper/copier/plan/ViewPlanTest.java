@@ -0,0 +1,139 @@
+package org.pojomapper.copier.plan;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.pojomapper.PojoMapper;
+import org.pojomapper.copier.MappingSpec;
+
+public class ViewPlanTest {
+
+	@Test
+	public void gettersReadThroughOnFirstCall() {
+		Order order = order();
+
+		OrderView view = PojoMapper.view(order, OrderView.class);
+
+		Assert.assertThat(order.reads, equalTo(0));
+		Assert.assertThat(view.getStatus(), equalTo("SHIPPED"));
+		Assert.assertThat(view.getStatus(), equalTo("SHIPPED"));
+		Assert.assertThat(order.reads, equalTo(1));
+		Assert.assertThat(view.quantity(), equalTo(3L));
+		Assert.assertThat(view.isPaid(), equalTo(true));
+		Assert.assertThat(view.label(), equalTo("SHIPPED x3"));
+	}
+
+	@Test
+	public void specRulesApply() {
+		MappingSpec<Order, RenamedView> spec = PojoMapper.spec(Order.class, RenamedView.class)
+				.mapper("created", "createdOn").converter(LocalDate.class, String.class, LocalDate::toString).build();
+
+		RenamedView view = spec.view(order());
+
+		Assert.assertThat(view.getCreatedOn(), equalTo("2024-01-31"));
+		Assert.assertThat(view.getMissing(), equalTo(0));
+	}
+
+	@Test
+	public void mapSourcesAreViewedByKey() {
+		Map<String, Object> source = Collections.singletonMap("status", "PENDING");
+
+		StatusView view = PojoMapper.view(source, StatusView.class);
+
+		Assert.assertThat(view.getStatus(), equalTo(Status.PENDING));
+		Assert.assertThat(PojoMapper.view(null, StatusView.class), nullValue());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void otherMethodsAreUnsupported() {
+		PojoMapper.view(order(), OrderView.class).setStatus("PENDING");
+	}
+
+	private static Order order() {
+		Order order = new Order();
+		order.setStatus(Status.SHIPPED);
+		order.setQuantity(3);
+		order.setPaid(true);
+		order.setCreated(LocalDate.of(2024, 1, 31));
+		return order;
+	}
+
+	public enum Status {
+		PENDING, SHIPPED
+	}
+
+	public interface OrderView {
+
+		String getStatus();
+
+		long quantity();
+
+		boolean isPaid();
+
+		void setStatus(String status);
+
+		default String label() {
+			return getStatus() + " x" + quantity();
+		}
+	}
+
+	public interface RenamedView {
+
+		String getCreatedOn();
+
+		int getMissing();
+	}
+
+	public interface StatusView {
+
+		Status getStatus();
+	}
+
+	public static class Order {
+
+		private Status status;
+		private int quantity;
+		private boolean paid;
+		private LocalDate created;
+		private int reads;
+
+		public Status getStatus() {
+			reads++;
+			return status;
+		}
+
+		public void setStatus(Status status) {
+			this.status = status;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public boolean isPaid() {
+			return paid;
+		}
+
+		public void setPaid(boolean paid) {
+			this.paid = paid;
+		}
+
+		public LocalDate getCreated() {
+			return created;
+		}
+
+		public void setCreated(LocalDate created) {
+			this.created = created;
+		}
+	}
+}
@@ -25,10 +25,27 @@ public class PojoUtilTest {
 		Assert.assertThat(pojo.getReadOnlyProperty(), nullValue());
 	}
 
+	@Test
+	public void getMissingProperty() {
+		Assert.assertThat(PojoUtil.get(new Domain(), "notExisting"), nullValue());
+		Assert.assertThat(PojoUtil.hasProperty(new Domain(), "notExisting"), equalTo(false));
+	}
+
+	@Test
+	public void getNestedProperty() {
+		Domain domain = new Domain();
+		domain.setNested(new Domain());
+		domain.getNested().setProp("nested");
+
+		Assert.assertThat(PojoUtil.get(domain, "nested.prop"), equalTo("nested"));
+		Assert.assertThat(PojoUtil.hasProperty(domain, "nested.prop"), equalTo(true));
+	}
+
 	public static class Domain {
 
 		private String prop;
 		private Object readOnlyProperty;
+		private Domain nested;
 
 		public String getProp() {
 			return prop;
@@ -41,5 +58,13 @@ public class PojoUtilTest {
 		public Object getReadOnlyProperty() {
 			return readOnlyProperty;
 		}
+
+		public Domain getNested() {
+			return nested;
+		}
+
+		public void setNested(Domain nested) {
+			this.nested = nested;
+		}
 	}
 }